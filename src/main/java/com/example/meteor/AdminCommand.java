@@ -20,11 +20,11 @@ public class AdminCommand implements CommandExecutor {
     @Override
     public boolean onCommand(CommandSender sender, Command command, String label, String[] args) {
         if (args.length < 1 || !args[0].equalsIgnoreCase("meteor")) {
-            sender.sendMessage("Использование: /admin meteor <start|stop> [x] [z] | /admin meteor start free [x] [z]");
+            sender.sendMessage("Использование: /admin meteor <start|stop|timings> [x] [z] | /admin meteor start free [x] [z]");
             return true;
         }
         if (args.length < 2) {
-            sender.sendMessage("Использование: /admin meteor <start|stop> [x] [z]");
+            sender.sendMessage("Использование: /admin meteor <start|stop|timings> [x] [z]");
             return true;
         }
 
@@ -35,6 +35,16 @@ public class AdminCommand implements CommandExecutor {
             return true;
         }
 
+        if (action.equals("timings")) {
+            RadiationTimings timings = meteorController.getRadiationTimings();
+            sender.sendMessage("Тайминги радиации за " + timings.getTicks() + " тиков (сред./макс., мкс):");
+            for (RadiationTimings.Stage stage : RadiationTimings.Stage.values()) {
+                sender.sendMessage(" " + stage.name().toLowerCase(Locale.ROOT) + ": "
+                    + timings.getAverageNanos(stage) / 1000 + " / " + timings.getMaxNanos(stage) / 1000);
+            }
+            return true;
+        }
+
         if (!action.equals("start")) {
             sender.sendMessage("Неизвестная команда. Используйте /admin meteor start или /admin meteor stop.");
             return true;
@@ -1,17 +1,25 @@
 package com.example.meteor;
 
 import java.util.ArrayList;
-import java.util.Collections;
 import java.util.EnumSet;
-import java.util.HashMap;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Locale;
-import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 import java.time.Duration;
+import com.example.meteor.config.MeteorSettings;
+import com.example.meteor.world.BlockEditBuffer;
+import com.example.meteor.world.ChunkPrefetcher;
+import com.example.meteor.world.CraterJob;
+import com.example.meteor.world.CraterPlan;
+import com.example.meteor.world.DomeTracker;
+import com.example.meteor.world.EffectManager;
+import com.example.meteor.world.HeightmapCache;
+import com.example.meteor.world.ParticleDispatcher;
+import com.example.meteor.world.SculkTargetScan;
+import com.example.meteor.world.SphereSpans;
 import org.bukkit.Bukkit;
 import org.bukkit.Location;
 import org.bukkit.Material;
@@ -37,29 +45,79 @@ import net.kyori.adventure.text.serializer.legacy.LegacyComponentSerializer;
 import net.kyori.adventure.title.Title;
 
 public class MeteorController {
+    private static final Set<Material> EXPLOSION_PROOF = EnumSet.of(
+        Material.AIR,
+        Material.CAVE_AIR,
+        Material.VOID_AIR,
+        Material.WATER,
+        Material.LAVA,
+        Material.BEDROCK,
+        Material.BARRIER,
+        Material.END_PORTAL,
+        Material.END_PORTAL_FRAME,
+        Material.END_GATEWAY,
+        Material.COMMAND_BLOCK,
+        Material.CHAIN_COMMAND_BLOCK,
+        Material.REPEATING_COMMAND_BLOCK,
+        Material.STRUCTURE_BLOCK,
+        Material.STRUCTURE_VOID,
+        Material.LIGHT,
+        Material.JIGSAW
+    );
+
     private final MeteorPlugin plugin;
     private final MeteorStorage storage;
-    private final Map<UUID, Integer> radiationLevels = new HashMap<>();
-    private final Map<UUID, Integer> damageCounterFive = new HashMap<>();
-    private final Map<UUID, Integer> damageCounterThree = new HashMap<>();
+    private final RadiationStateMap radiationStates = new RadiationStateMap(64);
     private final List<BukkitTask> scheduledTasks = new ArrayList<>();
+    private final RadiationTimings radiationTimings = new RadiationTimings();
 
     private MeteorZone zone;
     private BukkitRunnable flightTask;
-    private BukkitRunnable exposureTask;
-    private BukkitRunnable damageTask;
-    private BukkitRunnable visualTask;
+    private BukkitRunnable radiationTask;
     private BukkitRunnable sculkTask;
-    private BukkitRunnable domeTask;
-    private List<Vector> domeOffsets;
+    private CompletableFuture<long[]> sculkScan;
+    private DomeTracker domeTracker;
+    private CraterJob craterJob;
+    private CompletableFuture<CraterPlan> craterPlan;
+    private ChunkPrefetcher prefetcher;
+    private HeightmapCache heightmap;
 
     public MeteorController(MeteorPlugin plugin, MeteorStorage storage) {
         this.plugin = plugin;
         this.storage = storage;
-        this.radiationLevels.putAll(storage.loadRadiationLevels());
+        for (Player player : Bukkit.getOnlinePlayers()) {
+            loadRadiationState(player);
+        }
         resumeZone();
     }
 
+    /**
+     * Loads the player's stored level into the state table; levels raised in the meantime win.
+     */
+    public void handlePlayerJoin(Player player) {
+        loadRadiationState(player);
+    }
+
+    private void loadRadiationState(Player player) {
+        UUID uuid = player.getUniqueId();
+        storage.loadRadiationLevel(uuid).thenAccept(level -> {
+            if (level <= 0 || !player.isOnline()) {
+                return;
+            }
+            int slot = radiationStates.findOrInsert(uuid);
+            if (level > radiationStates.level(slot)) {
+                radiationStates.setLevel(slot, level);
+            }
+        });
+    }
+
+    /**
+     * Drops the player's in-memory state; the level itself is already persisted on every change.
+     */
+    public void handlePlayerQuit(Player player) {
+        radiationStates.remove(player.getUniqueId());
+    }
+
     public void startMeteor(Location target, boolean immediate) {
         stopMeteor();
 
@@ -77,6 +135,8 @@ public class MeteorController {
 
         zone = new MeteorZone(center, impactTime, Stage.SCHEDULED, false, null);
         storage.saveZone(zone.toStoredZone());
+        craterPlan = planCrater();
+        prefetchImpactSite(center);
 
         broadcastWarning(center, countdownMinutes, immediate);
 
@@ -105,7 +165,7 @@ public class MeteorController {
         if (zone == null || zone.stage().compareTo(Stage.IMPACTED) < 0 || zone.safe()) {
             return false;
         }
-        boolean complete = isDomeComplete(zone.center());
+        boolean complete = domeTracker != null ? domeTracker.isComplete() : isDomeComplete(zone.center());
         if (complete) {
             sealRadiation();
             if (sender != null) {
@@ -143,8 +203,8 @@ public class MeteorController {
         if (zone == null || zone.stage() == Stage.SEALED) {
             return;
         }
-        Integer level = radiationLevels.get(player.getUniqueId());
-        if (level == null || level < 3) {
+        int slot = radiationStates.find(player.getUniqueId());
+        if (slot < 0 || radiationStates.level(slot) < 3) {
             return;
         }
         Location location = player.getLocation();
@@ -154,7 +214,7 @@ public class MeteorController {
         if (!location.getWorld().equals(zone.center().getWorld())) {
             return;
         }
-        double radius = plugin.getConfig().getDouble("meteor.radiation.radius", 40.0);
+        double radius = plugin.getSettings().radiation().radius();
         if (location.distanceSquared(zone.center()) > radius * radius) {
             return;
         }
@@ -179,6 +239,8 @@ public class MeteorController {
         zone = new MeteorZone(center, data.impactTime(), stage, stage == Stage.SEALED, core);
         long now = System.currentTimeMillis();
         if (stage == Stage.SCHEDULED || stage == Stage.FALLING) {
+            craterPlan = planCrater();
+            prefetchImpactSite(center);
             if (now >= data.impactTime()) {
                 impact(center);
             } else {
@@ -187,7 +249,7 @@ public class MeteorController {
             }
         } else if (stage == Stage.IMPACTED) {
             startRadiationTasks();
-            scheduleDomeChecks();
+            startDomeTracker();
         }
     }
 
@@ -327,7 +389,7 @@ public class MeteorController {
                 Location current = fireball.getLocation().add(horizontalStep);
                 current.setY(curvedY);
                 fireball.teleport(current);
-                spawnTrail(world, current, trailParticles);
+                spawnTrail(current, trailParticles);
                 float pitch = 0.5f + (1.5f * tick / totalTicks);
                 world.playSound(current, whistle, 1.2f, pitch);
                 if (!flashed && current.getY() < flashHeight) {
@@ -390,13 +452,15 @@ public class MeteorController {
             breakBlocksInRadius(world, center, Math.max(1, Math.round(explosionPower * 2.2f)));
         }
         world.playSound(center, explosionSound, 2.4f, 0.7f);
+        heightmap = new HeightmapCache(world, plugin.getConfig().getInt("meteor.heightmap.max-age-seconds", 30));
 
-        createCrater(center);
-        spawnImpactDebris(center, explosionPower);
+        createCrater(center, () -> {
+            spawnImpactDebris(center, explosionPower);
+            startSculkSpread(center, explosionPower);
+            startDomeTracker();
+        });
         applyImpactShake(center);
-        startSculkSpread(center, explosionPower);
         startRadiationTasks();
-        scheduleDomeChecks();
     }
 
     private void startImpactEffects(Location center) {
@@ -426,10 +490,7 @@ public class MeteorController {
             world.spawnParticle(smoke, center, 40, 3.5, 1.8, 3.5, 0.05);
         }
 
-        for (Player player : world.getPlayers()) {
-            if (!isWithinRadius(player.getLocation(), center, flashRadius)) {
-                continue;
-            }
+        for (Player player : plugin.getPlayerIndex().nearby(center, flashRadius)) {
             if (flash != null) {
                 player.spawnParticle(flash, player.getEyeLocation(), flashCount, 0.6, 0.6, 0.6, 0.0);
             }
@@ -481,51 +542,20 @@ public class MeteorController {
         int centerX = center.getBlockX();
         int centerY = center.getBlockY();
         int centerZ = center.getBlockZ();
-        int radiusSquared = radius * radius;
+        SphereSpans sphere = SphereSpans.of(radius);
+        BlockEditBuffer edits = new BlockEditBuffer(world, EXPLOSION_PROOF);
         for (int x = -radius; x <= radius; x++) {
             for (int y = -radius; y <= radius; y++) {
-                for (int z = -radius; z <= radius; z++) {
-                    int distance = x * x + y * y + z * z;
-                    if (distance > radiusSquared) {
-                        continue;
-                    }
-                    Block block = world.getBlockAt(centerX + x, centerY + y, centerZ + z);
-                    Material material = block.getType();
-                    if (!isExplosionBreakable(material)) {
-                        continue;
-                    }
-                    block.setType(Material.AIR, false);
+                int half = sphere.halfWidth(x, y);
+                for (int z = -half; z <= half; z++) {
+                    edits.set(centerX + x, centerY + y, centerZ + z, Material.AIR, false);
                 }
             }
         }
+        edits.applyAll();
     }
 
-    private boolean isExplosionBreakable(Material material) {
-        if (material.isAir() || material == Material.WATER || material == Material.LAVA) {
-            return false;
-        }
-        return switch (material) {
-            case BEDROCK,
-                 BARRIER,
-                 END_PORTAL,
-                 END_PORTAL_FRAME,
-                 END_GATEWAY,
-                 COMMAND_BLOCK,
-                 CHAIN_COMMAND_BLOCK,
-                 REPEATING_COMMAND_BLOCK,
-                 STRUCTURE_BLOCK,
-                 STRUCTURE_VOID,
-                 LIGHT,
-                 JIGSAW -> false;
-            default -> true;
-        };
-    }
-
-    private void createCrater(Location center) {
-        World world = center.getWorld();
-        if (world == null) {
-            return;
-        }
+    private CompletableFuture<CraterPlan> planCrater() {
         int size = plugin.getConfig().getInt("meteor.impact.crater-size", 40);
         int depth = plugin.getConfig().getInt("meteor.impact.crater-depth", 52);
         int rimHeight = plugin.getConfig().getInt("meteor.impact.crater-rim-height", 7);
@@ -536,62 +566,61 @@ public class MeteorController {
             plugin.getConfig().getStringList("meteor.impact.crater-materials"),
             List.of(Material.OBSIDIAN, Material.CRYING_OBSIDIAN)
         );
+        long seed = new java.util.Random().nextLong();
+        return CompletableFuture.supplyAsync(
+            () -> CraterPlan.shelled(radius, depth, rimHeight, shellDepth, roughness, materials, seed)
+        );
+    }
+
+    private void createCrater(Location center, Runnable afterCrater) {
+        World world = center.getWorld();
+        if (world == null) {
+            return;
+        }
         int centerX = center.getBlockX();
         int centerZ = center.getBlockZ();
         int centerY = center.getBlockY();
-        int radiusSquared = radius * radius;
-        java.util.Random random = new java.util.Random();
-        for (int x = -radius; x <= radius; x++) {
-            for (int z = -radius; z <= radius; z++) {
-                int distanceSquared = x * x + z * z;
-                if (distanceSquared > radiusSquared) {
-                    continue;
-                }
-                double distance = Math.sqrt(distanceSquared);
-                double depthScale = 1.0 - (distance / radius);
-                if (roughness > 0.0) {
-                    depthScale = Math.max(0.0, depthScale + (random.nextDouble() - 0.5) * 2.0 * roughness);
-                }
-                int carveDepth = Math.max(1, (int) Math.round(depth * depthScale));
-                double rimScale = Math.max(0.0, (distance - radius * 0.65) / (radius * 0.35));
-                if (roughness > 0.0 && rimScale > 0.0) {
-                    rimScale = Math.max(0.0, rimScale + (random.nextDouble() - 0.5) * roughness);
-                }
-                int rimBoost = (int) Math.round(rimHeight * rimScale);
-
-                int floorY = centerY - carveDepth;
-                int craterShell = Math.max(1, Math.min(shellDepth, carveDepth));
-                int airBottomY = floorY + craterShell;
-                for (int y = centerY; y >= airBottomY; y--) {
-                    Block block = world.getBlockAt(centerX + x, y, centerZ + z);
-                    if (block.getType() != Material.BEDROCK && block.getType() != Material.BARRIER) {
-                        block.setType(Material.AIR, false);
-                    }
-                }
-                for (int y = floorY; y < airBottomY; y++) {
-                    Block block = world.getBlockAt(centerX + x, y, centerZ + z);
-                    if (block.getType() != Material.BEDROCK && block.getType() != Material.BARRIER) {
-                        Material chosen = materials.get((int) (Math.random() * materials.size()));
-                        block.setType(chosen, false);
-                    }
-                }
-                if (rimBoost > 0) {
-                    int highestY = centerY + rimBoost;
-                    for (int y = centerY; y <= highestY; y++) {
-                        Block block = world.getBlockAt(centerX + x, y, centerZ + z);
-                        if (block.getType() != Material.BEDROCK && block.getType() != Material.BARRIER) {
-                            Material chosen = materials.get((int) (Math.random() * materials.size()));
-                            block.setType(chosen, false);
-                        }
-                    }
-                }
+        Runnable finishCrater = () -> {
+            if (zone == null) {
+                return;
             }
-        }
-        Material coreMaterial = resolveCoreMaterial();
-        Block coreBlock = world.getBlockAt(centerX, centerY, centerZ);
-        coreBlock.setType(coreMaterial, false);
-        zone = zone.withCore(coreBlock.getLocation());
-        storage.saveZone(zone.toStoredZone());
+            Material coreMaterial = resolveCoreMaterial();
+            Block coreBlock = world.getBlockAt(centerX, centerY, centerZ);
+            coreBlock.setType(coreMaterial, false);
+            zone = zone.withCore(coreBlock.getLocation());
+            storage.saveZone(zone.toStoredZone());
+            afterCrater.run();
+        };
+        CompletableFuture<CraterPlan> pending = craterPlan != null ? craterPlan : planCrater();
+        craterPlan = null;
+        pending.thenApplyAsync(
+            plan -> plan.toBuffer(
+                world, centerX, centerY, centerZ, EnumSet.of(Material.BEDROCK, Material.BARRIER), heightmap, false
+            )
+        ).whenComplete((edits, error) -> Bukkit.getScheduler().runTask(plugin, () -> {
+            if (zone == null) {
+                return;
+            }
+            if (error != null) {
+                plugin.getLogger().warning("Не удалось рассчитать кратер: " + error.getMessage());
+                finishCrater.run();
+                return;
+            }
+            if (craterJob != null && !craterJob.isFinished()) {
+                craterJob.cancel();
+            }
+            craterJob = new CraterJob(
+                plugin,
+                edits,
+                plugin.getConfig().getInt("meteor.impact.crater-blocks-per-tick", 4000),
+                plugin.getConfig().getInt("meteor.impact.crater-tick-budget-ms", 0),
+                finishCrater
+            ).start();
+        }));
+    }
+
+    public CraterJob getCraterJob() {
+        return craterJob;
     }
 
     private void spawnImpactDebris(Location center, float explosionPower) {
@@ -623,7 +652,7 @@ public class MeteorController {
         spawnDebrisClusters(world, center, debrisMaterials, clusterCount, clusterRadius, clusterSize, clusterHeight);
         spawnDebrisScatter(world, center, debrisMaterials, debrisRadius, debrisCount, debrisMaxStack, magmaChance);
         igniteFire(world, center, fireRadius, fireChance);
-        spawnImpactDust(world, center, explosionPower);
+        spawnImpactDust(center, explosionPower);
     }
 
     private void spawnDebrisBurst(
@@ -668,21 +697,20 @@ public class MeteorController {
         }
         int centerX = center.getBlockX();
         int centerZ = center.getBlockZ();
+        BlockEditBuffer edits = new BlockEditBuffer(world, EnumSet.noneOf(Material.class), heightmap);
         for (int i = 0; i < clusterCount; i++) {
             Vector offset = randomHorizontalOffset(clusterRadius);
             int baseX = centerX + offset.getBlockX();
             int baseZ = centerZ + offset.getBlockZ();
-            int highestY = world.getHighestBlockYAt(baseX, baseZ);
+            int highestY = heightmap.getHighestBlockYAt(baseX, baseZ);
             for (int j = 0; j < clusterSize; j++) {
                 int x = baseX + (int) Math.round((Math.random() - 0.5) * 6);
                 int z = baseZ + (int) Math.round((Math.random() - 0.5) * 6);
                 int y = highestY + (int) Math.round(Math.random() * clusterHeight);
-                Block block = world.getBlockAt(x, y, z);
-                if (block.getType().isAir()) {
-                    block.setType(pickRandom(materials), false);
-                }
+                edits.setIfAir(x, y, z, pickRandom(materials), false);
             }
         }
+        edits.applyAll();
     }
 
     private void spawnDebrisScatter(
@@ -699,24 +727,22 @@ public class MeteorController {
         }
         int centerX = center.getBlockX();
         int centerZ = center.getBlockZ();
+        BlockEditBuffer edits = new BlockEditBuffer(world, EnumSet.noneOf(Material.class), heightmap);
         for (int i = 0; i < count; i++) {
             Vector offset = randomHorizontalOffset(radius);
             int x = centerX + offset.getBlockX();
             int z = centerZ + offset.getBlockZ();
-            int highestY = world.getHighestBlockYAt(x, z);
+            int highestY = heightmap.getHighestBlockYAt(x, z);
             int stackHeight = 1 + (int) Math.round(Math.random() * maxStack);
             for (int y = highestY; y < highestY + stackHeight; y++) {
-                Block block = world.getBlockAt(x, y, z);
-                if (!block.getType().isAir()) {
-                    continue;
-                }
                 Material chosen = pickRandom(materials);
                 if (magmaChance > 0 && Math.random() * 100 < magmaChance) {
                     chosen = Material.MAGMA_BLOCK;
                 }
-                block.setType(chosen, false);
+                edits.setIfAir(x, y, z, chosen, false);
             }
         }
+        edits.applyAll();
     }
 
     private void igniteFire(World world, Location center, int radius, double chance) {
@@ -726,6 +752,7 @@ public class MeteorController {
         int centerX = center.getBlockX();
         int centerZ = center.getBlockZ();
         int radiusSquared = radius * radius;
+        BlockEditBuffer edits = new BlockEditBuffer(world, EnumSet.noneOf(Material.class), heightmap);
         for (int x = -radius; x <= radius; x++) {
             for (int z = -radius; z <= radius; z++) {
                 int distanceSquared = x * x + z * z;
@@ -737,24 +764,21 @@ public class MeteorController {
                 }
                 int blockX = centerX + x;
                 int blockZ = centerZ + z;
-                int y = world.getHighestBlockYAt(blockX, blockZ);
-                Block block = world.getBlockAt(blockX, y, blockZ);
-                Block above = block.getRelative(0, 1, 0);
-                if (block.getType().isSolid() && above.getType() == Material.AIR) {
-                    above.setType(Material.FIRE, false);
-                }
+                int y = heightmap.getHighestBlockYAt(blockX, blockZ);
+                edits.setIfAirOnSolid(blockX, y + 1, blockZ, Material.FIRE, false);
             }
         }
+        edits.applyAll();
     }
 
-    private void spawnImpactDust(World world, Location center, float explosionPower) {
+    private void spawnImpactDust(Location center, float explosionPower) {
         Particle dust = resolveParticle("CAMPFIRE_COSY_SMOKE", "SMOKE_LARGE", "CLOUD");
         if (dust == null) {
             return;
         }
         int count = Math.max(40, Math.round(explosionPower * 14));
         double radius = Math.max(6.0, explosionPower * 2.6);
-        world.spawnParticle(dust, center, count, radius, 1.5, radius, 0.08);
+        plugin.getParticleDispatcher().spawn(dust, center, count, radius, 1.5, radius, 0.08);
     }
 
     private void startRadiationTasks() {
@@ -762,104 +786,97 @@ public class MeteorController {
             return;
         }
         cancelRadiationTasks();
-        double radius = plugin.getConfig().getDouble("meteor.radiation.radius", 40.0);
-        int exposureSeconds = plugin.getConfig().getInt("meteor.radiation.progression-seconds", 20);
-        int damageIntervalFive = plugin.getConfig().getInt("meteor.radiation.damage-half-heart-interval", 5);
-        int damageIntervalThree = plugin.getConfig().getInt("meteor.radiation.damage-heart-interval", 3);
-
-        exposureTask = new BukkitRunnable() {
-            @Override
-            public void run() {
-                applyRadiationExposure(zone.center(), radius);
-            }
 
-            @Override
-            public void cancel() {
-                super.cancel();
-                exposureTask = null;
-            }
-        };
-        exposureTask.runTaskTimer(plugin, 0L, exposureSeconds * 20L);
+        // One pass per second: players in range are collected once and shared by every stage.
+        radiationTask = new BukkitRunnable() {
+            int seconds = 0;
 
-        damageTask = new BukkitRunnable() {
             @Override
             public void run() {
-                applyRadiationDamage(zone.center(), radius, damageIntervalFive, damageIntervalThree);
+                if (zone == null) {
+                    cancel();
+                    return;
+                }
+                MeteorSettings settings = plugin.getSettings();
+                MeteorSettings.Radiation radiation = settings.radiation();
+                Location center = zone.center();
+                boolean exposureTick = seconds % Math.max(1, radiation.progressionSeconds()) == 0;
+
+                long mark = System.nanoTime();
+                List<Player> players = plugin.getPlayerIndex().nearby(center, radiation.radius());
+                mark = radiationTimings.record(RadiationTimings.Stage.COLLECT, mark);
+                if (exposureTick) {
+                    applyRadiationExposure(players);
+                }
+                mark = radiationTimings.record(RadiationTimings.Stage.EXPOSURE, mark);
+                applyRadiationDamage(players, radiation);
+                mark = radiationTimings.record(RadiationTimings.Stage.DAMAGE, mark);
+                if (exposureTick) {
+                    applyRadiationEffects(players, radiation);
+                }
+                mark = radiationTimings.record(RadiationTimings.Stage.EFFECTS, mark);
+                spawnRadiationParticles(center, radiation.radius(), settings.core());
+                radiationTimings.record(RadiationTimings.Stage.PARTICLES, mark);
+                radiationTimings.completeTick();
+                seconds++;
             }
 
             @Override
             public void cancel() {
                 super.cancel();
-                damageTask = null;
+                radiationTask = null;
             }
         };
-        damageTask.runTaskTimer(plugin, 0L, 20L);
-
-        visualTask = new BukkitRunnable() {
-            @Override
-            public void run() {
-                spawnRadiationParticles(zone.center(), radius);
-            }
+        radiationTask.runTaskTimer(plugin, 0L, 20L);
+    }
 
-            @Override
-            public void cancel() {
-                super.cancel();
-                visualTask = null;
-            }
-        };
-        visualTask.runTaskTimer(plugin, 0L, 20L);
+    public RadiationTimings getRadiationTimings() {
+        return radiationTimings;
     }
 
     private void startSculkSpread(Location center, float explosionPower) {
-        boolean enabled = plugin.getConfig().getBoolean("meteor.radiation.sculk.enabled", true);
-        double minExplosionPower = plugin.getConfig().getDouble("meteor.radiation.sculk.min-explosion-power", 6.0);
-        if (!enabled || explosionPower < minExplosionPower) {
+        MeteorSettings.Sculk sculk = plugin.getSettings().sculk();
+        if (!sculk.enabled() || explosionPower < sculk.minExplosionPower()) {
+            releasePrefetchedChunks();
             return;
         }
         World world = center.getWorld();
         if (world == null) {
+            releasePrefetchedChunks();
             return;
         }
-        int radius = plugin.getConfig().getInt("meteor.radiation.sculk.radius", 18);
-        int blocksPerStep = plugin.getConfig().getInt("meteor.radiation.sculk.blocks-per-step", 6);
-        int intervalSeconds = plugin.getConfig().getInt("meteor.radiation.sculk.interval-seconds", 8);
-        List<Material> replaceable = resolveMaterials(
-            plugin.getConfig().getStringList("meteor.radiation.sculk.replaceable-blocks"),
-            List.of(
-                Material.STONE,
-                Material.DEEPSLATE,
-                Material.DIRT,
-                Material.GRASS_BLOCK,
-                Material.ANDESITE,
-                Material.DIORITE,
-                Material.GRANITE,
-                Material.TUFF
-            )
-        );
 
-        List<Location> targets = new ArrayList<>();
-        int originX = center.getBlockX();
-        int originZ = center.getBlockZ();
-        int radiusSquared = radius * radius;
-        for (int x = -radius; x <= radius; x++) {
-            for (int z = -radius; z <= radius; z++) {
-                int distance = x * x + z * z;
-                if (distance > radiusSquared) {
-                    continue;
-                }
-                int blockX = originX + x;
-                int blockZ = originZ + z;
-                int highestY = world.getHighestBlockYAt(blockX, blockZ);
-                Block block = world.getBlockAt(blockX, highestY, blockZ);
-                if (replaceable.contains(block.getType())) {
-                    targets.add(block.getLocation());
-                }
-            }
-        }
-        if (targets.isEmpty()) {
-            return;
+        if (sculkScan != null) {
+            sculkScan.cancel(false);
         }
-        Collections.shuffle(targets);
+        CompletableFuture<long[]> scan = SculkTargetScan.scan(
+            world,
+            center.getBlockX(),
+            center.getBlockZ(),
+            sculk.radius(),
+            sculk.replaceable(),
+            new java.util.Random().nextLong()
+        );
+        sculkScan = scan;
+        scan.whenComplete((targets, error) -> Bukkit.getScheduler().runTask(plugin, () -> {
+            if (sculkScan != scan) {
+                return;
+            }
+            sculkScan = null;
+            if (error != null) {
+                plugin.getLogger().warning("Не удалось найти блоки для скалка: " + error.getMessage());
+                releasePrefetchedChunks();
+                return;
+            }
+            if (targets.length == 0) {
+                releasePrefetchedChunks();
+                return;
+            }
+            startSculkTask(world, targets, sculk.replaceable(), sculk.blocksPerStep(), sculk.intervalSeconds());
+        }));
+    }
+
+    private void startSculkTask(World world, long[] targets, Set<Material> replaceable, int blocksPerStep, int intervalSeconds) {
         if (sculkTask != null) {
             sculkTask.cancel();
         }
@@ -869,12 +886,12 @@ public class MeteorController {
             @Override
             public void run() {
                 int placed = 0;
-                while (placed < blocksPerStep && index < targets.size()) {
-                    Location location = targets.get(index++);
-                    if (!world.isChunkLoaded(location.getBlockX() >> 4, location.getBlockZ() >> 4)) {
+                while (placed < blocksPerStep && index < targets.length) {
+                    long key = targets[index++];
+                    if (!world.isChunkLoaded(Block.getBlockKeyX(key) >> 4, Block.getBlockKeyZ(key) >> 4)) {
                         continue;
                     }
-                    Block block = world.getBlockAt(location);
+                    Block block = world.getBlockAtKey(key);
                     if (!replaceable.contains(block.getType())) {
                         continue;
                     }
@@ -885,7 +902,7 @@ public class MeteorController {
                     }
                     placed++;
                 }
-                if (index >= targets.size()) {
+                if (index >= targets.length) {
                     cancel();
                 }
             }
@@ -894,127 +911,142 @@ public class MeteorController {
             public void cancel() {
                 super.cancel();
                 sculkTask = null;
+                releasePrefetchedChunks();
             }
         };
         sculkTask.runTaskTimer(plugin, 20L, intervalSeconds * 20L);
     }
 
-    private void applyRadiationExposure(Location center, double radius) {
-        World world = center.getWorld();
-        if (world == null) {
-            return;
-        }
-        PotionEffectType nausea = resolvePotionEffectType("NAUSEA", "CONFUSION");
-        for (Player player : world.getPlayers()) {
-            if (!isWithinRadius(player.getLocation(), center, radius)) {
-                continue;
-            }
-            int level = radiationLevels.getOrDefault(player.getUniqueId(), 0);
+    private void applyRadiationExposure(List<Player> players) {
+        for (Player player : players) {
+            int slot = radiationStates.findOrInsert(player.getUniqueId());
+            int level = radiationStates.level(slot);
             if (level < 3) {
-                level++;
-                radiationLevels.put(player.getUniqueId(), level);
-                storage.saveRadiationLevel(player.getUniqueId(), level);
+                radiationStates.setLevel(slot, level + 1);
+                storage.saveRadiationLevel(player.getUniqueId(), level + 1);
             }
-            applyEffectsForLevel(player, level, nausea);
         }
     }
 
-    private void applyEffectsForLevel(Player player, int level, PotionEffectType nausea) {
+    private void applyRadiationEffects(List<Player> players, MeteorSettings.Radiation radiation) {
+        for (Player player : players) {
+            int slot = radiationStates.find(player.getUniqueId());
+            applyEffectsForLevel(player, slot < 0 ? 0 : radiationStates.level(slot), radiation);
+        }
+    }
+
+    private void applyEffectsForLevel(Player player, int level, MeteorSettings.Radiation radiation) {
+        EffectManager effects = plugin.getEffectManager();
+        int interval = Math.max(1, radiation.progressionSeconds()) * 20;
+        PotionEffectType nausea = radiation.nausea();
         if (level >= 1) {
-            player.addPotionEffect(new PotionEffect(PotionEffectType.WEAKNESS, 25 * 20, 0, true, false, true));
-            if (nausea != null) {
-                player.addPotionEffect(new PotionEffect(nausea, 25 * 20, 0, true, false, true));
-            }
+            effects.apply(player, PotionEffectType.WEAKNESS, 25 * 20, 0, false, interval);
+            effects.apply(player, nausea, 25 * 20, 0, false, interval);
         }
         if (level >= 2) {
-            player.addPotionEffect(new PotionEffect(PotionEffectType.HUNGER, 25 * 20, 1, true, false, true));
+            effects.apply(player, PotionEffectType.HUNGER, 25 * 20, 1, false, interval);
         }
         if (level >= 3) {
-            PotionEffectType slow = resolvePotionEffectType("SLOW", "SLOWNESS");
-            if (slow != null) {
-                player.addPotionEffect(new PotionEffect(slow, 25 * 20, 0, true, false, true));
-            }
+            effects.apply(player, radiation.slowness(), 25 * 20, 0, false, interval);
         }
     }
 
-    private void applyRadiationDamage(Location center, double radius, int intervalFive, int intervalThree) {
-        World world = center.getWorld();
-        if (world == null) {
-            return;
-        }
-        for (Player player : world.getPlayers()) {
-            if (!isWithinRadius(player.getLocation(), center, radius)) {
+    private void applyRadiationDamage(List<Player> players, MeteorSettings.Radiation radiation) {
+        int intervalFive = radiation.halfHeartInterval();
+        int intervalThree = radiation.fullHeartInterval();
+        for (Player player : players) {
+            int slot = radiationStates.find(player.getUniqueId());
+            if (slot < 0) {
                 continue;
             }
-            int level = radiationLevels.getOrDefault(player.getUniqueId(), 0);
+            int level = radiationStates.level(slot);
             if (level < 2) {
                 continue;
             }
-            UUID uuid = player.getUniqueId();
-            if (level >= 2) {
-                int counter = damageCounterFive.getOrDefault(uuid, 0) + 1;
-                if (counter >= intervalFive) {
-                    player.damage(1.0);
-                    counter = 0;
-                }
-                damageCounterFive.put(uuid, counter);
+            int halfHeart = radiationStates.halfHeartCounter(slot) + 1;
+            int fullHeart = radiationStates.fullHeartCounter(slot);
+            boolean halfHeartDue = halfHeart >= intervalFive;
+            boolean fullHeartDue = false;
+            if (halfHeartDue) {
+                halfHeart = 0;
             }
             if (level >= 3) {
-                int counter = damageCounterThree.getOrDefault(uuid, 0) + 1;
-                if (counter >= intervalThree) {
-                    player.damage(2.0);
-                    counter = 0;
+                fullHeart++;
+                fullHeartDue = fullHeart >= intervalThree;
+                if (fullHeartDue) {
+                    fullHeart = 0;
                 }
-                damageCounterThree.put(uuid, counter);
+            }
+            // Store before damaging: the damage may fire events that touch the table.
+            radiationStates.setCounters(slot, halfHeart, fullHeart);
+            if (halfHeartDue) {
+                player.damage(1.0);
+            }
+            if (fullHeartDue) {
+                player.damage(2.0);
             }
         }
     }
 
-    private void spawnRadiationParticles(Location center, double radius) {
+    private void spawnRadiationParticles(Location center, double radius, MeteorSettings.Core core) {
         World world = center.getWorld();
         if (world == null) {
             return;
         }
+        ParticleDispatcher particles = plugin.getParticleDispatcher();
         Particle happy = resolveParticle("VILLAGER_HAPPY", "HAPPY_VILLAGER");
         if (happy != null) {
-            world.spawnParticle(happy, center, 30, radius, 2.0, radius, 0.05);
+            particles.spawn(happy, center, 30, radius, 2.0, radius, 0.05);
         }
         Particle ash = resolveParticle("ASH", "SMOKE_NORMAL");
         if (ash != null) {
-            world.spawnParticle(ash, center, 40, radius, 2.5, radius, 0.03);
+            particles.spawn(ash, center, 40, radius, 2.5, radius, 0.03);
         }
         if (zone != null && zone.coreLocation() != null) {
-            Location core = zone.coreLocation();
-            List<Particle> coreParticles = resolveParticles(
-                plugin.getConfig().getStringList("meteor.core.radiation-particles"),
-                defaultCoreParticles()
-            );
+            List<Particle> coreParticles = core.radiationParticles().isEmpty()
+                ? defaultCoreParticles()
+                : core.radiationParticles();
             for (Particle particle : coreParticles) {
-                world.spawnParticle(particle, core, 18, 0.6, 0.8, 0.6, 0.02);
+                particles.spawn(particle, zone.coreLocation(), 18, 0.6, 0.8, 0.6, 0.02);
             }
         }
     }
 
-    private void scheduleDomeChecks() {
-        int intervalSeconds = plugin.getConfig().getInt("meteor.dome.check-interval-seconds", 60);
-        domeTask = new BukkitRunnable() {
-            @Override
-            public void run() {
-                if (zone == null || zone.safe()) {
-                    return;
-                }
-                if (isDomeComplete(zone.center())) {
+    private void startDomeTracker() {
+        stopDomeTracker();
+        if (zone == null || zone.safe()) {
+            return;
+        }
+        Location center = zone.center();
+        World world = center.getWorld();
+        if (world == null) {
+            return;
+        }
+        MeteorSettings.Dome dome = plugin.getSettings().dome();
+        domeTracker = new DomeTracker(
+            plugin,
+            world,
+            center.getBlockX(),
+            center.getBlockY(),
+            center.getBlockZ(),
+            dome.radius(),
+            dome.glassTypes(),
+            () -> {
+                if (zone != null && !zone.safe()) {
                     sealRadiation();
                 }
             }
+        ).start();
+        if (domeTracker.isComplete()) {
+            sealRadiation();
+        }
+    }
 
-            @Override
-            public void cancel() {
-                super.cancel();
-                domeTask = null;
-            }
-        };
-        domeTask.runTaskTimer(plugin, intervalSeconds * 20L, intervalSeconds * 20L);
+    private void stopDomeTracker() {
+        if (domeTracker != null) {
+            domeTracker.stop();
+            domeTracker = null;
+        }
     }
 
     private void sealRadiation() {
@@ -1022,6 +1054,7 @@ public class MeteorController {
             return;
         }
         cancelRadiationTasks();
+        stopDomeTracker();
         zone = zone.withSafe(true).withStage(Stage.SEALED);
         storage.saveZone(zone.toStoredZone());
         Bukkit.broadcastMessage("§aРадиация изолирована!");
@@ -1032,13 +1065,13 @@ public class MeteorController {
         if (world == null) {
             return false;
         }
-        int radius = plugin.getConfig().getInt("meteor.dome.radius", 15);
-        List<String> glassNames = plugin.getConfig().getStringList("meteor.dome.glass-types");
-        Set<Material> allowedGlass = new HashSet<>(resolveMaterials(glassNames, defaultGlassList()));
-        for (Vector offset : getDomeOffsets(radius)) {
-            int x = center.getBlockX() + offset.getBlockX();
-            int y = center.getBlockY() + offset.getBlockY();
-            int z = center.getBlockZ() + offset.getBlockZ();
+        MeteorSettings.Dome settings = plugin.getSettings().dome();
+        Set<Material> allowedGlass = settings.glassTypes();
+        SphereSpans dome = SphereSpans.of(settings.radius());
+        for (int i = 0; i < dome.shellSize(); i++) {
+            int x = center.getBlockX() + dome.shellX(i);
+            int y = center.getBlockY() + dome.shellY(i);
+            int z = center.getBlockZ() + dome.shellZ(i);
             if (!world.isChunkLoaded(x >> 4, z >> 4)) {
                 return false;
             }
@@ -1050,27 +1083,6 @@ public class MeteorController {
         return true;
     }
 
-    private List<Vector> getDomeOffsets(int radius) {
-        if (domeOffsets != null) {
-            return domeOffsets;
-        }
-        List<Vector> offsets = new ArrayList<>();
-        double min = radius - 0.5;
-        double max = radius + 0.5;
-        for (int x = -radius; x <= radius; x++) {
-            for (int y = -radius; y <= radius; y++) {
-                for (int z = -radius; z <= radius; z++) {
-                    double distance = Math.sqrt(x * x + y * y + z * z);
-                    if (distance >= min && distance <= max) {
-                        offsets.add(new Vector(x, y, z));
-                    }
-                }
-            }
-        }
-        domeOffsets = Collections.unmodifiableList(offsets);
-        return domeOffsets;
-    }
-
     private void applyImpactShake(Location center) {
         double radius = plugin.getConfig().getDouble("meteor.impact.shake-radius", 50.0);
         int duration = plugin.getConfig().getInt("meteor.impact.shake-duration-ticks", 60);
@@ -1081,21 +1093,15 @@ public class MeteorController {
         if (world == null) {
             return;
         }
+        EffectManager effects = plugin.getEffectManager();
         BukkitTask task = new BukkitRunnable() {
             int tick = 0;
 
             @Override
             public void run() {
-                for (Player player : world.getPlayers()) {
-                    if (!isWithinRadius(player.getLocation(), center, radius)) {
-                        continue;
-                    }
-                    if (nausea != null) {
-                        player.addPotionEffect(new PotionEffect(nausea, duration, 0, true, false, true));
-                    }
-                    if (slow != null) {
-                        player.addPotionEffect(new PotionEffect(slow, duration, 0, true, false, true));
-                    }
+                for (Player player : plugin.getPlayerIndex().nearby(center, radius)) {
+                    effects.apply(player, nausea, duration, 0, false, 2);
+                    effects.apply(player, slow, duration, 0, false, 2);
                     float yawJitter = (float) ((Math.random() - 0.5) * intensity);
                     float pitchJitter = (float) ((Math.random() - 0.5) * intensity);
                     Location view = player.getLocation().clone();
@@ -1127,11 +1133,8 @@ public class MeteorController {
         if (world == null) {
             return;
         }
-        double radius = plugin.getConfig().getDouble("meteor.flight.shake-radius", 120.0);
-        for (Player player : world.getPlayers()) {
-            if (!isWithinRadius(player.getLocation(), center, radius)) {
-                continue;
-            }
+        double radius = plugin.getSettings().flight().shakeRadius();
+        for (Player player : plugin.getPlayerIndex().nearby(center, radius)) {
             float yawJitter = (float) ((Math.random() - 0.5) * intensity);
             float pitchJitter = (float) ((Math.random() - 0.5) * intensity);
             Location view = player.getLocation().clone();
@@ -1164,9 +1167,9 @@ public class MeteorController {
         }
     }
 
-    private void spawnTrail(World world, Location location, List<Particle> particles) {
+    private void spawnTrail(Location location, List<Particle> particles) {
         for (Particle particle : particles) {
-            world.spawnParticle(particle, location, 12, 0.6, 0.6, 0.6, 0.05);
+            plugin.getParticleDispatcher().spawn(particle, location, 12, 0.6, 0.6, 0.6, 0.05);
         }
     }
 
@@ -1214,27 +1217,6 @@ public class MeteorController {
         return values.get((int) (Math.random() * values.size()));
     }
 
-    private List<Material> defaultGlassList() {
-        return List.copyOf(EnumSet.of(
-            Material.GLASS,
-            Material.WHITE_STAINED_GLASS,
-            Material.LIGHT_GRAY_STAINED_GLASS,
-            Material.GRAY_STAINED_GLASS,
-            Material.BLACK_STAINED_GLASS,
-            Material.BLUE_STAINED_GLASS,
-            Material.CYAN_STAINED_GLASS,
-            Material.GREEN_STAINED_GLASS,
-            Material.LIME_STAINED_GLASS,
-            Material.BROWN_STAINED_GLASS,
-            Material.ORANGE_STAINED_GLASS,
-            Material.YELLOW_STAINED_GLASS,
-            Material.RED_STAINED_GLASS,
-            Material.PURPLE_STAINED_GLASS,
-            Material.MAGENTA_STAINED_GLASS,
-            Material.PINK_STAINED_GLASS
-        ));
-    }
-
     private List<Particle> defaultTrailParticles() {
         List<Particle> particles = new ArrayList<>(List.of(Particle.FLAME));
         Particle smoke = resolveParticle("SMOKE", "SMOKE_NORMAL", "CAMPFIRE_COSY_SMOKE");
@@ -1329,27 +1311,58 @@ public class MeteorController {
 
     private void cancelTasks() {
         cancelRadiationTasks();
+        if (craterPlan != null) {
+            craterPlan.cancel(false);
+            craterPlan = null;
+        }
+        if (sculkScan != null) {
+            sculkScan.cancel(false);
+            sculkScan = null;
+        }
         if (flightTask != null) {
             flightTask.cancel();
         }
-        if (domeTask != null) {
-            domeTask.cancel();
+        if (craterJob != null) {
+            if (!craterJob.isFinished()) {
+                craterJob.cancel();
+            }
+            craterJob = null;
         }
+        stopDomeTracker();
         for (BukkitTask task : scheduledTasks) {
             task.cancel();
         }
         scheduledTasks.clear();
+        releasePrefetchedChunks();
+        heightmap = null;
     }
 
-    private void cancelRadiationTasks() {
-        if (exposureTask != null) {
-            exposureTask.cancel();
+    private void prefetchImpactSite(Location center) {
+        releasePrefetchedChunks();
+        World world = center.getWorld();
+        if (world == null || !plugin.getConfig().getBoolean("meteor.prefetch.enabled", true)) {
+            return;
         }
-        if (damageTask != null) {
-            damageTask.cancel();
+        prefetcher = new ChunkPrefetcher(
+            plugin,
+            world,
+            center.getBlockX(),
+            center.getBlockZ(),
+            ChunkPrefetcher.affectedRadius(plugin.getConfig()),
+            plugin.getConfig().getInt("meteor.prefetch.chunks-per-tick", 4)
+        ).start();
+    }
+
+    private void releasePrefetchedChunks() {
+        if (prefetcher != null) {
+            prefetcher.release();
+            prefetcher = null;
         }
-        if (visualTask != null) {
-            visualTask.cancel();
+    }
+
+    private void cancelRadiationTasks() {
+        if (radiationTask != null) {
+            radiationTask.cancel();
         }
         if (sculkTask != null) {
             sculkTask.cancel();
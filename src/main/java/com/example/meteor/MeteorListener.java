@@ -6,6 +6,8 @@ import org.bukkit.event.EventHandler;
 import org.bukkit.event.Listener;
 import org.bukkit.event.block.BlockBreakEvent;
 import org.bukkit.event.entity.PlayerDeathEvent;
+import org.bukkit.event.player.PlayerJoinEvent;
+import org.bukkit.event.player.PlayerQuitEvent;
 
 public class MeteorListener implements Listener {
     private final MeteorController meteorController;
@@ -41,4 +43,14 @@ public class MeteorListener implements Listener {
     public void onPlayerDeath(PlayerDeathEvent event) {
         meteorController.handleRadiationDeath(event.getEntity());
     }
+
+    @EventHandler
+    public void onPlayerJoin(PlayerJoinEvent event) {
+        meteorController.handlePlayerJoin(event.getPlayer());
+    }
+
+    @EventHandler
+    public void onPlayerQuit(PlayerQuitEvent event) {
+        meteorController.handlePlayerQuit(event.getPlayer());
+    }
 }
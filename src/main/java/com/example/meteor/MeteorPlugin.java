@@ -3,29 +3,67 @@ package com.example.meteor;
 import com.example.meteor.commands.AdminCommand;
 import com.example.meteor.commands.RadiationCommand;
 import com.example.meteor.commands.ResearchCommand;
+import com.example.meteor.config.MeteorSettings;
+import com.example.meteor.config.SettingsHolder;
+import com.example.meteor.data.Database;
 import com.example.meteor.data.ResearchRepository;
+import com.example.meteor.data.ZoneRepository;
+import com.example.meteor.util.LruCache;
 import com.example.meteor.world.DomeMonitor;
 import com.example.meteor.world.MeteorManager;
+import com.example.meteor.world.ParticleDispatcher;
+import com.example.meteor.world.EffectManager;
+import com.example.meteor.world.PlayerSpatialIndex;
+import com.example.meteor.world.ZoneRegistry;
 import org.bukkit.Bukkit;
 import org.bukkit.plugin.java.JavaPlugin;
 
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+
 public class MeteorPlugin extends JavaPlugin {
+    private SettingsHolder settings;
+    private Database database;
     private MeteorManager meteorManager;
     private ResearchRepository researchRepository;
+    private ZoneRegistry zoneRegistry;
+    private PlayerSpatialIndex playerIndex;
+    private EffectManager effectManager;
+    private ParticleDispatcher particleDispatcher;
     private DomeMonitor domeMonitor;
 
     @Override
     public void onEnable() {
         saveDefaultConfig();
-        researchRepository = new ResearchRepository(this);
-        researchRepository.init();
+        settings = new SettingsHolder(this);
+        database = new Database(this, new File(getDataFolder(), "meteor.db"));
+        if (!database.open()) {
+            getLogger().severe("Database is unavailable; disabling " + getName());
+            getServer().getPluginManager().disablePlugin(this);
+            return;
+        }
+        researchRepository = new ResearchRepository(this, database);
+        researchRepository.buildSearchIndex();
+        researchRepository.loadRecentImpacts();
 
-        meteorManager = new MeteorManager(this, researchRepository);
-        domeMonitor = new DomeMonitor(this, meteorManager);
+        playerIndex = new PlayerSpatialIndex();
+        getServer().getPluginManager().registerEvents(playerIndex, this);
+        playerIndex.indexOnline();
+        effectManager = new EffectManager();
+        getServer().getPluginManager().registerEvents(effectManager, this);
+        particleDispatcher = new ParticleDispatcher(settings, playerIndex);
 
-        var admin = new AdminCommand(meteorManager);
-        var radiation = new RadiationCommand(meteorManager);
+        zoneRegistry = new ZoneRegistry(this, settings, new ZoneRepository(this, database), playerIndex, effectManager,
+            particleDispatcher);
+        meteorManager = new MeteorManager(this, researchRepository, settings, zoneRegistry, playerIndex, particleDispatcher);
+        domeMonitor = new DomeMonitor(this, zoneRegistry, settings);
+
+        var radiation = new RadiationCommand(zoneRegistry, domeMonitor);
         var research = new ResearchCommand(researchRepository);
+        List<LruCache<?, ?>> caches = new ArrayList<>(researchRepository.getCaches());
+        caches.add(research.getRenderedPages());
+        var admin = new AdminCommand(meteorManager, zoneRegistry, effectManager, particleDispatcher, settings, caches);
 
         getCommand("admin").setExecutor(admin);
         getCommand("admin").setTabCompleter(admin);
@@ -34,6 +72,7 @@ public class MeteorPlugin extends JavaPlugin {
         getCommand("research").setExecutor(research);
         getCommand("research").setTabCompleter(research);
 
+        zoneRegistry.start();
         domeMonitor.start();
 
         Bukkit.getLogger().info("MeteorPlugin enabled");
@@ -47,8 +86,31 @@ public class MeteorPlugin extends JavaPlugin {
         if (domeMonitor != null) {
             domeMonitor.stop();
         }
-        if (researchRepository != null) {
-            researchRepository.close();
+        if (zoneRegistry != null) {
+            zoneRegistry.stop();
+        }
+        if (database != null) {
+            database.close();
         }
     }
+
+    public Database getDatabase() {
+        return database;
+    }
+
+    public PlayerSpatialIndex getPlayerIndex() {
+        return playerIndex;
+    }
+
+    public EffectManager getEffectManager() {
+        return effectManager;
+    }
+
+    public ParticleDispatcher getParticleDispatcher() {
+        return particleDispatcher;
+    }
+
+    public MeteorSettings getSettings() {
+        return settings.get();
+    }
 }
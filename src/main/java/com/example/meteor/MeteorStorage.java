@@ -1,43 +1,53 @@
 package com.example.meteor;
 
-import java.io.File;
-import java.sql.Connection;
-import java.sql.DriverManager;
+import com.example.meteor.data.Database;
+import org.bukkit.Bukkit;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
-import java.sql.Statement;
-import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 
-public class MeteorStorage {
+public final class MeteorStorage {
     private final MeteorPlugin plugin;
-    private final File databaseFile;
+    private final Database database;
+    private final RadiationLevelWriter radiationWriter;
+    // Row of the controller's zone in meteor_zone; 0 until it has been inserted or loaded.
+    private volatile int zoneId = 0;
 
     public MeteorStorage(MeteorPlugin plugin) {
         this.plugin = plugin;
-        this.databaseFile = new File(plugin.getDataFolder(), "meteor-data.db");
-        initialize();
+        this.database = plugin.getDatabase();
+        this.radiationWriter = new RadiationLevelWriter(
+            plugin,
+            this,
+            plugin.getConfig().getInt("meteor.storage.flush-interval-seconds", 5),
+            plugin.getConfig().getInt("meteor.storage.max-pending", 512)
+        );
     }
 
     public Optional<StoredZone> loadZone() {
-        try (Connection connection = openConnection();
-             PreparedStatement statement = connection.prepareStatement(
-                 "SELECT world, x, y, z, impact_time, stage FROM meteor_zone WHERE id = 1");
-             ResultSet resultSet = statement.executeQuery()) {
-            if (!resultSet.next()) {
-                return Optional.empty();
-            }
-            return Optional.of(new StoredZone(
-                resultSet.getString("world"),
-                resultSet.getDouble("x"),
-                resultSet.getDouble("y"),
-                resultSet.getDouble("z"),
-                resultSet.getLong("impact_time"),
-                resultSet.getString("stage")
-            ));
+        try {
+            return database.call(db -> {
+                PreparedStatement statement = db.statement(
+                    "SELECT id, world, x, y, z, impact_time, stage FROM meteor_zone ORDER BY id DESC LIMIT 1");
+                try (ResultSet resultSet = statement.executeQuery()) {
+                    if (!resultSet.next()) {
+                        return Optional.empty();
+                    }
+                    zoneId = resultSet.getInt("id");
+                    return Optional.of(new StoredZone(
+                        resultSet.getString("world"),
+                        resultSet.getDouble("x"),
+                        resultSet.getDouble("y"),
+                        resultSet.getDouble("z"),
+                        resultSet.getLong("impact_time"),
+                        resultSet.getString("stage")
+                    ));
+                }
+            });
         } catch (SQLException ex) {
             plugin.getLogger().warning("Не удалось загрузить активную зону метеорита: " + ex.getMessage());
             return Optional.empty();
@@ -45,109 +55,119 @@ public class MeteorStorage {
     }
 
     public void saveZone(StoredZone zone) {
-        try (Connection connection = openConnection();
-             PreparedStatement statement = connection.prepareStatement(
-                 "INSERT INTO meteor_zone(id, world, x, y, z, impact_time, stage) " +
-                     "VALUES(1, ?, ?, ?, ?, ?, ?) " +
-                     "ON CONFLICT(id) DO UPDATE SET world = excluded.world, x = excluded.x, y = excluded.y, " +
-                     "z = excluded.z, impact_time = excluded.impact_time, stage = excluded.stage")) {
-            statement.setString(1, zone.world());
-            statement.setDouble(2, zone.x());
-            statement.setDouble(3, zone.y());
-            statement.setDouble(4, zone.z());
-            statement.setLong(5, zone.impactTime());
-            statement.setString(6, zone.stage());
-            statement.executeUpdate();
-        } catch (SQLException ex) {
+        database.submit(db -> {
+            if (zoneId == 0) {
+                PreparedStatement insert = db.statement(
+                    "INSERT INTO meteor_zone(world, x, y, z, impact_time, stage) VALUES(?, ?, ?, ?, ?, ?)");
+                bindZone(insert, zone);
+                insert.executeUpdate();
+                try (ResultSet resultSet = db.statement("SELECT last_insert_rowid()").executeQuery()) {
+                    zoneId = resultSet.next() ? resultSet.getInt(1) : 0;
+                }
+                return 1;
+            }
+            PreparedStatement update = db.statement(
+                "UPDATE meteor_zone SET world = ?, x = ?, y = ?, z = ?, impact_time = ?, stage = ? WHERE id = ?");
+            bindZone(update, zone);
+            update.setInt(7, zoneId);
+            return update.executeUpdate();
+        }).exceptionally(ex -> {
             plugin.getLogger().warning("Не удалось сохранить активную зону метеорита: " + ex.getMessage());
-        }
+            return null;
+        });
     }
 
     public void clearZone() {
-        try (Connection connection = openConnection();
-             PreparedStatement statement = connection.prepareStatement("DELETE FROM meteor_zone WHERE id = 1")) {
-            statement.executeUpdate();
-        } catch (SQLException ex) {
+        database.submit(db -> {
+            if (zoneId == 0) {
+                return 0;
+            }
+            PreparedStatement statement = db.statement("DELETE FROM meteor_zone WHERE id = ?");
+            statement.setInt(1, zoneId);
+            zoneId = 0;
+            return statement.executeUpdate();
+        }).exceptionally(ex -> {
             plugin.getLogger().warning("Не удалось очистить активную зону метеорита: " + ex.getMessage());
-        }
+            return null;
+        });
     }
 
-    public Map<UUID, Integer> loadRadiationLevels() {
-        Map<UUID, Integer> levels = new HashMap<>();
-        try (Connection connection = openConnection();
-             PreparedStatement statement = connection.prepareStatement(
-                 "SELECT uuid, level FROM radiation_levels");
-             ResultSet resultSet = statement.executeQuery()) {
-            while (resultSet.next()) {
-                try {
-                    UUID uuid = UUID.fromString(resultSet.getString("uuid"));
-                    int level = resultSet.getInt("level");
-                    levels.put(uuid, level);
-                } catch (IllegalArgumentException ignored) {
-                    // Skip invalid UUIDs.
-                }
-            }
-        } catch (SQLException ex) {
-            plugin.getLogger().warning("Не удалось загрузить уровни радиации: " + ex.getMessage());
+    private static void bindZone(PreparedStatement statement, StoredZone zone) throws SQLException {
+        statement.setString(1, zone.world());
+        statement.setDouble(2, zone.x());
+        statement.setDouble(3, zone.y());
+        statement.setDouble(4, zone.z());
+        statement.setLong(5, zone.impactTime());
+        statement.setString(6, zone.stage());
+    }
+
+    /**
+     * Completes on the main thread. A level still waiting in the write-behind buffer is newer than
+     * the stored row, so it is returned without touching the database.
+     */
+    public CompletableFuture<Integer> loadRadiationLevel(UUID uuid) {
+        Integer pending = radiationWriter.getPending(uuid);
+        if (pending != null) {
+            return CompletableFuture.completedFuture(pending == RadiationLevelWriter.REMOVED ? 0 : pending);
         }
-        return levels;
+        return database.submit(db -> {
+            PreparedStatement statement = db.statement("SELECT level FROM radiation_levels WHERE uuid = ?");
+            statement.setString(1, uuid.toString());
+            try (ResultSet resultSet = statement.executeQuery()) {
+                return resultSet.next() ? resultSet.getInt("level") : 0;
+            }
+        }).exceptionally(ex -> {
+            plugin.getLogger().warning("Не удалось загрузить уровень радиации: " + ex.getMessage());
+            return 0;
+        }).thenApplyAsync(level -> level, task -> {
+            if (plugin.isEnabled()) {
+                Bukkit.getScheduler().runTask(plugin, task);
+            }
+        });
     }
 
     public void saveRadiationLevel(UUID uuid, int level) {
-        try (Connection connection = openConnection();
-             PreparedStatement statement = connection.prepareStatement(
-                 "INSERT INTO radiation_levels(uuid, level) VALUES(?, ?) " +
-                     "ON CONFLICT(uuid) DO UPDATE SET level = excluded.level")) {
-            statement.setString(1, uuid.toString());
-            statement.setInt(2, level);
-            statement.executeUpdate();
-        } catch (SQLException ex) {
-            plugin.getLogger().warning("Не удалось сохранить уровень радиации: " + ex.getMessage());
-        }
+        radiationWriter.save(uuid, level);
     }
 
     public void removeRadiationLevel(UUID uuid) {
-        try (Connection connection = openConnection();
-             PreparedStatement statement = connection.prepareStatement(
-                 "DELETE FROM radiation_levels WHERE uuid = ?")) {
-            statement.setString(1, uuid.toString());
-            statement.executeUpdate();
-        } catch (SQLException ex) {
-            plugin.getLogger().warning("Не удалось удалить уровень радиации: " + ex.getMessage());
-        }
+        radiationWriter.remove(uuid);
     }
 
-    private void initialize() {
-        if (!databaseFile.getParentFile().exists() && !databaseFile.getParentFile().mkdirs()) {
-            plugin.getLogger().warning("Не удалось создать папку для базы данных метеорита.");
-            return;
-        }
-        try (Connection connection = openConnection();
-             Statement statement = connection.createStatement()) {
-            statement.execute("""
-                CREATE TABLE IF NOT EXISTS meteor_zone (
-                  id INTEGER PRIMARY KEY CHECK (id = 1),
-                  world TEXT NOT NULL,
-                  x REAL NOT NULL,
-                  y REAL NOT NULL,
-                  z REAL NOT NULL,
-                  impact_time INTEGER NOT NULL,
-                  stage TEXT NOT NULL
-                )
-                """);
-            statement.execute("""
-                CREATE TABLE IF NOT EXISTS radiation_levels (
-                  uuid TEXT PRIMARY KEY,
-                  level INTEGER NOT NULL
-                )
-                """);
-        } catch (SQLException ex) {
-            plugin.getLogger().warning("Не удалось инициализировать базу данных метеорита: " + ex.getMessage());
-        }
+    public RadiationLevelWriter getRadiationWriter() {
+        return radiationWriter;
+    }
+
+    public void close() {
+        radiationWriter.close();
     }
 
-    private Connection openConnection() throws SQLException {
-        return DriverManager.getConnection("jdbc:sqlite:" + databaseFile.getAbsolutePath());
+    boolean writeRadiationLevels(Map<UUID, Integer> levels) {
+        try {
+            database.call(db -> db.inTransaction(tx -> {
+                PreparedStatement upsert = tx.statement(
+                    "INSERT INTO radiation_levels(uuid, level) VALUES(?, ?) " +
+                        "ON CONFLICT(uuid) DO UPDATE SET level = excluded.level");
+                PreparedStatement delete = tx.statement("DELETE FROM radiation_levels WHERE uuid = ?");
+                for (Map.Entry<UUID, Integer> entry : levels.entrySet()) {
+                    if (entry.getValue() == RadiationLevelWriter.REMOVED) {
+                        delete.setString(1, entry.getKey().toString());
+                        delete.addBatch();
+                    } else {
+                        upsert.setString(1, entry.getKey().toString());
+                        upsert.setInt(2, entry.getValue());
+                        upsert.addBatch();
+                    }
+                }
+                upsert.executeBatch();
+                delete.executeBatch();
+                return null;
+            }));
+            return true;
+        } catch (SQLException ex) {
+            plugin.getLogger().warning("Не удалось сохранить уровни радиации: " + ex.getMessage());
+            return false;
+        }
     }
 
     public record StoredZone(String world, double x, double y, double z, long impactTime, String stage) {}
@@ -0,0 +1,118 @@
+package com.example.meteor;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Write-behind buffer for radiation levels. Updates are merged per player and written by one
+ * background thread, one transaction per flush.
+ */
+public class RadiationLevelWriter {
+    static final int REMOVED = -1;
+
+    private final MeteorPlugin plugin;
+    private final MeteorStorage storage;
+    private final int maxPending;
+    private final Map<UUID, Integer> pending = new ConcurrentHashMap<>();
+    private final AtomicLong oldestPendingNanos = new AtomicLong();
+    private final AtomicBoolean flushRequested = new AtomicBoolean();
+    private final ScheduledExecutorService executor;
+    private volatile boolean closed = false;
+    private volatile long lastFlushLagMillis = 0L;
+    private volatile long maxFlushLagMillis = 0L;
+    private volatile int lastFlushSize = 0;
+
+    public RadiationLevelWriter(MeteorPlugin plugin, MeteorStorage storage, int flushIntervalSeconds, int maxPending) {
+        this.plugin = plugin;
+        this.storage = storage;
+        this.maxPending = Math.max(1, maxPending);
+        this.executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "Meteor-RadiationWriter");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long interval = Math.max(1, flushIntervalSeconds);
+        executor.scheduleWithFixedDelay(this::flush, interval, interval, TimeUnit.SECONDS);
+    }
+
+    public void save(UUID uuid, int level) {
+        enqueue(uuid, level);
+    }
+
+    public void remove(UUID uuid) {
+        enqueue(uuid, REMOVED);
+    }
+
+    /**
+     * Latest unflushed value for the player, {@link #REMOVED} for a pending delete, or null.
+     */
+    public Integer getPending(UUID uuid) {
+        return pending.get(uuid);
+    }
+
+    public int getPendingCount() {
+        return pending.size();
+    }
+
+    public long getLastFlushLagMillis() {
+        return lastFlushLagMillis;
+    }
+
+    public long getMaxFlushLagMillis() {
+        return maxFlushLagMillis;
+    }
+
+    public int getLastFlushSize() {
+        return lastFlushSize;
+    }
+
+    public void close() {
+        closed = true;
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(5, TimeUnit.SECONDS)) {
+                plugin.getLogger().warning("Запись уровней радиации не завершилась вовремя.");
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+        flush();
+    }
+
+    private void enqueue(UUID uuid, int level) {
+        oldestPendingNanos.compareAndSet(0L, System.nanoTime());
+        pending.put(uuid, level);
+        if (closed) {
+            flush();
+            return;
+        }
+        if (pending.size() >= maxPending && flushRequested.compareAndSet(false, true)) {
+            executor.execute(this::flush);
+        }
+    }
+
+    private synchronized void flush() {
+        flushRequested.set(false);
+        if (pending.isEmpty()) {
+            return;
+        }
+        long oldest = oldestPendingNanos.getAndSet(0L);
+        Map<UUID, Integer> batch = new HashMap<>(pending);
+        if (!storage.writeRadiationLevels(batch)) {
+            oldestPendingNanos.compareAndSet(0L, oldest);
+            return;
+        }
+        batch.forEach(pending::remove);
+        long lag = oldest == 0L ? 0L : TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - oldest);
+        lastFlushLagMillis = lag;
+        maxFlushLagMillis = Math.max(maxFlushLagMillis, lag);
+        lastFlushSize = batch.size();
+    }
+}
@@ -0,0 +1,148 @@
+package com.example.meteor;
+
+import java.util.UUID;
+
+/**
+ * Per-player radiation state in an open-addressed table keyed by the two halves of the UUID. Each
+ * slot packs the level and both damage counters into one long, so lookups and updates allocate
+ * nothing. Slot indexes stay valid only until the next insert or removal.
+ */
+final class RadiationStateMap {
+    private static final int LEVEL_BITS = 16;
+    private static final int COUNTER_BITS = 24;
+    private static final long LEVEL_MASK = (1L << LEVEL_BITS) - 1;
+    private static final long COUNTER_MASK = (1L << COUNTER_BITS) - 1;
+
+    private long[] most;
+    private long[] least;
+    private long[] states;
+    private boolean[] used;
+    private int mask;
+    private int size;
+
+    RadiationStateMap(int expectedPlayers) {
+        int capacity = Integer.highestOneBit(Math.max(16, expectedPlayers * 2 - 1)) << 1;
+        allocate(capacity);
+    }
+
+    /**
+     * Slot holding the player's state, or -1 if there is none.
+     */
+    int find(UUID uuid) {
+        long high = uuid.getMostSignificantBits();
+        long low = uuid.getLeastSignificantBits();
+        for (int slot = home(high, low); used[slot]; slot = (slot + 1) & mask) {
+            if (most[slot] == high && least[slot] == low) {
+                return slot;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Slot holding the player's state, creating a zeroed one if needed.
+     */
+    int findOrInsert(UUID uuid) {
+        int existing = find(uuid);
+        if (existing >= 0) {
+            return existing;
+        }
+        if ((size + 1) * 4 > used.length * 3) {
+            resize(used.length * 2);
+        }
+        return insert(uuid.getMostSignificantBits(), uuid.getLeastSignificantBits(), 0L);
+    }
+
+    boolean remove(UUID uuid) {
+        int slot = find(uuid);
+        if (slot < 0) {
+            return false;
+        }
+        used[slot] = false;
+        size--;
+        // Backward-shift deletion: pull later entries of the probe run into the gap so lookups
+        // never need tombstones.
+        int gap = slot;
+        for (int next = (slot + 1) & mask; used[next]; next = (next + 1) & mask) {
+            int home = home(most[next], least[next]);
+            if (((next - home) & mask) >= ((next - gap) & mask)) {
+                most[gap] = most[next];
+                least[gap] = least[next];
+                states[gap] = states[next];
+                used[gap] = true;
+                used[next] = false;
+                gap = next;
+            }
+        }
+        return true;
+    }
+
+    int level(int slot) {
+        return (int) (states[slot] & LEVEL_MASK);
+    }
+
+    int halfHeartCounter(int slot) {
+        return (int) ((states[slot] >>> LEVEL_BITS) & COUNTER_MASK);
+    }
+
+    int fullHeartCounter(int slot) {
+        return (int) ((states[slot] >>> (LEVEL_BITS + COUNTER_BITS)) & COUNTER_MASK);
+    }
+
+    void setLevel(int slot, int level) {
+        states[slot] = (states[slot] & ~LEVEL_MASK) | (level & LEVEL_MASK);
+    }
+
+    void setCounters(int slot, int halfHeart, int fullHeart) {
+        states[slot] = (states[slot] & LEVEL_MASK)
+            | (halfHeart & COUNTER_MASK) << LEVEL_BITS
+            | (fullHeart & COUNTER_MASK) << (LEVEL_BITS + COUNTER_BITS);
+    }
+
+    int size() {
+        return size;
+    }
+
+    private int insert(long high, long low, long state) {
+        int slot = home(high, low);
+        while (used[slot]) {
+            slot = (slot + 1) & mask;
+        }
+        most[slot] = high;
+        least[slot] = low;
+        states[slot] = state;
+        used[slot] = true;
+        size++;
+        return slot;
+    }
+
+    private void resize(int capacity) {
+        long[] oldMost = most;
+        long[] oldLeast = least;
+        long[] oldStates = states;
+        boolean[] oldUsed = used;
+        allocate(capacity);
+        for (int i = 0; i < oldUsed.length; i++) {
+            if (oldUsed[i]) {
+                insert(oldMost[i], oldLeast[i], oldStates[i]);
+            }
+        }
+    }
+
+    private void allocate(int capacity) {
+        most = new long[capacity];
+        least = new long[capacity];
+        states = new long[capacity];
+        used = new boolean[capacity];
+        mask = capacity - 1;
+        size = 0;
+    }
+
+    private int home(long high, long low) {
+        long hash = high * 0x9E3779B97F4A7C15L ^ low;
+        hash ^= hash >>> 33;
+        hash *= 0xFF51AFD7ED558CCDL;
+        hash ^= hash >>> 33;
+        return (int) hash & mask;
+    }
+}
@@ -0,0 +1,53 @@
+package com.example.meteor;
+
+/**
+ * Wall time spent in each stage of the radiation tick. Main thread only.
+ */
+public class RadiationTimings {
+    public enum Stage {
+        COLLECT,
+        EXPOSURE,
+        DAMAGE,
+        EFFECTS,
+        PARTICLES
+    }
+
+    private final long[] lastNanos = new long[Stage.values().length];
+    private final long[] maxNanos = new long[Stage.values().length];
+    private final long[] totalNanos = new long[Stage.values().length];
+    private long ticks = 0L;
+
+    /**
+     * Records the time since {@code startedNanos} against the stage and returns the current time,
+     * so consecutive stages can be chained.
+     */
+    long record(Stage stage, long startedNanos) {
+        long now = System.nanoTime();
+        long elapsed = now - startedNanos;
+        int index = stage.ordinal();
+        lastNanos[index] = elapsed;
+        maxNanos[index] = Math.max(maxNanos[index], elapsed);
+        totalNanos[index] += elapsed;
+        return now;
+    }
+
+    void completeTick() {
+        ticks++;
+    }
+
+    public long getTicks() {
+        return ticks;
+    }
+
+    public long getLastNanos(Stage stage) {
+        return lastNanos[stage.ordinal()];
+    }
+
+    public long getMaxNanos(Stage stage) {
+        return maxNanos[stage.ordinal()];
+    }
+
+    public long getAverageNanos(Stage stage) {
+        return ticks == 0 ? 0L : totalNanos[stage.ordinal()] / ticks;
+    }
+}
@@ -2,6 +2,8 @@ package com.example.meteor;
 
 import com.example.meteor.research.MeteorResearchEntry;
 import com.example.meteor.research.MeteorResearchLibrary;
+import com.example.meteor.util.LruCache;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Locale;
 import org.bukkit.command.Command;
@@ -11,6 +13,10 @@ import org.bukkit.command.CommandSender;
 public class ResearchCommand implements CommandExecutor {
     private static final int PAGE_SIZE = 12;
 
+    private final LruCache<String, String> formattedEntries = new LruCache<>("library-entries", 128);
+    private final LruCache<Integer, List<String>> renderedPages = new LruCache<>("library-pages", 16);
+    private String[] pageHeaders;
+
     @Override
     public boolean onCommand(CommandSender sender, Command command, String label, String[] args) {
         if (args.length == 0) {
@@ -42,12 +48,15 @@ public class ResearchCommand implements CommandExecutor {
     }
 
     private void showEntry(CommandSender sender, String id) {
-        MeteorResearchEntry entry = MeteorResearchLibrary.get(id.toLowerCase(Locale.ROOT));
-        if (entry == null) {
+        String formatted = formattedEntries.computeIfAbsent(id.toLowerCase(Locale.ROOT), key -> {
+            MeteorResearchEntry entry = MeteorResearchLibrary.get(key);
+            return entry == null ? null : entry.formatForChat();
+        });
+        if (formatted == null) {
             sender.sendMessage("§cИсследование не найдено: " + id);
             return;
         }
-        sender.sendMessage(entry.formatForChat());
+        sender.sendMessage(formatted);
     }
 
     private int parsePage(String[] args, int index, CommandSender sender) {
@@ -63,19 +72,38 @@ public class ResearchCommand implements CommandExecutor {
     }
 
     private void sendPage(CommandSender sender, int page) {
-        List<MeteorResearchEntry> entries = MeteorResearchLibrary.list();
-        int totalPages = (entries.size() + PAGE_SIZE - 1) / PAGE_SIZE;
+        if (pageHeaders == null) {
+            pageHeaders = new String[MeteorResearchLibrary.pageCount(PAGE_SIZE)];
+        }
+        int totalPages = pageHeaders.length;
         if (page > totalPages) {
             sender.sendMessage("§cСтраница вне диапазона. Всего страниц: " + totalPages);
             return;
         }
-        int start = (page - 1) * PAGE_SIZE;
-        int end = Math.min(start + PAGE_SIZE, entries.size());
-        sender.sendMessage("§6Исследовательский архив §7(" + page + "/" + totalPages + ")");
-        for (int i = start; i < end; i++) {
-            MeteorResearchEntry entry = entries.get(i);
-            sender.sendMessage("§e" + entry.id() + " §7- §f" + entry.title());
+        List<String> lines = renderedPages.computeIfAbsent(page, key -> {
+            List<String> rendered = new ArrayList<>();
+            rendered.add(pageHeader(key));
+            for (MeteorResearchEntry entry : MeteorResearchLibrary.page(key, PAGE_SIZE)) {
+                rendered.add("§e" + entry.id() + " §7- §f" + entry.title());
+            }
+            rendered.add("§7Используйте /research show <id> для деталей.");
+            return List.copyOf(rendered);
+        });
+        for (String line : lines) {
+            sender.sendMessage(line);
+        }
+    }
+
+    private String pageHeader(int page) {
+        String header = pageHeaders[page - 1];
+        if (header == null) {
+            header = "§6Исследовательский архив §7(" + page + "/" + pageHeaders.length + ")";
+            pageHeaders[page - 1] = header;
         }
-        sender.sendMessage("§7Используйте /research show <id> для деталей.");
+        return header;
+    }
+
+    public List<LruCache<?, ?>> getCaches() {
+        return List.of(formattedEntries, renderedPages);
     }
 }
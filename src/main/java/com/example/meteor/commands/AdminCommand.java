@@ -1,25 +1,44 @@
 package com.example.meteor.commands;
 
+import com.example.meteor.config.SettingsHolder;
+import com.example.meteor.util.LruCache;
+import com.example.meteor.world.EffectManager;
 import com.example.meteor.world.MeteorManager;
+import com.example.meteor.world.ParticleDispatcher;
+import com.example.meteor.world.RadiationZone;
+import com.example.meteor.world.ZoneRegistry;
+import org.bukkit.Location;
 import org.bukkit.command.Command;
 import org.bukkit.command.CommandExecutor;
 import org.bukkit.command.CommandSender;
 import org.bukkit.command.TabCompleter;
+import org.bukkit.entity.Player;
 
 import java.util.ArrayList;
 import java.util.List;
 
 public class AdminCommand implements CommandExecutor, TabCompleter {
     private final MeteorManager meteorManager;
+    private final ZoneRegistry zones;
+    private final EffectManager effects;
+    private final ParticleDispatcher particles;
+    private final SettingsHolder settings;
+    private final List<LruCache<?, ?>> caches;
 
-    public AdminCommand(MeteorManager meteorManager) {
+    public AdminCommand(MeteorManager meteorManager, ZoneRegistry zones, EffectManager effects, ParticleDispatcher particles,
+                        SettingsHolder settings, List<LruCache<?, ?>> caches) {
         this.meteorManager = meteorManager;
+        this.zones = zones;
+        this.effects = effects;
+        this.particles = particles;
+        this.settings = settings;
+        this.caches = caches;
     }
 
     @Override
     public boolean onCommand(CommandSender sender, Command command, String label, String[] args) {
         if (args.length < 2) {
-            sender.sendMessage("§cИспользование: /admin meteor <start|stop|free> [x] [z] | /admin meteor start free [x] [z]");
+            sender.sendMessage("§cИспользование: /admin meteor <start|stop|free|clear|reload|stats> [x] [z] | /admin meteor start free [x] [z]");
             return true;
         }
         if (!args[0].equalsIgnoreCase("meteor")) {
@@ -64,9 +83,45 @@ public class AdminCommand implements CommandExecutor, TabCompleter {
             }
             case "stop" -> {
                 meteorManager.stopMeteor();
+                zones.removeAll();
                 sender.sendMessage("§eМетеорит остановлен.");
             }
-            default -> sender.sendMessage("§cИспользование: /admin meteor <start|stop|free> [x] [z] | /admin meteor start free [x] [z]");
+            case "clear" -> {
+                if (!(sender instanceof Player player)) {
+                    sender.sendMessage("§cКоманда доступна только игрокам.");
+                    return true;
+                }
+                RadiationZone zone = zones.nearest(player.getLocation());
+                if (zone == null) {
+                    sender.sendMessage("§cВ этом мире нет радиационных зон.");
+                    return true;
+                }
+                zones.remove(zone.getId());
+                Location origin = zone.getOrigin();
+                sender.sendMessage("§eРадиационная зона X:" + origin.getBlockX() + " Z:" + origin.getBlockZ() + " удалена.");
+            }
+            case "reload" -> {
+                settings.reload();
+                sender.sendMessage("§aКонфигурация перезагружена.");
+            }
+            case "stats" -> {
+                sender.sendMessage("§6Активных зон: §f" + zones.getZones().size());
+                sender.sendMessage("§6Эффекты: §fвыдано " + effects.getSent() + ", пропущено " + effects.getSkipped());
+                sender.sendMessage("§6Частицы: §fотправлено " + particles.getSent() + ", отброшено " + particles.getDropped());
+                sender.sendMessage("§6Кэши:");
+                for (LruCache<?, ?> cache : caches) {
+                    sender.sendMessage(String.format(
+                        "§e%s: §f%d/%d, попаданий %d, промахов %d (%.1f%%)",
+                        cache.getName(),
+                        cache.size(),
+                        cache.getCapacity(),
+                        cache.getHits(),
+                        cache.getMisses(),
+                        cache.getHitRate()
+                    ));
+                }
+            }
+            default -> sender.sendMessage("§cИспользование: /admin meteor <start|stop|free|clear|reload|stats> [x] [z] | /admin meteor start free [x] [z]");
         }
         return true;
     }
@@ -80,6 +135,9 @@ public class AdminCommand implements CommandExecutor, TabCompleter {
             suggestions.add("start");
             suggestions.add("free");
             suggestions.add("stop");
+            suggestions.add("clear");
+            suggestions.add("reload");
+            suggestions.add("stats");
         } else if (args.length == 3 && args[0].equalsIgnoreCase("meteor") && args[1].equalsIgnoreCase("start")) {
             suggestions.add("free");
         }
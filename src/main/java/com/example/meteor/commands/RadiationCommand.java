@@ -1,20 +1,25 @@
 package com.example.meteor.commands;
 
-import com.example.meteor.world.MeteorManager;
+import com.example.meteor.world.DomeMonitor;
+import com.example.meteor.world.RadiationZone;
+import com.example.meteor.world.ZoneRegistry;
 import org.bukkit.Location;
 import org.bukkit.command.Command;
 import org.bukkit.command.CommandExecutor;
 import org.bukkit.command.CommandSender;
 import org.bukkit.command.TabCompleter;
 import org.bukkit.entity.Player;
+import org.bukkit.util.Vector;
 
 import java.util.List;
 
 public class RadiationCommand implements CommandExecutor, TabCompleter {
-    private final MeteorManager meteorManager;
+    private final ZoneRegistry zones;
+    private final DomeMonitor domeMonitor;
 
-    public RadiationCommand(MeteorManager meteorManager) {
-        this.meteorManager = meteorManager;
+    public RadiationCommand(ZoneRegistry zones, DomeMonitor domeMonitor) {
+        this.zones = zones;
+        this.domeMonitor = domeMonitor;
     }
 
     @Override
@@ -27,11 +32,12 @@ public class RadiationCommand implements CommandExecutor, TabCompleter {
             sender.sendMessage("§cИспользование: /radiation check");
             return true;
         }
-        Location impact = meteorManager.getImpactLocation();
-        if (impact == null) {
+        RadiationZone zone = zones.nearest(player.getLocation());
+        if (zone == null) {
             player.sendMessage("§7Радиация отсутствует.");
             return true;
         }
+        Location impact = zone.getOrigin();
         double distance = player.getLocation().distance(impact);
         String level;
         if (distance <= 10) {
@@ -44,6 +50,20 @@ public class RadiationCommand implements CommandExecutor, TabCompleter {
             level = "§aНизкий";
         }
         player.sendMessage("§6Радиация: " + level + "§6 (" + String.format("%.1f", distance) + "м до ядра)");
+        domeMonitor.requestReport(zone, report -> {
+            if (report == null || !player.isOnline()) {
+                return;
+            }
+            if (report.isComplete()) {
+                player.sendMessage("§aКупол замкнут: " + report.shellSize() + " блоков стекла.");
+                return;
+            }
+            player.sendMessage("§6Купол: §f" + String.format("%.1f", report.coveragePercent()) + "%§6, не хватает §c"
+                + report.missingCount() + "§6 из " + report.shellSize() + " блоков.");
+            for (Vector missing : report.firstMissing()) {
+                player.sendMessage("§7 - X:" + missing.getBlockX() + " Y:" + missing.getBlockY() + " Z:" + missing.getBlockZ());
+            }
+        });
         return true;
     }
 
@@ -1,17 +1,31 @@
 package com.example.meteor.commands;
 
 import com.example.meteor.data.ResearchEntry;
+import com.example.meteor.data.ResearchPage;
 import com.example.meteor.data.ResearchRepository;
+import com.example.meteor.research.MeteorResearchEntry;
+import com.example.meteor.research.MeteorResearchLibrary;
+import com.example.meteor.research.ResearchSearchIndex;
+import com.example.meteor.util.LruCache;
 import org.bukkit.command.Command;
 import org.bukkit.command.CommandExecutor;
 import org.bukkit.command.CommandSender;
 import org.bukkit.command.TabCompleter;
+import org.bukkit.entity.Player;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 public class ResearchCommand implements CommandExecutor, TabCompleter {
+    private static final String USAGE = "§cИспользование: /research [list <page|last>|show <id>|search <слова>|near [радиус]]";
+    private static final int SEARCH_LIMIT = 10;
+    private static final int NEAR_DEFAULT_RADIUS = 256;
+    private static final int NEAR_MAX_RADIUS = 4096;
+    private static final int NEAR_LIMIT = 10;
+
     private final ResearchRepository repository;
+    private final LruCache<String, List<String>> renderedPages = new LruCache<>("research-lines", 64);
 
     public ResearchCommand(ResearchRepository repository) {
         this.repository = repository;
@@ -20,13 +34,15 @@ public class ResearchCommand implements CommandExecutor, TabCompleter {
     @Override
     public boolean onCommand(CommandSender sender, Command command, String label, String[] args) {
         if (args.length == 0) {
-            sender.sendMessage("§cИспользование: /research [list <page>|show <id>]");
+            sender.sendMessage(USAGE);
             return true;
         }
         switch (args[0].toLowerCase()) {
             case "list" -> {
                 int page = 1;
-                if (args.length >= 2) {
+                if (args.length >= 2 && args[1].equalsIgnoreCase("last")) {
+                    page = Integer.MAX_VALUE;
+                } else if (args.length >= 2) {
                     try {
                         page = Integer.parseInt(args[1]);
                     } catch (NumberFormatException e) {
@@ -34,15 +50,15 @@ public class ResearchCommand implements CommandExecutor, TabCompleter {
                         return true;
                     }
                 }
-                List<ResearchEntry> entries = repository.listEntries(page, 6);
-                if (entries.isEmpty()) {
-                    sender.sendMessage("§7Записей не найдено.");
-                    return true;
-                }
-                sender.sendMessage("§6Архив метеоритов (стр. " + page + "):");
-                for (ResearchEntry entry : entries) {
-                    sender.sendMessage("§e#" + entry.id() + " §7" + entry.createdAt() + " §f" + entry.summary());
-                }
+                repository.listPage(page, 6).thenAccept(result -> {
+                    if (result.entries().isEmpty()) {
+                        sender.sendMessage("§7Записей не найдено.");
+                        return;
+                    }
+                    for (String line : render(result)) {
+                        sender.sendMessage(line);
+                    }
+                });
             }
             case "show" -> {
                 if (args.length < 2) {
@@ -51,34 +67,118 @@ public class ResearchCommand implements CommandExecutor, TabCompleter {
                 }
                 int id;
                 try {
-                    id = Integer.parseInt(args[1]);
+                    id = Integer.parseInt(args[1].startsWith("#") ? args[1].substring(1) : args[1]);
                 } catch (NumberFormatException e) {
-                    sender.sendMessage("§cID должен быть числом.");
+                    MeteorResearchEntry entry = MeteorResearchLibrary.get(args[1]);
+                    if (entry == null) {
+                        sender.sendMessage("§cЗапись не найдена.");
+                        return true;
+                    }
+                    for (String line : entry.formatForChat().split("\n")) {
+                        sender.sendMessage(line);
+                    }
                     return true;
                 }
-                ResearchEntry entry = repository.getEntry(id);
-                if (entry == null) {
-                    sender.sendMessage("§cЗапись не найдена.");
+                repository.getEntry(id).thenAccept(found -> {
+                    if (found.isEmpty()) {
+                        sender.sendMessage("§cЗапись не найдена.");
+                        return;
+                    }
+                    ResearchEntry entry = found.get();
+                    sender.sendMessage("§6Запись #" + entry.id());
+                    sender.sendMessage("§7Дата: " + entry.createdAt());
+                    sender.sendMessage("§7Мир: " + entry.world());
+                    sender.sendMessage("§7Координаты: X" + entry.x() + " Y" + entry.y() + " Z" + entry.z());
+                    sender.sendMessage("§fОписание: " + entry.summary());
+                });
+            }
+            case "search" -> {
+                if (args.length < 2) {
+                    sender.sendMessage("§cУкажите слова для поиска.");
+                    return true;
+                }
+                String query = String.join(" ", Arrays.copyOfRange(args, 1, args.length));
+                ResearchSearchIndex.Result result = repository.getSearchIndex().search(query, SEARCH_LIMIT);
+                if (result.total() == 0) {
+                    sender.sendMessage("§7Ничего не найдено.");
                     return true;
                 }
-                sender.sendMessage("§6Запись #" + entry.id());
-                sender.sendMessage("§7Дата: " + entry.createdAt());
-                sender.sendMessage("§7Мир: " + entry.world());
-                sender.sendMessage("§7Координаты: X" + entry.x() + " Y" + entry.y() + " Z" + entry.z());
-                sender.sendMessage("§fОписание: " + entry.summary());
+                sender.sendMessage("§6Найдено записей: " + result.total());
+                for (ResearchSearchIndex.Document document : result.documents()) {
+                    sender.sendMessage("§e" + document.key() + " §7- §f" + document.label());
+                }
+                if (result.total() > result.documents().size()) {
+                    sender.sendMessage("§7Показаны первые " + result.documents().size() + ". Уточните запрос.");
+                }
             }
-            default -> sender.sendMessage("§cИспользование: /research [list <page>|show <id>]");
+            case "near" -> {
+                if (!(sender instanceof Player player)) {
+                    sender.sendMessage("§cКоманда доступна только игроку.");
+                    return true;
+                }
+                int radius = NEAR_DEFAULT_RADIUS;
+                if (args.length >= 2) {
+                    try {
+                        radius = Integer.parseInt(args[1]);
+                    } catch (NumberFormatException e) {
+                        sender.sendMessage("§cРадиус должен быть числом.");
+                        return true;
+                    }
+                    if (radius < 1 || radius > NEAR_MAX_RADIUS) {
+                        sender.sendMessage("§cРадиус должен быть от 1 до " + NEAR_MAX_RADIUS + ".");
+                        return true;
+                    }
+                }
+                int x = player.getLocation().getBlockX();
+                int z = player.getLocation().getBlockZ();
+                int searchRadius = radius;
+                repository.findNear(player.getWorld().getName(), x, z, radius, NEAR_LIMIT).thenAccept(entries -> {
+                    if (entries.isEmpty()) {
+                        sender.sendMessage("§7В радиусе " + searchRadius + " блоков мест падения нет.");
+                        return;
+                    }
+                    sender.sendMessage("§6Места падения в радиусе " + searchRadius + " блоков:");
+                    for (ResearchEntry entry : entries) {
+                        long distance = Math.round(Math.sqrt(ResearchRepository.distanceSquared(entry, x, z)));
+                        sender.sendMessage("§e#" + entry.id() + " §7" + distance + " бл. X" + entry.x() + " Z" + entry.z()
+                            + " §f" + entry.createdAt());
+                    }
+                });
+            }
+            default -> sender.sendMessage(USAGE);
         }
         return true;
     }
 
+    public LruCache<String, List<String>> getRenderedPages() {
+        return renderedPages;
+    }
+
+    // The archive is append-only, so page number plus total count identifies a page's content.
+    private List<String> render(ResearchPage page) {
+        return renderedPages.computeIfAbsent(page.page() + ":" + page.totalCount(), key -> {
+            List<String> lines = new ArrayList<>();
+            lines.add("§6Архив метеоритов (стр. " + page.page() + " из " + page.totalPages() + "):");
+            for (ResearchEntry entry : page.entries()) {
+                lines.add("§e#" + entry.id() + " §7" + entry.createdAt() + " §f" + entry.summary());
+            }
+            return List.copyOf(lines);
+        });
+    }
+
     @Override
     public List<String> onTabComplete(CommandSender sender, Command command, String alias, String[] args) {
         if (args.length == 1) {
-            return List.of("list", "show");
+            return List.of("list", "show", "search", "near");
+        }
+        if (args.length >= 2 && args[0].equalsIgnoreCase("search")) {
+            return repository.getSearchIndex().complete(args[args.length - 1], 20);
         }
         if (args.length == 2 && args[0].equalsIgnoreCase("list")) {
-            return List.of("1", "2", "3");
+            return List.of("1", "2", "3", "last");
+        }
+        if (args.length == 2 && args[0].equalsIgnoreCase("near")) {
+            return List.of("64", "256", "1024");
         }
         return new ArrayList<>();
     }
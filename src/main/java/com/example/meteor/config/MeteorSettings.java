@@ -0,0 +1,218 @@
+package com.example.meteor.config;
+
+import com.example.meteor.util.ConfigHelper;
+import org.bukkit.Material;
+import org.bukkit.Particle;
+import org.bukkit.Sound;
+import org.bukkit.configuration.file.FileConfiguration;
+import org.bukkit.potion.PotionEffectType;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Immutable snapshot of the settings read on repeating tasks. Names are resolved to enum values
+ * once, so ticking code only reads final fields.
+ */
+public record MeteorSettings(Flight flight, Core core, Radiation radiation, Sculk sculk, Dome dome, Particles particles) {
+    public record Flight(
+        int height,
+        int durationSeconds,
+        double bodyRadius,
+        double horizontalOffset,
+        double freeHorizontalOffset,
+        List<Particle> trailParticles,
+        List<Material> bodyMaterials,
+        Sound whistle,
+        Sound rumble,
+        Sound approach,
+        boolean globalShake,
+        int shakeIntervalTicks,
+        double shakeIntensity,
+        double shakeRadius,
+        Particle smoke
+    ) {
+    }
+
+    public record Core(List<Particle> radiationParticles, int emissionCount, double emissionRadius) {
+    }
+
+    public record Radiation(
+        double radius,
+        int progressionSeconds,
+        int halfHeartInterval,
+        int fullHeartInterval,
+        Sound hiss,
+        PotionEffectType nausea,
+        PotionEffectType slowness
+    ) {
+    }
+
+    public record Sculk(
+        boolean enabled,
+        double minExplosionPower,
+        int radius,
+        double startRadius,
+        double maxRadius,
+        int growDurationSeconds,
+        int blocksPerStep,
+        int intervalSeconds,
+        int initialBurstSteps,
+        double initialRadius,
+        boolean igniteOnStep,
+        int igniteTicks,
+        boolean replaceAnySurface,
+        Set<Material> replaceable
+    ) {
+        public double radiusAt(int elapsedSeconds) {
+            if (growDurationSeconds <= 0) {
+                return maxRadius;
+            }
+            double progress = Math.min(1.0, elapsedSeconds / (double) growDurationSeconds);
+            return startRadius + (maxRadius - startRadius) * progress;
+        }
+    }
+
+    public record Dome(int radius, int checkIntervalSeconds, int reportMissingLimit, Set<Material> glassTypes) {
+    }
+
+    public record Particles(double viewDistance, double fullDetailDistance, int playerBudgetPerTick) {
+    }
+
+    public static MeteorSettings from(FileConfiguration config) {
+        return new MeteorSettings(
+            readFlight(config),
+            readCore(config),
+            readRadiation(config),
+            readSculk(config),
+            readDome(config),
+            readParticles(config)
+        );
+    }
+
+    private static Flight readFlight(FileConfiguration config) {
+        List<Material> bodyMaterials = readMaterials(config.getStringList("meteor.flight.body-materials"));
+        return new Flight(
+            config.getInt("meteor.flight.height", 200),
+            config.getInt("meteor.flight.duration-seconds", 10),
+            config.getDouble("meteor.flight.body-radius", 2.1),
+            config.getDouble("meteor.flight.horizontal-offset", 32.0),
+            config.getDouble("meteor.flight.free-horizontal-offset", 52.0),
+            List.copyOf(ConfigHelper.readParticles(config, "meteor.flight.trail-particles")),
+            bodyMaterials.isEmpty() ? List.of(Material.MAGMA_BLOCK) : List.copyOf(bodyMaterials),
+            ConfigHelper.safeSound(config.getString("meteor.flight.whistle-sound"), Sound.ENTITY_ARROW_SHOOT),
+            ConfigHelper.safeSound(config.getString("meteor.flight.rumble-sound"), Sound.ENTITY_PHANTOM_FLAP),
+            ConfigHelper.safeSound(config.getString("meteor.flight.approach-sound"), Sound.ENTITY_GHAST_SHOOT),
+            config.getBoolean("meteor.flight.global-shake", true),
+            Math.max(1, config.getInt("meteor.flight.shake-interval-ticks", 6)),
+            config.getDouble("meteor.flight.shake-intensity", 2.6),
+            config.getDouble("meteor.flight.shake-radius", 120.0),
+            firstParticle("SMOKE_LARGE", "LARGE_SMOKE", "SMOKE_NORMAL", "SMOKE")
+        );
+    }
+
+    private static Core readCore(FileConfiguration config) {
+        return new Core(
+            List.copyOf(ConfigHelper.readParticles(config, "meteor.core.radiation-particles")),
+            Math.max(1, config.getInt("meteor.core.radiation-emission-count", 18)),
+            config.getDouble("meteor.core.radiation-emission-radius", 1.4)
+        );
+    }
+
+    private static Radiation readRadiation(FileConfiguration config) {
+        return new Radiation(
+            config.getDouble("meteor.radiation.radius", 40.0),
+            config.getInt("meteor.radiation.progression-seconds", 20),
+            Math.max(1, config.getInt("meteor.radiation.damage-half-heart-interval", 5)),
+            Math.max(1, config.getInt("meteor.radiation.damage-heart-interval", 3)),
+            ConfigHelper.safeSound("BLOCK_SCULK_SENSOR_CLICKING", Sound.BLOCK_SCULK_SENSOR_CLICKING),
+            ConfigHelper.safePotionEffectType("NAUSEA", "CONFUSION"),
+            ConfigHelper.safePotionEffectType("SLOWNESS", "SLOW")
+        );
+    }
+
+    private static Sculk readSculk(FileConfiguration config) {
+        String path = "meteor.radiation.sculk.";
+        double startRadius = config.getDouble(path + "start-radius", 10.0);
+        Set<Material> replaceable = EnumSet.noneOf(Material.class);
+        replaceable.addAll(readMaterials(config.getStringList(path + "replaceable-blocks")));
+        if (replaceable.isEmpty()) {
+            replaceable.addAll(List.of(
+                Material.STONE,
+                Material.DEEPSLATE,
+                Material.DIRT,
+                Material.GRASS_BLOCK,
+                Material.ANDESITE,
+                Material.DIORITE,
+                Material.GRANITE,
+                Material.TUFF
+            ));
+        }
+        return new Sculk(
+            config.getBoolean(path + "enabled", true),
+            config.getDouble(path + "min-explosion-power", 6.0),
+            config.getInt(path + "radius", 18),
+            startRadius,
+            config.getDouble(path + "max-radius", 24.0),
+            config.getInt(path + "grow-duration-seconds", 600),
+            config.getInt(path + "blocks-per-step", 6),
+            Math.max(1, config.getInt(path + "interval-seconds", 8)),
+            Math.max(1, config.getInt(path + "initial-burst-steps", 6)),
+            config.getDouble(path + "initial-radius", startRadius),
+            config.getBoolean(path + "ignite-on-step", true),
+            Math.max(0, config.getInt(path + "ignite-ticks", 60)),
+            config.getBoolean(path + "replace-any-surface", true),
+            Collections.unmodifiableSet(replaceable)
+        );
+    }
+
+    private static Dome readDome(FileConfiguration config) {
+        Set<Material> glassTypes = EnumSet.noneOf(Material.class);
+        glassTypes.addAll(readMaterials(config.getStringList("meteor.dome.glass-types")));
+        for (Material material : Material.values()) {
+            if (material.isBlock() && material.name().contains("GLASS")) {
+                glassTypes.add(material);
+            }
+        }
+        return new Dome(
+            config.getInt("meteor.dome.radius", 15),
+            Math.max(1, config.getInt("meteor.dome.check-interval-seconds", 60)),
+            config.getInt("meteor.dome.report-missing-limit", 5),
+            Collections.unmodifiableSet(glassTypes)
+        );
+    }
+
+    private static Particles readParticles(FileConfiguration config) {
+        double viewDistance = Math.max(1.0, config.getDouble("meteor.particles.view-distance", 32.0));
+        return new Particles(
+            viewDistance,
+            Math.min(viewDistance, Math.max(0.0, config.getDouble("meteor.particles.full-detail-distance", 12.0))),
+            Math.max(1, config.getInt("meteor.particles.player-budget-per-tick", 400))
+        );
+    }
+
+    private static List<Material> readMaterials(List<String> names) {
+        List<Material> materials = new ArrayList<>();
+        for (String name : names) {
+            Material material = Material.matchMaterial(name);
+            if (material != null) {
+                materials.add(material);
+            }
+        }
+        return materials;
+    }
+
+    private static Particle firstParticle(String... names) {
+        for (String name : names) {
+            try {
+                return Particle.valueOf(name);
+            } catch (IllegalArgumentException ignored) {
+                // Try next fallback.
+            }
+        }
+        return null;
+    }
+}
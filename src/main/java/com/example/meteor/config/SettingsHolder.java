@@ -0,0 +1,30 @@
+package com.example.meteor.config;
+
+import org.bukkit.plugin.Plugin;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Owns the current {@link MeteorSettings}. A reload compiles a complete new snapshot before
+ * swapping it in, so running tasks see either the old settings or the new ones.
+ */
+public class SettingsHolder {
+    private final Plugin plugin;
+    private final AtomicReference<MeteorSettings> current = new AtomicReference<>();
+
+    public SettingsHolder(Plugin plugin) {
+        this.plugin = plugin;
+        current.set(MeteorSettings.from(plugin.getConfig()));
+    }
+
+    public MeteorSettings get() {
+        return current.get();
+    }
+
+    public MeteorSettings reload() {
+        plugin.reloadConfig();
+        MeteorSettings settings = MeteorSettings.from(plugin.getConfig());
+        current.set(settings);
+        return settings;
+    }
+}
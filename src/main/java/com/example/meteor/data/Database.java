@@ -0,0 +1,302 @@
+package com.example.meteor.data;
+
+import org.bukkit.plugin.Plugin;
+
+import java.io.File;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * One long-lived SQLite connection shared by every store. All work runs on a single worker thread,
+ * so the connection and the prepared statement cache are never touched concurrently.
+ */
+public class Database {
+    private static final int SCHEMA_VERSION = 4;
+
+    private final Plugin plugin;
+    private final File file;
+    private final ExecutorService executor;
+    private final Map<String, PreparedStatement> statements = new HashMap<>();
+    private volatile Thread worker;
+    private Connection connection;
+
+    @FunctionalInterface
+    public interface SqlTask<T> {
+        T run(Database database) throws SQLException;
+    }
+
+    public Database(Plugin plugin, File file) {
+        this.plugin = plugin;
+        this.file = file;
+        this.executor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "Meteor-Database");
+            thread.setDaemon(true);
+            worker = thread;
+            return thread;
+        });
+    }
+
+    public boolean open() {
+        File folder = file.getParentFile();
+        if (folder != null && !folder.exists() && !folder.mkdirs()) {
+            plugin.getLogger().severe("Failed to create data folder for " + file.getName());
+            return false;
+        }
+        try {
+            call(database -> {
+                connection = DriverManager.getConnection("jdbc:sqlite:" + file.getAbsolutePath());
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("PRAGMA journal_mode=WAL");
+                    statement.execute("PRAGMA synchronous=NORMAL");
+                }
+                migrate();
+                return null;
+            });
+            return true;
+        } catch (SQLException e) {
+            plugin.getLogger().severe("Failed to open database " + file.getName() + ": " + e.getMessage());
+            return false;
+        }
+    }
+
+    public <T> CompletableFuture<T> submit(SqlTask<T> task) {
+        try {
+            return CompletableFuture.supplyAsync(() -> {
+                try {
+                    return task.run(this);
+                } catch (SQLException e) {
+                    throw new CompletionException(e);
+                }
+            }, executor);
+        } catch (RejectedExecutionException e) {
+            return CompletableFuture.failedFuture(new SQLException("Database is closed"));
+        }
+    }
+
+    public <T> T call(SqlTask<T> task) throws SQLException {
+        if (Thread.currentThread() == worker) {
+            return task.run(this);
+        }
+        try {
+            return submit(task).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof SQLException sqlException) {
+                throw sqlException;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Returns a cached statement for the given SQL. Only valid inside a task; callers close the
+     * result sets they open but never the statement itself.
+     */
+    public PreparedStatement statement(String sql) throws SQLException {
+        if (connection == null) {
+            throw new SQLException("Database is not open");
+        }
+        PreparedStatement statement = statements.get(sql);
+        if (statement == null) {
+            statement = connection.prepareStatement(sql);
+            statements.put(sql, statement);
+        }
+        return statement;
+    }
+
+    public <T> T inTransaction(SqlTask<T> task) throws SQLException {
+        connection.setAutoCommit(false);
+        try {
+            T result = task.run(this);
+            connection.commit();
+            return result;
+        } catch (SQLException | RuntimeException e) {
+            connection.rollback();
+            throw e;
+        } finally {
+            connection.setAutoCommit(true);
+        }
+    }
+
+    public void close() {
+        try {
+            call(database -> {
+                for (PreparedStatement statement : statements.values()) {
+                    statement.close();
+                }
+                statements.clear();
+                if (connection != null) {
+                    connection.close();
+                    connection = null;
+                }
+                return null;
+            });
+        } catch (SQLException e) {
+            plugin.getLogger().warning("Failed to close database: " + e.getMessage());
+        }
+        executor.shutdown();
+        try {
+            executor.awaitTermination(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void migrate() throws SQLException {
+        int version;
+        try (Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery("PRAGMA user_version")) {
+            version = rs.next() ? rs.getInt(1) : 0;
+        }
+        if (version < 1) {
+            inTransaction(database -> {
+                createSchema();
+                return null;
+            });
+        }
+        if (version < 2) {
+            importLegacy("meteor-data.db", "meteor_zone", "id, world, x, y, z, impact_time, stage");
+            importLegacy("meteor-data.db", "radiation_levels", "uuid, level");
+            importLegacy("research.db", "meteor_research", "id, created_at, world, x, y, z, summary");
+        }
+        if (version < 3) {
+            inTransaction(database -> {
+                createSpatialIndex();
+                return null;
+            });
+        }
+        if (version < 4) {
+            inTransaction(database -> {
+                rebuildZoneTable();
+                return null;
+            });
+        }
+        if (version < SCHEMA_VERSION) {
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("PRAGMA user_version = " + SCHEMA_VERSION);
+            }
+            plugin.getLogger().info("Database schema migrated from version " + version + " to " + SCHEMA_VERSION);
+        }
+    }
+
+    private void createSchema() throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("""
+                CREATE TABLE IF NOT EXISTS meteor_zone (
+                  id INTEGER PRIMARY KEY CHECK (id = 1),
+                  world TEXT NOT NULL,
+                  x REAL NOT NULL,
+                  y REAL NOT NULL,
+                  z REAL NOT NULL,
+                  impact_time INTEGER NOT NULL,
+                  stage TEXT NOT NULL
+                )
+                """);
+            statement.execute("""
+                CREATE TABLE IF NOT EXISTS radiation_levels (
+                  uuid TEXT PRIMARY KEY,
+                  level INTEGER NOT NULL
+                )
+                """);
+            statement.execute("""
+                CREATE TABLE IF NOT EXISTS settings (
+                  key TEXT PRIMARY KEY,
+                  value TEXT NOT NULL
+                )
+                """);
+            statement.execute("""
+                CREATE TABLE IF NOT EXISTS meteor_research (
+                  id INTEGER PRIMARY KEY AUTOINCREMENT,
+                  created_at TEXT NOT NULL,
+                  world TEXT NOT NULL,
+                  x INTEGER NOT NULL,
+                  y INTEGER NOT NULL,
+                  z INTEGER NOT NULL,
+                  summary TEXT NOT NULL
+                )
+                """);
+        }
+    }
+
+    // Impacts are points, so each R*Tree box is degenerate; only x and z are indexed.
+    private void createSpatialIndex() throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute(
+                "CREATE VIRTUAL TABLE IF NOT EXISTS meteor_research_rtree USING rtree(id, min_x, max_x, min_z, max_z)"
+            );
+            statement.execute(
+                "INSERT OR REPLACE INTO meteor_research_rtree (id, min_x, max_x, min_z, max_z) SELECT id, x, x, z, z FROM meteor_research"
+            );
+        }
+    }
+
+    // Drops the single-row CHECK so every active zone gets its own row, and tracks zone progress.
+    private void rebuildZoneTable() throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("""
+                CREATE TABLE meteor_zone_new (
+                  id INTEGER PRIMARY KEY AUTOINCREMENT,
+                  world TEXT NOT NULL,
+                  x REAL NOT NULL,
+                  y REAL NOT NULL,
+                  z REAL NOT NULL,
+                  impact_time INTEGER NOT NULL,
+                  stage TEXT NOT NULL,
+                  elapsed_seconds INTEGER NOT NULL DEFAULT 0
+                )
+                """);
+            statement.execute(
+                "INSERT INTO meteor_zone_new (id, world, x, y, z, impact_time, stage) SELECT id, world, x, y, z, impact_time, stage FROM meteor_zone"
+            );
+            statement.execute("DROP TABLE meteor_zone");
+            statement.execute("ALTER TABLE meteor_zone_new RENAME TO meteor_zone");
+        }
+    }
+
+    private void importLegacy(String fileName, String table, String columns) throws SQLException {
+        File legacy = new File(file.getParentFile(), fileName);
+        if (!legacy.isFile() || legacy.equals(file)) {
+            return;
+        }
+        try (PreparedStatement attach = connection.prepareStatement("ATTACH DATABASE ? AS legacy")) {
+            attach.setString(1, legacy.getAbsolutePath());
+            attach.execute();
+        }
+        try {
+            boolean present;
+            try (PreparedStatement lookup = connection.prepareStatement(
+                "SELECT 1 FROM legacy.sqlite_master WHERE type = 'table' AND name = ?"
+            )) {
+                lookup.setString(1, table);
+                try (ResultSet rs = lookup.executeQuery()) {
+                    present = rs.next();
+                }
+            }
+            if (present) {
+                int copied = inTransaction(database -> {
+                    try (Statement statement = connection.createStatement()) {
+                        return statement.executeUpdate(
+                            "INSERT OR IGNORE INTO " + table + " (" + columns + ") SELECT " + columns + " FROM legacy." + table
+                        );
+                    }
+                });
+                plugin.getLogger().info("Imported " + copied + " rows into " + table + " from " + fileName);
+            }
+        } finally {
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("DETACH DATABASE legacy");
+            }
+        }
+    }
+}
@@ -0,0 +1,6 @@
+package com.example.meteor.data;
+
+import java.util.List;
+
+public record ResearchPage(int page, int totalPages, long totalCount, List<ResearchEntry> entries) {
+}
@@ -1,130 +1,338 @@
 package com.example.meteor.data;
 
+import com.example.meteor.research.MeteorResearchEntry;
+import com.example.meteor.research.MeteorResearchLibrary;
+import com.example.meteor.research.ResearchSearchIndex;
+import com.example.meteor.util.LruCache;
+import org.bukkit.Bukkit;
 import org.bukkit.plugin.Plugin;
 
-import java.io.File;
 import java.sql.*;
 import java.time.Instant;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicLong;
 
 public class ResearchRepository {
+    private static final int RECENT_IMPACTS = 32;
+    private static final int MAX_ANCHORS = 4096;
+
     private final Plugin plugin;
-    private Connection connection;
+    private final Database database;
+    private final Executor mainThread;
+    private final LruCache<Integer, ResearchEntry> entryCache = new LruCache<>("research-entries", 256);
+    private final LruCache<PageKey, ResearchPage> pageCache = new LruCache<>("research-pages", 64);
+    private final AtomicLong generation = new AtomicLong();
+    private final ResearchSearchIndex searchIndex = new ResearchSearchIndex();
+    // Newest first; replaced wholesale on the database thread and read from the main thread.
+    private volatile List<ResearchEntry> recentImpacts = List.of();
+    // Archive bounds, and ids known by rank (0 = oldest). Entries are only ever appended with a
+    // higher id, so a known rank stays valid. Only touched on the database thread.
+    private final TreeMap<Integer, Integer> anchors = new TreeMap<>();
+    private long count = -1;
+    private int minId;
+    private int maxId;
 
-    public ResearchRepository(Plugin plugin) {
+    public ResearchRepository(Plugin plugin, Database database) {
         this.plugin = plugin;
+        this.database = database;
+        this.mainThread = task -> {
+            if (plugin.isEnabled()) {
+                Bukkit.getScheduler().runTask(plugin, task);
+            }
+        };
     }
 
-    public void init() {
-        try {
-            File dataFolder = plugin.getDataFolder();
-            if (!dataFolder.exists()) {
-                dataFolder.mkdirs();
-            }
-            File dbFile = new File(dataFolder, "research.db");
-            connection = DriverManager.getConnection("jdbc:sqlite:" + dbFile.getAbsolutePath());
-            try (Statement statement = connection.createStatement()) {
-                statement.executeUpdate("""
-                    CREATE TABLE IF NOT EXISTS meteor_research (
-                        id INTEGER PRIMARY KEY AUTOINCREMENT,
-                        created_at TEXT NOT NULL,
-                        world TEXT NOT NULL,
-                        x INTEGER NOT NULL,
-                        y INTEGER NOT NULL,
-                        z INTEGER NOT NULL,
-                        summary TEXT NOT NULL
-                    )
-                    """);
+    public CompletableFuture<Void> addEntry(String world, int x, int y, int z, String summary) {
+        String createdAt = Instant.now().toString();
+        generation.incrementAndGet();
+        pageCache.invalidateAll();
+        return database.submit(db -> {
+            int id = db.inTransaction(tx -> {
+                PreparedStatement statement = tx.statement(
+                    "INSERT INTO meteor_research (created_at, world, x, y, z, summary) VALUES (?, ?, ?, ?, ?, ?)"
+                );
+                statement.setString(1, createdAt);
+                statement.setString(2, world);
+                statement.setInt(3, x);
+                statement.setInt(4, y);
+                statement.setInt(5, z);
+                statement.setString(6, summary);
+                statement.executeUpdate();
+                int inserted;
+                try (ResultSet rs = tx.statement("SELECT last_insert_rowid()").executeQuery()) {
+                    inserted = rs.next() ? rs.getInt(1) : maxId + 1;
+                }
+                PreparedStatement spatial = tx.statement(
+                    "INSERT INTO meteor_research_rtree (id, min_x, max_x, min_z, max_z) VALUES (?, ?, ?, ?, ?)"
+                );
+                spatial.setInt(1, inserted);
+                spatial.setInt(2, x);
+                spatial.setInt(3, x);
+                spatial.setInt(4, z);
+                spatial.setInt(5, z);
+                spatial.executeUpdate();
+                return inserted;
+            });
+            if (count >= 0) {
+                anchors.put((int) count, id);
+                minId = count == 0 ? id : minId;
+                maxId = id;
+                count++;
             }
-        } catch (SQLException e) {
-            plugin.getLogger().severe("Failed to initialize research DB: " + e.getMessage());
-        }
+            searchIndex.add("#" + id, summary, summary, world);
+            List<ResearchEntry> recent = new ArrayList<>(RECENT_IMPACTS);
+            recent.add(new ResearchEntry(id, createdAt, world, x, y, z, summary));
+            recent.addAll(recentImpacts.subList(0, Math.min(recentImpacts.size(), RECENT_IMPACTS - 1)));
+            recentImpacts = List.copyOf(recent);
+            return (Void) null;
+        }).exceptionally(e -> {
+            plugin.getLogger().warning("Failed to insert research entry: " + e.getMessage());
+            return null;
+        });
     }
 
-    public void addEntry(String world, int x, int y, int z, String summary) {
-        if (connection == null) {
-            return;
-        }
-        try (PreparedStatement statement = connection.prepareStatement(
-            "INSERT INTO meteor_research (created_at, world, x, y, z, summary) VALUES (?, ?, ?, ?, ?, ?)"
-        )) {
-            statement.setString(1, Instant.now().toString());
-            statement.setString(2, world);
-            statement.setInt(3, x);
-            statement.setInt(4, y);
-            statement.setInt(5, z);
-            statement.setString(6, summary);
-            statement.executeUpdate();
-        } catch (SQLException e) {
-            plugin.getLogger().warning("Failed to insert research entry: " + e.getMessage());
+    /**
+     * Newest-first page by id seek. Pages past the end are clamped to the last page. Completes
+     * on the main thread.
+     */
+    public CompletableFuture<ResearchPage> listPage(int page, int pageSize) {
+        PageKey key = new PageKey(page, pageSize);
+        ResearchPage cached = pageCache.get(key);
+        if (cached != null) {
+            return CompletableFuture.completedFuture(cached);
         }
+        long requestGeneration = generation.get();
+        return database.submit(db -> {
+            loadBounds(db);
+            int totalPages = (int) Math.max(1, (count + pageSize - 1) / pageSize);
+            int target = Math.max(1, Math.min(page, totalPages));
+            // Ranks of the page's newest and oldest entries.
+            int top = (int) (count - 1 - (long) (target - 1) * pageSize);
+            int bottom = Math.max(0, top - pageSize + 1);
+            List<ResearchEntry> entries;
+            if (count == 0) {
+                entries = new ArrayList<>();
+            } else if (maxId - minId + 1 == count) {
+                entries = seekDown(db, minId + top + 1, 0, top - bottom + 1);
+            } else {
+                entries = seekFromAnchor(db, top, bottom);
+            }
+            if (!entries.isEmpty()) {
+                if (anchors.size() >= MAX_ANCHORS) {
+                    anchors.clear();
+                }
+                anchors.put(top, entries.get(0).id());
+                anchors.put(top - entries.size() + 1, entries.get(entries.size() - 1).id());
+            }
+            return new ResearchPage(target, totalPages, count, entries);
+        }).thenApply(result -> {
+            for (ResearchEntry entry : result.entries()) {
+                entryCache.put(entry.id(), entry);
+            }
+            if (generation.get() == requestGeneration) {
+                pageCache.put(key, result);
+            }
+            return result;
+        }).exceptionally(e -> {
+            plugin.getLogger().warning("Failed to list research entries: " + e.getMessage());
+            return new ResearchPage(1, 1, 0, new ArrayList<>());
+        }).thenApplyAsync(result -> result, mainThread);
     }
 
-    public List<ResearchEntry> listEntries(int page, int pageSize) {
-        List<ResearchEntry> entries = new ArrayList<>();
-        if (connection == null) {
-            return entries;
-        }
-        int offset = Math.max(page - 1, 0) * pageSize;
-        try (PreparedStatement statement = connection.prepareStatement(
-            "SELECT id, created_at, world, x, y, z, summary FROM meteor_research ORDER BY id DESC LIMIT ? OFFSET ?"
-        )) {
-            statement.setInt(1, pageSize);
-            statement.setInt(2, offset);
-            try (ResultSet rs = statement.executeQuery()) {
+    /**
+     * Indexes the research library and every archived entry. Runs on the database thread, ahead of
+     * any entry added afterwards.
+     */
+    public CompletableFuture<Void> buildSearchIndex() {
+        return database.submit(db -> {
+            long started = System.nanoTime();
+            for (MeteorResearchEntry entry : MeteorResearchLibrary.list()) {
+                searchIndex.add(entry.id(), entry.title(), entry.id(), entry.title(), entry.summary(),
+                    String.join(" ", entry.tasks()), entry.reward(), entry.risk());
+            }
+            try (ResultSet rs = db.statement("SELECT id, world, summary FROM meteor_research ORDER BY id").executeQuery()) {
                 while (rs.next()) {
-                    entries.add(new ResearchEntry(
-                        rs.getInt("id"),
-                        rs.getString("created_at"),
-                        rs.getString("world"),
-                        rs.getInt("x"),
-                        rs.getInt("y"),
-                        rs.getInt("z"),
-                        rs.getString("summary")
-                    ));
+                    String summary = rs.getString("summary");
+                    searchIndex.add("#" + rs.getInt("id"), summary, summary, rs.getString("world"));
                 }
             }
-        } catch (SQLException e) {
-            plugin.getLogger().warning("Failed to list research entries: " + e.getMessage());
-        }
-        return entries;
+            plugin.getLogger().info("Indexed " + searchIndex.getDocumentCount() + " research documents ("
+                + searchIndex.getTokenCount() + " words) in " + (System.nanoTime() - started) / 1_000_000L + " ms");
+            return (Void) null;
+        }).exceptionally(e -> {
+            plugin.getLogger().warning("Failed to build research search index: " + e.getMessage());
+            return null;
+        });
     }
 
-    public ResearchEntry getEntry(int id) {
-        if (connection == null) {
+    public CompletableFuture<Void> loadRecentImpacts() {
+        return database.submit(db -> {
+            recentImpacts = List.copyOf(seekDown(db, Integer.MAX_VALUE, 0, RECENT_IMPACTS));
+            return (Void) null;
+        }).exceptionally(e -> {
+            plugin.getLogger().warning("Failed to load recent impacts: " + e.getMessage());
             return null;
+        });
+    }
+
+    /**
+     * The latest impacts, newest first. Served from memory, so it is safe to call while picking an
+     * impact site on the main thread.
+     */
+    public List<ResearchEntry> getRecentImpacts() {
+        return recentImpacts;
+    }
+
+    /**
+     * Entries in the given world within radius blocks of x/z (horizontal distance), nearest first.
+     * Candidates come from the R*Tree bounding-box lookup. Completes on the main thread.
+     */
+    public CompletableFuture<List<ResearchEntry>> findNear(String world, int x, int z, int radius, int limit) {
+        return database.submit(db -> {
+            PreparedStatement statement = db.statement(
+                "SELECT r.id, r.created_at, r.world, r.x, r.y, r.z, r.summary FROM meteor_research_rtree t "
+                    + "JOIN meteor_research r ON r.id = t.id "
+                    + "WHERE t.max_x >= ? AND t.min_x <= ? AND t.max_z >= ? AND t.min_z <= ? AND r.world = ?"
+            );
+            statement.setInt(1, x - radius);
+            statement.setInt(2, x + radius);
+            statement.setInt(3, z - radius);
+            statement.setInt(4, z + radius);
+            statement.setString(5, world);
+            long radiusSquared = (long) radius * radius;
+            List<ResearchEntry> entries = new ArrayList<>();
+            try (ResultSet rs = statement.executeQuery()) {
+                while (rs.next()) {
+                    ResearchEntry entry = read(rs);
+                    if (distanceSquared(entry, x, z) <= radiusSquared) {
+                        entries.add(entry);
+                    }
+                }
+            }
+            entries.sort(Comparator.comparingLong(entry -> distanceSquared(entry, x, z)));
+            return entries.size() > limit ? new ArrayList<>(entries.subList(0, limit)) : entries;
+        }).exceptionally(e -> {
+            plugin.getLogger().warning("Failed to find nearby research entries: " + e.getMessage());
+            return new ArrayList<>();
+        }).thenApplyAsync(entries -> entries, mainThread);
+    }
+
+    public static long distanceSquared(ResearchEntry entry, int x, int z) {
+        long dx = entry.x() - x;
+        long dz = entry.z() - z;
+        return dx * dx + dz * dz;
+    }
+
+    public ResearchSearchIndex getSearchIndex() {
+        return searchIndex;
+    }
+
+    /**
+     * Completes on the main thread.
+     */
+    public CompletableFuture<Optional<ResearchEntry>> getEntry(int id) {
+        ResearchEntry cached = entryCache.get(id);
+        if (cached != null) {
+            return CompletableFuture.completedFuture(Optional.of(cached));
         }
-        try (PreparedStatement statement = connection.prepareStatement(
-            "SELECT id, created_at, world, x, y, z, summary FROM meteor_research WHERE id = ?"
-        )) {
+        return database.submit(db -> {
+            PreparedStatement statement = db.statement(
+                "SELECT id, created_at, world, x, y, z, summary FROM meteor_research WHERE id = ?"
+            );
             statement.setInt(1, id);
             try (ResultSet rs = statement.executeQuery()) {
-                if (rs.next()) {
-                    return new ResearchEntry(
-                        rs.getInt("id"),
-                        rs.getString("created_at"),
-                        rs.getString("world"),
-                        rs.getInt("x"),
-                        rs.getInt("y"),
-                        rs.getInt("z"),
-                        rs.getString("summary")
-                    );
-                }
+                return rs.next() ? Optional.of(read(rs)) : Optional.<ResearchEntry>empty();
             }
-        } catch (SQLException e) {
+        }).thenApply(result -> {
+            result.ifPresent(entry -> entryCache.put(entry.id(), entry));
+            return result;
+        }).exceptionally(e -> {
             plugin.getLogger().warning("Failed to get research entry: " + e.getMessage());
+            return Optional.empty();
+        }).thenApplyAsync(entry -> entry, mainThread);
+    }
+
+    public List<LruCache<?, ?>> getCaches() {
+        return List.of(entryCache, pageCache);
+    }
+
+    private void loadBounds(Database db) throws SQLException {
+        if (count >= 0) {
+            return;
+        }
+        try (ResultSet rs = db.statement("SELECT COUNT(*), MIN(id), MAX(id) FROM meteor_research").executeQuery()) {
+            rs.next();
+            count = rs.getLong(1);
+            minId = rs.getInt(2);
+            maxId = rs.getInt(3);
         }
-        return null;
     }
 
-    public void close() {
-        if (connection != null) {
-            try {
-                connection.close();
-            } catch (SQLException e) {
-                plugin.getLogger().warning("Failed to close research DB: " + e.getMessage());
+    /**
+     * Seeks from the nearest known id above or below the wanted ranks, so paging to a neighbouring
+     * page reads only that page.
+     */
+    private List<ResearchEntry> seekFromAnchor(Database db, int top, int bottom) throws SQLException {
+        Map.Entry<Integer, Integer> above = anchors.higherEntry(top);
+        Map.Entry<Integer, Integer> below = anchors.lowerEntry(bottom);
+        int skipFromAbove = (above == null ? (int) count : above.getKey()) - top - 1;
+        int skipFromBelow = bottom - (below == null ? -1 : below.getKey()) - 1;
+        int limit = top - bottom + 1;
+        if (skipFromAbove <= skipFromBelow) {
+            return seekDown(db, above == null ? Integer.MAX_VALUE : above.getValue(), skipFromAbove, limit);
+        }
+        List<ResearchEntry> entries = seekUp(db, below == null ? Integer.MIN_VALUE : below.getValue(), skipFromBelow, limit);
+        Collections.reverse(entries);
+        return entries;
+    }
+
+    private static List<ResearchEntry> seekDown(Database db, int belowId, int skip, int limit) throws SQLException {
+        PreparedStatement statement = db.statement(
+            "SELECT id, created_at, world, x, y, z, summary FROM meteor_research WHERE id < ? ORDER BY id DESC LIMIT ? OFFSET ?"
+        );
+        return readPage(statement, belowId, skip, limit);
+    }
+
+    private static List<ResearchEntry> seekUp(Database db, int aboveId, int skip, int limit) throws SQLException {
+        PreparedStatement statement = db.statement(
+            "SELECT id, created_at, world, x, y, z, summary FROM meteor_research WHERE id > ? ORDER BY id ASC LIMIT ? OFFSET ?"
+        );
+        return readPage(statement, aboveId, skip, limit);
+    }
+
+    private static List<ResearchEntry> readPage(PreparedStatement statement, int boundId, int skip, int limit) throws SQLException {
+        statement.setInt(1, boundId);
+        statement.setInt(2, limit);
+        statement.setInt(3, skip);
+        List<ResearchEntry> entries = new ArrayList<>();
+        try (ResultSet rs = statement.executeQuery()) {
+            while (rs.next()) {
+                entries.add(read(rs));
             }
         }
+        return entries;
+    }
+
+    private static ResearchEntry read(ResultSet rs) throws SQLException {
+        return new ResearchEntry(
+            rs.getInt("id"),
+            rs.getString("created_at"),
+            rs.getString("world"),
+            rs.getInt("x"),
+            rs.getInt("y"),
+            rs.getInt("z"),
+            rs.getString("summary")
+        );
+    }
+
+    private record PageKey(int page, int pageSize) {
     }
 }
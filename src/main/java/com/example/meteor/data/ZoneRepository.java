@@ -0,0 +1,120 @@
+package com.example.meteor.data;
+
+import org.bukkit.Bukkit;
+import org.bukkit.plugin.Plugin;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+/**
+ * One {@code meteor_zone} row per active radiation zone.
+ */
+public class ZoneRepository {
+    public static final String STAGE_ACTIVE = "IMPACTED";
+
+    private final Plugin plugin;
+    private final Database database;
+    private final Executor mainThread;
+
+    public ZoneRepository(Plugin plugin, Database database) {
+        this.plugin = plugin;
+        this.database = database;
+        this.mainThread = task -> {
+            if (plugin.isEnabled()) {
+                Bukkit.getScheduler().runTask(plugin, task);
+            }
+        };
+    }
+
+    /**
+     * Completes on the main thread with the new row id.
+     */
+    public CompletableFuture<Integer> insert(String world, double x, double y, double z, long impactTime) {
+        return database.submit(db -> {
+            PreparedStatement statement = db.statement(
+                "INSERT INTO meteor_zone (world, x, y, z, impact_time, stage, elapsed_seconds) VALUES (?, ?, ?, ?, ?, ?, 0)"
+            );
+            statement.setString(1, world);
+            statement.setDouble(2, x);
+            statement.setDouble(3, y);
+            statement.setDouble(4, z);
+            statement.setLong(5, impactTime);
+            statement.setString(6, STAGE_ACTIVE);
+            statement.executeUpdate();
+            try (ResultSet rs = db.statement("SELECT last_insert_rowid()").executeQuery()) {
+                if (!rs.next()) {
+                    throw new SQLException("No row id for inserted zone");
+                }
+                return rs.getInt(1);
+            }
+        }).thenApplyAsync(id -> id, mainThread);
+    }
+
+    /**
+     * Completes on the main thread.
+     */
+    public CompletableFuture<List<StoredZone>> loadActive() {
+        return database.submit(db -> {
+            PreparedStatement statement = db.statement(
+                "SELECT id, world, x, y, z, impact_time, elapsed_seconds FROM meteor_zone WHERE stage = ? ORDER BY id"
+            );
+            statement.setString(1, STAGE_ACTIVE);
+            List<StoredZone> zones = new ArrayList<>();
+            try (ResultSet rs = statement.executeQuery()) {
+                while (rs.next()) {
+                    zones.add(new StoredZone(
+                        rs.getInt("id"),
+                        rs.getString("world"),
+                        rs.getDouble("x"),
+                        rs.getDouble("y"),
+                        rs.getDouble("z"),
+                        rs.getLong("impact_time"),
+                        rs.getInt("elapsed_seconds")
+                    ));
+                }
+            }
+            return zones;
+        }).exceptionally(e -> {
+            plugin.getLogger().warning("Failed to load radiation zones: " + e.getMessage());
+            return new ArrayList<>();
+        }).thenApplyAsync(zones -> zones, mainThread);
+    }
+
+    public void saveProgress(Map<Integer, Integer> elapsedById) {
+        if (elapsedById.isEmpty()) {
+            return;
+        }
+        database.submit(db -> db.inTransaction(tx -> {
+            PreparedStatement statement = tx.statement("UPDATE meteor_zone SET elapsed_seconds = ? WHERE id = ?");
+            for (Map.Entry<Integer, Integer> entry : elapsedById.entrySet()) {
+                statement.setInt(1, entry.getValue());
+                statement.setInt(2, entry.getKey());
+                statement.addBatch();
+            }
+            return statement.executeBatch();
+        })).exceptionally(e -> {
+            plugin.getLogger().warning("Failed to save radiation zone progress: " + e.getMessage());
+            return null;
+        });
+    }
+
+    public void delete(int id) {
+        database.submit(db -> {
+            PreparedStatement statement = db.statement("DELETE FROM meteor_zone WHERE id = ?");
+            statement.setInt(1, id);
+            return statement.executeUpdate();
+        }).exceptionally(e -> {
+            plugin.getLogger().warning("Failed to delete radiation zone " + id + ": " + e.getMessage());
+            return null;
+        });
+    }
+
+    public record StoredZone(int id, String world, double x, double y, double z, long impactTime, int elapsedSeconds) {
+    }
+}
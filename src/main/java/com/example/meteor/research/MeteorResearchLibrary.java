@@ -1,6630 +1,207 @@
 package com.example.meteor.research;
 
-import java.util.Collections;
-import java.util.LinkedHashMap;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.RandomAccess;
 
+/**
+ * Research entries packed in {@code research-library.tsv}. The resource is indexed by line offset
+ * on first use; entries are decoded and their {n} placeholders expanded only when requested.
+ */
 public final class MeteorResearchLibrary {
-    private static final Map<String, MeteorResearchEntry> ENTRIES = buildEntries();
+    private static final String RESOURCE = "research-library.tsv";
 
     private MeteorResearchLibrary() {
     }
 
     public static MeteorResearchEntry get(String id) {
-        return ENTRIES.get(id);
+        Index index = Index.INSTANCE;
+        Integer position = index.positions.get(id);
+        return position == null ? null : index.entry(position);
     }
 
+    /**
+     * Read-only view in library order; entries are decoded as they are accessed.
+     */
     public static List<MeteorResearchEntry> list() {
-        return List.copyOf(ENTRIES.values());
+        return Index.INSTANCE.view;
+    }
+
+    /**
+     * View of one 1-based page, or an empty list when the page is out of range.
+     */
+    public static List<MeteorResearchEntry> page(int page, int pageSize) {
+        List<MeteorResearchEntry> view = Index.INSTANCE.view;
+        int from = (page - 1) * pageSize;
+        if (page < 1 || pageSize < 1 || from >= view.size()) {
+            return List.of();
+        }
+        return view.subList(from, Math.min(from + pageSize, view.size()));
+    }
+
+    public static int pageCount(int pageSize) {
+        return (size() + pageSize - 1) / pageSize;
     }
 
     public static int size() {
-        return ENTRIES.size();
+        return Index.INSTANCE.size;
     }
 
-    private static Map<String, MeteorResearchEntry> buildEntries() {
-        Map<String, MeteorResearchEntry> entries = new LinkedHashMap<>();
-        entries.put("research-001", new MeteorResearchEntry(
-            "research-001",
-            "Сектор наблюдения 001",
-            "Артефактный отчёт №001: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 001.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 001.",
-            "Риск: нестабильное поле плазмы в секторе 001."
-        ));
-        entries.put("research-002", new MeteorResearchEntry(
-            "research-002",
-            "Сектор наблюдения 002",
-            "Артефактный отчёт №002: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 002.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 002.",
-            "Риск: нестабильное поле плазмы в секторе 002."
-        ));
-        entries.put("research-003", new MeteorResearchEntry(
-            "research-003",
-            "Сектор наблюдения 003",
-            "Артефактный отчёт №003: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 003.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 003.",
-            "Риск: нестабильное поле плазмы в секторе 003."
-        ));
-        entries.put("research-004", new MeteorResearchEntry(
-            "research-004",
-            "Сектор наблюдения 004",
-            "Артефактный отчёт №004: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 004.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 004.",
-            "Риск: нестабильное поле плазмы в секторе 004."
-        ));
-        entries.put("research-005", new MeteorResearchEntry(
-            "research-005",
-            "Сектор наблюдения 005",
-            "Артефактный отчёт №005: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 005.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 005.",
-            "Риск: нестабильное поле плазмы в секторе 005."
-        ));
-        entries.put("research-006", new MeteorResearchEntry(
-            "research-006",
-            "Сектор наблюдения 006",
-            "Артефактный отчёт №006: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 006.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 006.",
-            "Риск: нестабильное поле плазмы в секторе 006."
-        ));
-        entries.put("research-007", new MeteorResearchEntry(
-            "research-007",
-            "Сектор наблюдения 007",
-            "Артефактный отчёт №007: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 007.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 007.",
-            "Риск: нестабильное поле плазмы в секторе 007."
-        ));
-        entries.put("research-008", new MeteorResearchEntry(
-            "research-008",
-            "Сектор наблюдения 008",
-            "Артефактный отчёт №008: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 008.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 008.",
-            "Риск: нестабильное поле плазмы в секторе 008."
-        ));
-        entries.put("research-009", new MeteorResearchEntry(
-            "research-009",
-            "Сектор наблюдения 009",
-            "Артефактный отчёт №009: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 009.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 009.",
-            "Риск: нестабильное поле плазмы в секторе 009."
-        ));
-        entries.put("research-010", new MeteorResearchEntry(
-            "research-010",
-            "Сектор наблюдения 010",
-            "Артефактный отчёт №010: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 010.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 010.",
-            "Риск: нестабильное поле плазмы в секторе 010."
-        ));
-        entries.put("research-011", new MeteorResearchEntry(
-            "research-011",
-            "Сектор наблюдения 011",
-            "Артефактный отчёт №011: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 011.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 011.",
-            "Риск: нестабильное поле плазмы в секторе 011."
-        ));
-        entries.put("research-012", new MeteorResearchEntry(
-            "research-012",
-            "Сектор наблюдения 012",
-            "Артефактный отчёт №012: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 012.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 012.",
-            "Риск: нестабильное поле плазмы в секторе 012."
-        ));
-        entries.put("research-013", new MeteorResearchEntry(
-            "research-013",
-            "Сектор наблюдения 013",
-            "Артефактный отчёт №013: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 013.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 013.",
-            "Риск: нестабильное поле плазмы в секторе 013."
-        ));
-        entries.put("research-014", new MeteorResearchEntry(
-            "research-014",
-            "Сектор наблюдения 014",
-            "Артефактный отчёт №014: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 014.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 014.",
-            "Риск: нестабильное поле плазмы в секторе 014."
-        ));
-        entries.put("research-015", new MeteorResearchEntry(
-            "research-015",
-            "Сектор наблюдения 015",
-            "Артефактный отчёт №015: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 015.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 015.",
-            "Риск: нестабильное поле плазмы в секторе 015."
-        ));
-        entries.put("research-016", new MeteorResearchEntry(
-            "research-016",
-            "Сектор наблюдения 016",
-            "Артефактный отчёт №016: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 016.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 016.",
-            "Риск: нестабильное поле плазмы в секторе 016."
-        ));
-        entries.put("research-017", new MeteorResearchEntry(
-            "research-017",
-            "Сектор наблюдения 017",
-            "Артефактный отчёт №017: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 017.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 017.",
-            "Риск: нестабильное поле плазмы в секторе 017."
-        ));
-        entries.put("research-018", new MeteorResearchEntry(
-            "research-018",
-            "Сектор наблюдения 018",
-            "Артефактный отчёт №018: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 018.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 018.",
-            "Риск: нестабильное поле плазмы в секторе 018."
-        ));
-        entries.put("research-019", new MeteorResearchEntry(
-            "research-019",
-            "Сектор наблюдения 019",
-            "Артефактный отчёт №019: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 019.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 019.",
-            "Риск: нестабильное поле плазмы в секторе 019."
-        ));
-        entries.put("research-020", new MeteorResearchEntry(
-            "research-020",
-            "Сектор наблюдения 020",
-            "Артефактный отчёт №020: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 020.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 020.",
-            "Риск: нестабильное поле плазмы в секторе 020."
-        ));
-        entries.put("research-021", new MeteorResearchEntry(
-            "research-021",
-            "Сектор наблюдения 021",
-            "Артефактный отчёт №021: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 021.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 021.",
-            "Риск: нестабильное поле плазмы в секторе 021."
-        ));
-        entries.put("research-022", new MeteorResearchEntry(
-            "research-022",
-            "Сектор наблюдения 022",
-            "Артефактный отчёт №022: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 022.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 022.",
-            "Риск: нестабильное поле плазмы в секторе 022."
-        ));
-        entries.put("research-023", new MeteorResearchEntry(
-            "research-023",
-            "Сектор наблюдения 023",
-            "Артефактный отчёт №023: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 023.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 023.",
-            "Риск: нестабильное поле плазмы в секторе 023."
-        ));
-        entries.put("research-024", new MeteorResearchEntry(
-            "research-024",
-            "Сектор наблюдения 024",
-            "Артефактный отчёт №024: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 024.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 024.",
-            "Риск: нестабильное поле плазмы в секторе 024."
-        ));
-        entries.put("research-025", new MeteorResearchEntry(
-            "research-025",
-            "Сектор наблюдения 025",
-            "Артефактный отчёт №025: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 025.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 025.",
-            "Риск: нестабильное поле плазмы в секторе 025."
-        ));
-        entries.put("research-026", new MeteorResearchEntry(
-            "research-026",
-            "Сектор наблюдения 026",
-            "Артефактный отчёт №026: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 026.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 026.",
-            "Риск: нестабильное поле плазмы в секторе 026."
-        ));
-        entries.put("research-027", new MeteorResearchEntry(
-            "research-027",
-            "Сектор наблюдения 027",
-            "Артефактный отчёт №027: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 027.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 027.",
-            "Риск: нестабильное поле плазмы в секторе 027."
-        ));
-        entries.put("research-028", new MeteorResearchEntry(
-            "research-028",
-            "Сектор наблюдения 028",
-            "Артефактный отчёт №028: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 028.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 028.",
-            "Риск: нестабильное поле плазмы в секторе 028."
-        ));
-        entries.put("research-029", new MeteorResearchEntry(
-            "research-029",
-            "Сектор наблюдения 029",
-            "Артефактный отчёт №029: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 029.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 029.",
-            "Риск: нестабильное поле плазмы в секторе 029."
-        ));
-        entries.put("research-030", new MeteorResearchEntry(
-            "research-030",
-            "Сектор наблюдения 030",
-            "Артефактный отчёт №030: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 030.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 030.",
-            "Риск: нестабильное поле плазмы в секторе 030."
-        ));
-        entries.put("research-031", new MeteorResearchEntry(
-            "research-031",
-            "Сектор наблюдения 031",
-            "Артефактный отчёт №031: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 031.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 031.",
-            "Риск: нестабильное поле плазмы в секторе 031."
-        ));
-        entries.put("research-032", new MeteorResearchEntry(
-            "research-032",
-            "Сектор наблюдения 032",
-            "Артефактный отчёт №032: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 032.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 032.",
-            "Риск: нестабильное поле плазмы в секторе 032."
-        ));
-        entries.put("research-033", new MeteorResearchEntry(
-            "research-033",
-            "Сектор наблюдения 033",
-            "Артефактный отчёт №033: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 033.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 033.",
-            "Риск: нестабильное поле плазмы в секторе 033."
-        ));
-        entries.put("research-034", new MeteorResearchEntry(
-            "research-034",
-            "Сектор наблюдения 034",
-            "Артефактный отчёт №034: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 034.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 034.",
-            "Риск: нестабильное поле плазмы в секторе 034."
-        ));
-        entries.put("research-035", new MeteorResearchEntry(
-            "research-035",
-            "Сектор наблюдения 035",
-            "Артефактный отчёт №035: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 035.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 035.",
-            "Риск: нестабильное поле плазмы в секторе 035."
-        ));
-        entries.put("research-036", new MeteorResearchEntry(
-            "research-036",
-            "Сектор наблюдения 036",
-            "Артефактный отчёт №036: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 036.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 036.",
-            "Риск: нестабильное поле плазмы в секторе 036."
-        ));
-        entries.put("research-037", new MeteorResearchEntry(
-            "research-037",
-            "Сектор наблюдения 037",
-            "Артефактный отчёт №037: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 037.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 037.",
-            "Риск: нестабильное поле плазмы в секторе 037."
-        ));
-        entries.put("research-038", new MeteorResearchEntry(
-            "research-038",
-            "Сектор наблюдения 038",
-            "Артефактный отчёт №038: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 038.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 038.",
-            "Риск: нестабильное поле плазмы в секторе 038."
-        ));
-        entries.put("research-039", new MeteorResearchEntry(
-            "research-039",
-            "Сектор наблюдения 039",
-            "Артефактный отчёт №039: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 039.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 039.",
-            "Риск: нестабильное поле плазмы в секторе 039."
-        ));
-        entries.put("research-040", new MeteorResearchEntry(
-            "research-040",
-            "Сектор наблюдения 040",
-            "Артефактный отчёт №040: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 040.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 040.",
-            "Риск: нестабильное поле плазмы в секторе 040."
-        ));
-        entries.put("research-041", new MeteorResearchEntry(
-            "research-041",
-            "Сектор наблюдения 041",
-            "Артефактный отчёт №041: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 041.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 041.",
-            "Риск: нестабильное поле плазмы в секторе 041."
-        ));
-        entries.put("research-042", new MeteorResearchEntry(
-            "research-042",
-            "Сектор наблюдения 042",
-            "Артефактный отчёт №042: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 042.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 042.",
-            "Риск: нестабильное поле плазмы в секторе 042."
-        ));
-        entries.put("research-043", new MeteorResearchEntry(
-            "research-043",
-            "Сектор наблюдения 043",
-            "Артефактный отчёт №043: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 043.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 043.",
-            "Риск: нестабильное поле плазмы в секторе 043."
-        ));
-        entries.put("research-044", new MeteorResearchEntry(
-            "research-044",
-            "Сектор наблюдения 044",
-            "Артефактный отчёт №044: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 044.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 044.",
-            "Риск: нестабильное поле плазмы в секторе 044."
-        ));
-        entries.put("research-045", new MeteorResearchEntry(
-            "research-045",
-            "Сектор наблюдения 045",
-            "Артефактный отчёт №045: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 045.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 045.",
-            "Риск: нестабильное поле плазмы в секторе 045."
-        ));
-        entries.put("research-046", new MeteorResearchEntry(
-            "research-046",
-            "Сектор наблюдения 046",
-            "Артефактный отчёт №046: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 046.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 046.",
-            "Риск: нестабильное поле плазмы в секторе 046."
-        ));
-        entries.put("research-047", new MeteorResearchEntry(
-            "research-047",
-            "Сектор наблюдения 047",
-            "Артефактный отчёт №047: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 047.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 047.",
-            "Риск: нестабильное поле плазмы в секторе 047."
-        ));
-        entries.put("research-048", new MeteorResearchEntry(
-            "research-048",
-            "Сектор наблюдения 048",
-            "Артефактный отчёт №048: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 048.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 048.",
-            "Риск: нестабильное поле плазмы в секторе 048."
-        ));
-        entries.put("research-049", new MeteorResearchEntry(
-            "research-049",
-            "Сектор наблюдения 049",
-            "Артефактный отчёт №049: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 049.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 049.",
-            "Риск: нестабильное поле плазмы в секторе 049."
-        ));
-        entries.put("research-050", new MeteorResearchEntry(
-            "research-050",
-            "Сектор наблюдения 050",
-            "Артефактный отчёт №050: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 050.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 050.",
-            "Риск: нестабильное поле плазмы в секторе 050."
-        ));
-        entries.put("research-051", new MeteorResearchEntry(
-            "research-051",
-            "Сектор наблюдения 051",
-            "Артефактный отчёт №051: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 051.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 051.",
-            "Риск: нестабильное поле плазмы в секторе 051."
-        ));
-        entries.put("research-052", new MeteorResearchEntry(
-            "research-052",
-            "Сектор наблюдения 052",
-            "Артефактный отчёт №052: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 052.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 052.",
-            "Риск: нестабильное поле плазмы в секторе 052."
-        ));
-        entries.put("research-053", new MeteorResearchEntry(
-            "research-053",
-            "Сектор наблюдения 053",
-            "Артефактный отчёт №053: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 053.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 053.",
-            "Риск: нестабильное поле плазмы в секторе 053."
-        ));
-        entries.put("research-054", new MeteorResearchEntry(
-            "research-054",
-            "Сектор наблюдения 054",
-            "Артефактный отчёт №054: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 054.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 054.",
-            "Риск: нестабильное поле плазмы в секторе 054."
-        ));
-        entries.put("research-055", new MeteorResearchEntry(
-            "research-055",
-            "Сектор наблюдения 055",
-            "Артефактный отчёт №055: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 055.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 055.",
-            "Риск: нестабильное поле плазмы в секторе 055."
-        ));
-        entries.put("research-056", new MeteorResearchEntry(
-            "research-056",
-            "Сектор наблюдения 056",
-            "Артефактный отчёт №056: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 056.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 056.",
-            "Риск: нестабильное поле плазмы в секторе 056."
-        ));
-        entries.put("research-057", new MeteorResearchEntry(
-            "research-057",
-            "Сектор наблюдения 057",
-            "Артефактный отчёт №057: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 057.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 057.",
-            "Риск: нестабильное поле плазмы в секторе 057."
-        ));
-        entries.put("research-058", new MeteorResearchEntry(
-            "research-058",
-            "Сектор наблюдения 058",
-            "Артефактный отчёт №058: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 058.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 058.",
-            "Риск: нестабильное поле плазмы в секторе 058."
-        ));
-        entries.put("research-059", new MeteorResearchEntry(
-            "research-059",
-            "Сектор наблюдения 059",
-            "Артефактный отчёт №059: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 059.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 059.",
-            "Риск: нестабильное поле плазмы в секторе 059."
-        ));
-        entries.put("research-060", new MeteorResearchEntry(
-            "research-060",
-            "Сектор наблюдения 060",
-            "Артефактный отчёт №060: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 060.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 060.",
-            "Риск: нестабильное поле плазмы в секторе 060."
-        ));
-        entries.put("research-061", new MeteorResearchEntry(
-            "research-061",
-            "Сектор наблюдения 061",
-            "Артефактный отчёт №061: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 061.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 061.",
-            "Риск: нестабильное поле плазмы в секторе 061."
-        ));
-        entries.put("research-062", new MeteorResearchEntry(
-            "research-062",
-            "Сектор наблюдения 062",
-            "Артефактный отчёт №062: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 062.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 062.",
-            "Риск: нестабильное поле плазмы в секторе 062."
-        ));
-        entries.put("research-063", new MeteorResearchEntry(
-            "research-063",
-            "Сектор наблюдения 063",
-            "Артефактный отчёт №063: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 063.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 063.",
-            "Риск: нестабильное поле плазмы в секторе 063."
-        ));
-        entries.put("research-064", new MeteorResearchEntry(
-            "research-064",
-            "Сектор наблюдения 064",
-            "Артефактный отчёт №064: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 064.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 064.",
-            "Риск: нестабильное поле плазмы в секторе 064."
-        ));
-        entries.put("research-065", new MeteorResearchEntry(
-            "research-065",
-            "Сектор наблюдения 065",
-            "Артефактный отчёт №065: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 065.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 065.",
-            "Риск: нестабильное поле плазмы в секторе 065."
-        ));
-        entries.put("research-066", new MeteorResearchEntry(
-            "research-066",
-            "Сектор наблюдения 066",
-            "Артефактный отчёт №066: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 066.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 066.",
-            "Риск: нестабильное поле плазмы в секторе 066."
-        ));
-        entries.put("research-067", new MeteorResearchEntry(
-            "research-067",
-            "Сектор наблюдения 067",
-            "Артефактный отчёт №067: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 067.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 067.",
-            "Риск: нестабильное поле плазмы в секторе 067."
-        ));
-        entries.put("research-068", new MeteorResearchEntry(
-            "research-068",
-            "Сектор наблюдения 068",
-            "Артефактный отчёт №068: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 068.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 068.",
-            "Риск: нестабильное поле плазмы в секторе 068."
-        ));
-        entries.put("research-069", new MeteorResearchEntry(
-            "research-069",
-            "Сектор наблюдения 069",
-            "Артефактный отчёт №069: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 069.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 069.",
-            "Риск: нестабильное поле плазмы в секторе 069."
-        ));
-        entries.put("research-070", new MeteorResearchEntry(
-            "research-070",
-            "Сектор наблюдения 070",
-            "Артефактный отчёт №070: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 070.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 070.",
-            "Риск: нестабильное поле плазмы в секторе 070."
-        ));
-        entries.put("research-071", new MeteorResearchEntry(
-            "research-071",
-            "Сектор наблюдения 071",
-            "Артефактный отчёт №071: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 071.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 071.",
-            "Риск: нестабильное поле плазмы в секторе 071."
-        ));
-        entries.put("research-072", new MeteorResearchEntry(
-            "research-072",
-            "Сектор наблюдения 072",
-            "Артефактный отчёт №072: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 072.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 072.",
-            "Риск: нестабильное поле плазмы в секторе 072."
-        ));
-        entries.put("research-073", new MeteorResearchEntry(
-            "research-073",
-            "Сектор наблюдения 073",
-            "Артефактный отчёт №073: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 073.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 073.",
-            "Риск: нестабильное поле плазмы в секторе 073."
-        ));
-        entries.put("research-074", new MeteorResearchEntry(
-            "research-074",
-            "Сектор наблюдения 074",
-            "Артефактный отчёт №074: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 074.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 074.",
-            "Риск: нестабильное поле плазмы в секторе 074."
-        ));
-        entries.put("research-075", new MeteorResearchEntry(
-            "research-075",
-            "Сектор наблюдения 075",
-            "Артефактный отчёт №075: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 075.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 075.",
-            "Риск: нестабильное поле плазмы в секторе 075."
-        ));
-        entries.put("research-076", new MeteorResearchEntry(
-            "research-076",
-            "Сектор наблюдения 076",
-            "Артефактный отчёт №076: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 076.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 076.",
-            "Риск: нестабильное поле плазмы в секторе 076."
-        ));
-        entries.put("research-077", new MeteorResearchEntry(
-            "research-077",
-            "Сектор наблюдения 077",
-            "Артефактный отчёт №077: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 077.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 077.",
-            "Риск: нестабильное поле плазмы в секторе 077."
-        ));
-        entries.put("research-078", new MeteorResearchEntry(
-            "research-078",
-            "Сектор наблюдения 078",
-            "Артефактный отчёт №078: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 078.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 078.",
-            "Риск: нестабильное поле плазмы в секторе 078."
-        ));
-        entries.put("research-079", new MeteorResearchEntry(
-            "research-079",
-            "Сектор наблюдения 079",
-            "Артефактный отчёт №079: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 079.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 079.",
-            "Риск: нестабильное поле плазмы в секторе 079."
-        ));
-        entries.put("research-080", new MeteorResearchEntry(
-            "research-080",
-            "Сектор наблюдения 080",
-            "Артефактный отчёт №080: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 080.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 080.",
-            "Риск: нестабильное поле плазмы в секторе 080."
-        ));
-        entries.put("research-081", new MeteorResearchEntry(
-            "research-081",
-            "Сектор наблюдения 081",
-            "Артефактный отчёт №081: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 081.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 081.",
-            "Риск: нестабильное поле плазмы в секторе 081."
-        ));
-        entries.put("research-082", new MeteorResearchEntry(
-            "research-082",
-            "Сектор наблюдения 082",
-            "Артефактный отчёт №082: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 082.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 082.",
-            "Риск: нестабильное поле плазмы в секторе 082."
-        ));
-        entries.put("research-083", new MeteorResearchEntry(
-            "research-083",
-            "Сектор наблюдения 083",
-            "Артефактный отчёт №083: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 083.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 083.",
-            "Риск: нестабильное поле плазмы в секторе 083."
-        ));
-        entries.put("research-084", new MeteorResearchEntry(
-            "research-084",
-            "Сектор наблюдения 084",
-            "Артефактный отчёт №084: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 084.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 084.",
-            "Риск: нестабильное поле плазмы в секторе 084."
-        ));
-        entries.put("research-085", new MeteorResearchEntry(
-            "research-085",
-            "Сектор наблюдения 085",
-            "Артефактный отчёт №085: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 085.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 085.",
-            "Риск: нестабильное поле плазмы в секторе 085."
-        ));
-        entries.put("research-086", new MeteorResearchEntry(
-            "research-086",
-            "Сектор наблюдения 086",
-            "Артефактный отчёт №086: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 086.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 086.",
-            "Риск: нестабильное поле плазмы в секторе 086."
-        ));
-        entries.put("research-087", new MeteorResearchEntry(
-            "research-087",
-            "Сектор наблюдения 087",
-            "Артефактный отчёт №087: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 087.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 087.",
-            "Риск: нестабильное поле плазмы в секторе 087."
-        ));
-        entries.put("research-088", new MeteorResearchEntry(
-            "research-088",
-            "Сектор наблюдения 088",
-            "Артефактный отчёт №088: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 088.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 088.",
-            "Риск: нестабильное поле плазмы в секторе 088."
-        ));
-        entries.put("research-089", new MeteorResearchEntry(
-            "research-089",
-            "Сектор наблюдения 089",
-            "Артефактный отчёт №089: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 089.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 089.",
-            "Риск: нестабильное поле плазмы в секторе 089."
-        ));
-        entries.put("research-090", new MeteorResearchEntry(
-            "research-090",
-            "Сектор наблюдения 090",
-            "Артефактный отчёт №090: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 090.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 090.",
-            "Риск: нестабильное поле плазмы в секторе 090."
-        ));
-        entries.put("research-091", new MeteorResearchEntry(
-            "research-091",
-            "Сектор наблюдения 091",
-            "Артефактный отчёт №091: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 091.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 091.",
-            "Риск: нестабильное поле плазмы в секторе 091."
-        ));
-        entries.put("research-092", new MeteorResearchEntry(
-            "research-092",
-            "Сектор наблюдения 092",
-            "Артефактный отчёт №092: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 092.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 092.",
-            "Риск: нестабильное поле плазмы в секторе 092."
-        ));
-        entries.put("research-093", new MeteorResearchEntry(
-            "research-093",
-            "Сектор наблюдения 093",
-            "Артефактный отчёт №093: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 093.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 093.",
-            "Риск: нестабильное поле плазмы в секторе 093."
-        ));
-        entries.put("research-094", new MeteorResearchEntry(
-            "research-094",
-            "Сектор наблюдения 094",
-            "Артефактный отчёт №094: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 094.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 094.",
-            "Риск: нестабильное поле плазмы в секторе 094."
-        ));
-        entries.put("research-095", new MeteorResearchEntry(
-            "research-095",
-            "Сектор наблюдения 095",
-            "Артефактный отчёт №095: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 095.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 095.",
-            "Риск: нестабильное поле плазмы в секторе 095."
-        ));
-        entries.put("research-096", new MeteorResearchEntry(
-            "research-096",
-            "Сектор наблюдения 096",
-            "Артефактный отчёт №096: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 096.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 096.",
-            "Риск: нестабильное поле плазмы в секторе 096."
-        ));
-        entries.put("research-097", new MeteorResearchEntry(
-            "research-097",
-            "Сектор наблюдения 097",
-            "Артефактный отчёт №097: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 097.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 097.",
-            "Риск: нестабильное поле плазмы в секторе 097."
-        ));
-        entries.put("research-098", new MeteorResearchEntry(
-            "research-098",
-            "Сектор наблюдения 098",
-            "Артефактный отчёт №098: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 098.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 098.",
-            "Риск: нестабильное поле плазмы в секторе 098."
-        ));
-        entries.put("research-099", new MeteorResearchEntry(
-            "research-099",
-            "Сектор наблюдения 099",
-            "Артефактный отчёт №099: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 099.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 099.",
-            "Риск: нестабильное поле плазмы в секторе 099."
-        ));
-        entries.put("research-100", new MeteorResearchEntry(
-            "research-100",
-            "Сектор наблюдения 100",
-            "Артефактный отчёт №100: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 100.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 100.",
-            "Риск: нестабильное поле плазмы в секторе 100."
-        ));
-        entries.put("research-101", new MeteorResearchEntry(
-            "research-101",
-            "Сектор наблюдения 101",
-            "Артефактный отчёт №101: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 101.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 101.",
-            "Риск: нестабильное поле плазмы в секторе 101."
-        ));
-        entries.put("research-102", new MeteorResearchEntry(
-            "research-102",
-            "Сектор наблюдения 102",
-            "Артефактный отчёт №102: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 102.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 102.",
-            "Риск: нестабильное поле плазмы в секторе 102."
-        ));
-        entries.put("research-103", new MeteorResearchEntry(
-            "research-103",
-            "Сектор наблюдения 103",
-            "Артефактный отчёт №103: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 103.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 103.",
-            "Риск: нестабильное поле плазмы в секторе 103."
-        ));
-        entries.put("research-104", new MeteorResearchEntry(
-            "research-104",
-            "Сектор наблюдения 104",
-            "Артефактный отчёт №104: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 104.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 104.",
-            "Риск: нестабильное поле плазмы в секторе 104."
-        ));
-        entries.put("research-105", new MeteorResearchEntry(
-            "research-105",
-            "Сектор наблюдения 105",
-            "Артефактный отчёт №105: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 105.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 105.",
-            "Риск: нестабильное поле плазмы в секторе 105."
-        ));
-        entries.put("research-106", new MeteorResearchEntry(
-            "research-106",
-            "Сектор наблюдения 106",
-            "Артефактный отчёт №106: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 106.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 106.",
-            "Риск: нестабильное поле плазмы в секторе 106."
-        ));
-        entries.put("research-107", new MeteorResearchEntry(
-            "research-107",
-            "Сектор наблюдения 107",
-            "Артефактный отчёт №107: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 107.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 107.",
-            "Риск: нестабильное поле плазмы в секторе 107."
-        ));
-        entries.put("research-108", new MeteorResearchEntry(
-            "research-108",
-            "Сектор наблюдения 108",
-            "Артефактный отчёт №108: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 108.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 108.",
-            "Риск: нестабильное поле плазмы в секторе 108."
-        ));
-        entries.put("research-109", new MeteorResearchEntry(
-            "research-109",
-            "Сектор наблюдения 109",
-            "Артефактный отчёт №109: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 109.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 109.",
-            "Риск: нестабильное поле плазмы в секторе 109."
-        ));
-        entries.put("research-110", new MeteorResearchEntry(
-            "research-110",
-            "Сектор наблюдения 110",
-            "Артефактный отчёт №110: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 110.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 110.",
-            "Риск: нестабильное поле плазмы в секторе 110."
-        ));
-        entries.put("research-111", new MeteorResearchEntry(
-            "research-111",
-            "Сектор наблюдения 111",
-            "Артефактный отчёт №111: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 111.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 111.",
-            "Риск: нестабильное поле плазмы в секторе 111."
-        ));
-        entries.put("research-112", new MeteorResearchEntry(
-            "research-112",
-            "Сектор наблюдения 112",
-            "Артефактный отчёт №112: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 112.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 112.",
-            "Риск: нестабильное поле плазмы в секторе 112."
-        ));
-        entries.put("research-113", new MeteorResearchEntry(
-            "research-113",
-            "Сектор наблюдения 113",
-            "Артефактный отчёт №113: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 113.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 113.",
-            "Риск: нестабильное поле плазмы в секторе 113."
-        ));
-        entries.put("research-114", new MeteorResearchEntry(
-            "research-114",
-            "Сектор наблюдения 114",
-            "Артефактный отчёт №114: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 114.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 114.",
-            "Риск: нестабильное поле плазмы в секторе 114."
-        ));
-        entries.put("research-115", new MeteorResearchEntry(
-            "research-115",
-            "Сектор наблюдения 115",
-            "Артефактный отчёт №115: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 115.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 115.",
-            "Риск: нестабильное поле плазмы в секторе 115."
-        ));
-        entries.put("research-116", new MeteorResearchEntry(
-            "research-116",
-            "Сектор наблюдения 116",
-            "Артефактный отчёт №116: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 116.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 116.",
-            "Риск: нестабильное поле плазмы в секторе 116."
-        ));
-        entries.put("research-117", new MeteorResearchEntry(
-            "research-117",
-            "Сектор наблюдения 117",
-            "Артефактный отчёт №117: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 117.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 117.",
-            "Риск: нестабильное поле плазмы в секторе 117."
-        ));
-        entries.put("research-118", new MeteorResearchEntry(
-            "research-118",
-            "Сектор наблюдения 118",
-            "Артефактный отчёт №118: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 118.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 118.",
-            "Риск: нестабильное поле плазмы в секторе 118."
-        ));
-        entries.put("research-119", new MeteorResearchEntry(
-            "research-119",
-            "Сектор наблюдения 119",
-            "Артефактный отчёт №119: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 119.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 119.",
-            "Риск: нестабильное поле плазмы в секторе 119."
-        ));
-        entries.put("research-120", new MeteorResearchEntry(
-            "research-120",
-            "Сектор наблюдения 120",
-            "Артефактный отчёт №120: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 120.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 120.",
-            "Риск: нестабильное поле плазмы в секторе 120."
-        ));
-        entries.put("research-121", new MeteorResearchEntry(
-            "research-121",
-            "Сектор наблюдения 121",
-            "Артефактный отчёт №121: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 121.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 121.",
-            "Риск: нестабильное поле плазмы в секторе 121."
-        ));
-        entries.put("research-122", new MeteorResearchEntry(
-            "research-122",
-            "Сектор наблюдения 122",
-            "Артефактный отчёт №122: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 122.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 122.",
-            "Риск: нестабильное поле плазмы в секторе 122."
-        ));
-        entries.put("research-123", new MeteorResearchEntry(
-            "research-123",
-            "Сектор наблюдения 123",
-            "Артефактный отчёт №123: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 123.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 123.",
-            "Риск: нестабильное поле плазмы в секторе 123."
-        ));
-        entries.put("research-124", new MeteorResearchEntry(
-            "research-124",
-            "Сектор наблюдения 124",
-            "Артефактный отчёт №124: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 124.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 124.",
-            "Риск: нестабильное поле плазмы в секторе 124."
-        ));
-        entries.put("research-125", new MeteorResearchEntry(
-            "research-125",
-            "Сектор наблюдения 125",
-            "Артефактный отчёт №125: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 125.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 125.",
-            "Риск: нестабильное поле плазмы в секторе 125."
-        ));
-        entries.put("research-126", new MeteorResearchEntry(
-            "research-126",
-            "Сектор наблюдения 126",
-            "Артефактный отчёт №126: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 126.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 126.",
-            "Риск: нестабильное поле плазмы в секторе 126."
-        ));
-        entries.put("research-127", new MeteorResearchEntry(
-            "research-127",
-            "Сектор наблюдения 127",
-            "Артефактный отчёт №127: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 127.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 127.",
-            "Риск: нестабильное поле плазмы в секторе 127."
-        ));
-        entries.put("research-128", new MeteorResearchEntry(
-            "research-128",
-            "Сектор наблюдения 128",
-            "Артефактный отчёт №128: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 128.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 128.",
-            "Риск: нестабильное поле плазмы в секторе 128."
-        ));
-        entries.put("research-129", new MeteorResearchEntry(
-            "research-129",
-            "Сектор наблюдения 129",
-            "Артефактный отчёт №129: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 129.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 129.",
-            "Риск: нестабильное поле плазмы в секторе 129."
-        ));
-        entries.put("research-130", new MeteorResearchEntry(
-            "research-130",
-            "Сектор наблюдения 130",
-            "Артефактный отчёт №130: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 130.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 130.",
-            "Риск: нестабильное поле плазмы в секторе 130."
-        ));
-        entries.put("research-131", new MeteorResearchEntry(
-            "research-131",
-            "Сектор наблюдения 131",
-            "Артефактный отчёт №131: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 131.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 131.",
-            "Риск: нестабильное поле плазмы в секторе 131."
-        ));
-        entries.put("research-132", new MeteorResearchEntry(
-            "research-132",
-            "Сектор наблюдения 132",
-            "Артефактный отчёт №132: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 132.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 132.",
-            "Риск: нестабильное поле плазмы в секторе 132."
-        ));
-        entries.put("research-133", new MeteorResearchEntry(
-            "research-133",
-            "Сектор наблюдения 133",
-            "Артефактный отчёт №133: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 133.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 133.",
-            "Риск: нестабильное поле плазмы в секторе 133."
-        ));
-        entries.put("research-134", new MeteorResearchEntry(
-            "research-134",
-            "Сектор наблюдения 134",
-            "Артефактный отчёт №134: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 134.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 134.",
-            "Риск: нестабильное поле плазмы в секторе 134."
-        ));
-        entries.put("research-135", new MeteorResearchEntry(
-            "research-135",
-            "Сектор наблюдения 135",
-            "Артефактный отчёт №135: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 135.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 135.",
-            "Риск: нестабильное поле плазмы в секторе 135."
-        ));
-        entries.put("research-136", new MeteorResearchEntry(
-            "research-136",
-            "Сектор наблюдения 136",
-            "Артефактный отчёт №136: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 136.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 136.",
-            "Риск: нестабильное поле плазмы в секторе 136."
-        ));
-        entries.put("research-137", new MeteorResearchEntry(
-            "research-137",
-            "Сектор наблюдения 137",
-            "Артефактный отчёт №137: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 137.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 137.",
-            "Риск: нестабильное поле плазмы в секторе 137."
-        ));
-        entries.put("research-138", new MeteorResearchEntry(
-            "research-138",
-            "Сектор наблюдения 138",
-            "Артефактный отчёт №138: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 138.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 138.",
-            "Риск: нестабильное поле плазмы в секторе 138."
-        ));
-        entries.put("research-139", new MeteorResearchEntry(
-            "research-139",
-            "Сектор наблюдения 139",
-            "Артефактный отчёт №139: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 139.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 139.",
-            "Риск: нестабильное поле плазмы в секторе 139."
-        ));
-        entries.put("research-140", new MeteorResearchEntry(
-            "research-140",
-            "Сектор наблюдения 140",
-            "Артефактный отчёт №140: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 140.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 140.",
-            "Риск: нестабильное поле плазмы в секторе 140."
-        ));
-        entries.put("research-141", new MeteorResearchEntry(
-            "research-141",
-            "Сектор наблюдения 141",
-            "Артефактный отчёт №141: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 141.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 141.",
-            "Риск: нестабильное поле плазмы в секторе 141."
-        ));
-        entries.put("research-142", new MeteorResearchEntry(
-            "research-142",
-            "Сектор наблюдения 142",
-            "Артефактный отчёт №142: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 142.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 142.",
-            "Риск: нестабильное поле плазмы в секторе 142."
-        ));
-        entries.put("research-143", new MeteorResearchEntry(
-            "research-143",
-            "Сектор наблюдения 143",
-            "Артефактный отчёт №143: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 143.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 143.",
-            "Риск: нестабильное поле плазмы в секторе 143."
-        ));
-        entries.put("research-144", new MeteorResearchEntry(
-            "research-144",
-            "Сектор наблюдения 144",
-            "Артефактный отчёт №144: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 144.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 144.",
-            "Риск: нестабильное поле плазмы в секторе 144."
-        ));
-        entries.put("research-145", new MeteorResearchEntry(
-            "research-145",
-            "Сектор наблюдения 145",
-            "Артефактный отчёт №145: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 145.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 145.",
-            "Риск: нестабильное поле плазмы в секторе 145."
-        ));
-        entries.put("research-146", new MeteorResearchEntry(
-            "research-146",
-            "Сектор наблюдения 146",
-            "Артефактный отчёт №146: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 146.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 146.",
-            "Риск: нестабильное поле плазмы в секторе 146."
-        ));
-        entries.put("research-147", new MeteorResearchEntry(
-            "research-147",
-            "Сектор наблюдения 147",
-            "Артефактный отчёт №147: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 147.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 147.",
-            "Риск: нестабильное поле плазмы в секторе 147."
-        ));
-        entries.put("research-148", new MeteorResearchEntry(
-            "research-148",
-            "Сектор наблюдения 148",
-            "Артефактный отчёт №148: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 148.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 148.",
-            "Риск: нестабильное поле плазмы в секторе 148."
-        ));
-        entries.put("research-149", new MeteorResearchEntry(
-            "research-149",
-            "Сектор наблюдения 149",
-            "Артефактный отчёт №149: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 149.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 149.",
-            "Риск: нестабильное поле плазмы в секторе 149."
-        ));
-        entries.put("research-150", new MeteorResearchEntry(
-            "research-150",
-            "Сектор наблюдения 150",
-            "Артефактный отчёт №150: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 150.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 150.",
-            "Риск: нестабильное поле плазмы в секторе 150."
-        ));
-        entries.put("research-151", new MeteorResearchEntry(
-            "research-151",
-            "Сектор наблюдения 151",
-            "Артефактный отчёт №151: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 151.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 151.",
-            "Риск: нестабильное поле плазмы в секторе 151."
-        ));
-        entries.put("research-152", new MeteorResearchEntry(
-            "research-152",
-            "Сектор наблюдения 152",
-            "Артефактный отчёт №152: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 152.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 152.",
-            "Риск: нестабильное поле плазмы в секторе 152."
-        ));
-        entries.put("research-153", new MeteorResearchEntry(
-            "research-153",
-            "Сектор наблюдения 153",
-            "Артефактный отчёт №153: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 153.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 153.",
-            "Риск: нестабильное поле плазмы в секторе 153."
-        ));
-        entries.put("research-154", new MeteorResearchEntry(
-            "research-154",
-            "Сектор наблюдения 154",
-            "Артефактный отчёт №154: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 154.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 154.",
-            "Риск: нестабильное поле плазмы в секторе 154."
-        ));
-        entries.put("research-155", new MeteorResearchEntry(
-            "research-155",
-            "Сектор наблюдения 155",
-            "Артефактный отчёт №155: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 155.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 155.",
-            "Риск: нестабильное поле плазмы в секторе 155."
-        ));
-        entries.put("research-156", new MeteorResearchEntry(
-            "research-156",
-            "Сектор наблюдения 156",
-            "Артефактный отчёт №156: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 156.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 156.",
-            "Риск: нестабильное поле плазмы в секторе 156."
-        ));
-        entries.put("research-157", new MeteorResearchEntry(
-            "research-157",
-            "Сектор наблюдения 157",
-            "Артефактный отчёт №157: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 157.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 157.",
-            "Риск: нестабильное поле плазмы в секторе 157."
-        ));
-        entries.put("research-158", new MeteorResearchEntry(
-            "research-158",
-            "Сектор наблюдения 158",
-            "Артефактный отчёт №158: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 158.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 158.",
-            "Риск: нестабильное поле плазмы в секторе 158."
-        ));
-        entries.put("research-159", new MeteorResearchEntry(
-            "research-159",
-            "Сектор наблюдения 159",
-            "Артефактный отчёт №159: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 159.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 159.",
-            "Риск: нестабильное поле плазмы в секторе 159."
-        ));
-        entries.put("research-160", new MeteorResearchEntry(
-            "research-160",
-            "Сектор наблюдения 160",
-            "Артефактный отчёт №160: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 160.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 160.",
-            "Риск: нестабильное поле плазмы в секторе 160."
-        ));
-        entries.put("research-161", new MeteorResearchEntry(
-            "research-161",
-            "Сектор наблюдения 161",
-            "Артефактный отчёт №161: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 161.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 161.",
-            "Риск: нестабильное поле плазмы в секторе 161."
-        ));
-        entries.put("research-162", new MeteorResearchEntry(
-            "research-162",
-            "Сектор наблюдения 162",
-            "Артефактный отчёт №162: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 162.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 162.",
-            "Риск: нестабильное поле плазмы в секторе 162."
-        ));
-        entries.put("research-163", new MeteorResearchEntry(
-            "research-163",
-            "Сектор наблюдения 163",
-            "Артефактный отчёт №163: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 163.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 163.",
-            "Риск: нестабильное поле плазмы в секторе 163."
-        ));
-        entries.put("research-164", new MeteorResearchEntry(
-            "research-164",
-            "Сектор наблюдения 164",
-            "Артефактный отчёт №164: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 164.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 164.",
-            "Риск: нестабильное поле плазмы в секторе 164."
-        ));
-        entries.put("research-165", new MeteorResearchEntry(
-            "research-165",
-            "Сектор наблюдения 165",
-            "Артефактный отчёт №165: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 165.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 165.",
-            "Риск: нестабильное поле плазмы в секторе 165."
-        ));
-        entries.put("research-166", new MeteorResearchEntry(
-            "research-166",
-            "Сектор наблюдения 166",
-            "Артефактный отчёт №166: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 166.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 166.",
-            "Риск: нестабильное поле плазмы в секторе 166."
-        ));
-        entries.put("research-167", new MeteorResearchEntry(
-            "research-167",
-            "Сектор наблюдения 167",
-            "Артефактный отчёт №167: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 167.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 167.",
-            "Риск: нестабильное поле плазмы в секторе 167."
-        ));
-        entries.put("research-168", new MeteorResearchEntry(
-            "research-168",
-            "Сектор наблюдения 168",
-            "Артефактный отчёт №168: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 168.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 168.",
-            "Риск: нестабильное поле плазмы в секторе 168."
-        ));
-        entries.put("research-169", new MeteorResearchEntry(
-            "research-169",
-            "Сектор наблюдения 169",
-            "Артефактный отчёт №169: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 169.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 169.",
-            "Риск: нестабильное поле плазмы в секторе 169."
-        ));
-        entries.put("research-170", new MeteorResearchEntry(
-            "research-170",
-            "Сектор наблюдения 170",
-            "Артефактный отчёт №170: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 170.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 170.",
-            "Риск: нестабильное поле плазмы в секторе 170."
-        ));
-        entries.put("research-171", new MeteorResearchEntry(
-            "research-171",
-            "Сектор наблюдения 171",
-            "Артефактный отчёт №171: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 171.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 171.",
-            "Риск: нестабильное поле плазмы в секторе 171."
-        ));
-        entries.put("research-172", new MeteorResearchEntry(
-            "research-172",
-            "Сектор наблюдения 172",
-            "Артефактный отчёт №172: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 172.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 172.",
-            "Риск: нестабильное поле плазмы в секторе 172."
-        ));
-        entries.put("research-173", new MeteorResearchEntry(
-            "research-173",
-            "Сектор наблюдения 173",
-            "Артефактный отчёт №173: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 173.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 173.",
-            "Риск: нестабильное поле плазмы в секторе 173."
-        ));
-        entries.put("research-174", new MeteorResearchEntry(
-            "research-174",
-            "Сектор наблюдения 174",
-            "Артефактный отчёт №174: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 174.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 174.",
-            "Риск: нестабильное поле плазмы в секторе 174."
-        ));
-        entries.put("research-175", new MeteorResearchEntry(
-            "research-175",
-            "Сектор наблюдения 175",
-            "Артефактный отчёт №175: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 175.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 175.",
-            "Риск: нестабильное поле плазмы в секторе 175."
-        ));
-        entries.put("research-176", new MeteorResearchEntry(
-            "research-176",
-            "Сектор наблюдения 176",
-            "Артефактный отчёт №176: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 176.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 176.",
-            "Риск: нестабильное поле плазмы в секторе 176."
-        ));
-        entries.put("research-177", new MeteorResearchEntry(
-            "research-177",
-            "Сектор наблюдения 177",
-            "Артефактный отчёт №177: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 177.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 177.",
-            "Риск: нестабильное поле плазмы в секторе 177."
-        ));
-        entries.put("research-178", new MeteorResearchEntry(
-            "research-178",
-            "Сектор наблюдения 178",
-            "Артефактный отчёт №178: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 178.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 178.",
-            "Риск: нестабильное поле плазмы в секторе 178."
-        ));
-        entries.put("research-179", new MeteorResearchEntry(
-            "research-179",
-            "Сектор наблюдения 179",
-            "Артефактный отчёт №179: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 179.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 179.",
-            "Риск: нестабильное поле плазмы в секторе 179."
-        ));
-        entries.put("research-180", new MeteorResearchEntry(
-            "research-180",
-            "Сектор наблюдения 180",
-            "Артефактный отчёт №180: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 180.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 180.",
-            "Риск: нестабильное поле плазмы в секторе 180."
-        ));
-        entries.put("research-181", new MeteorResearchEntry(
-            "research-181",
-            "Сектор наблюдения 181",
-            "Артефактный отчёт №181: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 181.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 181.",
-            "Риск: нестабильное поле плазмы в секторе 181."
-        ));
-        entries.put("research-182", new MeteorResearchEntry(
-            "research-182",
-            "Сектор наблюдения 182",
-            "Артефактный отчёт №182: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 182.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 182.",
-            "Риск: нестабильное поле плазмы в секторе 182."
-        ));
-        entries.put("research-183", new MeteorResearchEntry(
-            "research-183",
-            "Сектор наблюдения 183",
-            "Артефактный отчёт №183: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 183.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 183.",
-            "Риск: нестабильное поле плазмы в секторе 183."
-        ));
-        entries.put("research-184", new MeteorResearchEntry(
-            "research-184",
-            "Сектор наблюдения 184",
-            "Артефактный отчёт №184: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 184.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 184.",
-            "Риск: нестабильное поле плазмы в секторе 184."
-        ));
-        entries.put("research-185", new MeteorResearchEntry(
-            "research-185",
-            "Сектор наблюдения 185",
-            "Артефактный отчёт №185: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 185.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 185.",
-            "Риск: нестабильное поле плазмы в секторе 185."
-        ));
-        entries.put("research-186", new MeteorResearchEntry(
-            "research-186",
-            "Сектор наблюдения 186",
-            "Артефактный отчёт №186: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 186.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 186.",
-            "Риск: нестабильное поле плазмы в секторе 186."
-        ));
-        entries.put("research-187", new MeteorResearchEntry(
-            "research-187",
-            "Сектор наблюдения 187",
-            "Артефактный отчёт №187: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 187.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 187.",
-            "Риск: нестабильное поле плазмы в секторе 187."
-        ));
-        entries.put("research-188", new MeteorResearchEntry(
-            "research-188",
-            "Сектор наблюдения 188",
-            "Артефактный отчёт №188: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 188.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 188.",
-            "Риск: нестабильное поле плазмы в секторе 188."
-        ));
-        entries.put("research-189", new MeteorResearchEntry(
-            "research-189",
-            "Сектор наблюдения 189",
-            "Артефактный отчёт №189: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 189.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 189.",
-            "Риск: нестабильное поле плазмы в секторе 189."
-        ));
-        entries.put("research-190", new MeteorResearchEntry(
-            "research-190",
-            "Сектор наблюдения 190",
-            "Артефактный отчёт №190: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 190.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 190.",
-            "Риск: нестабильное поле плазмы в секторе 190."
-        ));
-        entries.put("research-191", new MeteorResearchEntry(
-            "research-191",
-            "Сектор наблюдения 191",
-            "Артефактный отчёт №191: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 191.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 191.",
-            "Риск: нестабильное поле плазмы в секторе 191."
-        ));
-        entries.put("research-192", new MeteorResearchEntry(
-            "research-192",
-            "Сектор наблюдения 192",
-            "Артефактный отчёт №192: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 192.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 192.",
-            "Риск: нестабильное поле плазмы в секторе 192."
-        ));
-        entries.put("research-193", new MeteorResearchEntry(
-            "research-193",
-            "Сектор наблюдения 193",
-            "Артефактный отчёт №193: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 193.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 193.",
-            "Риск: нестабильное поле плазмы в секторе 193."
-        ));
-        entries.put("research-194", new MeteorResearchEntry(
-            "research-194",
-            "Сектор наблюдения 194",
-            "Артефактный отчёт №194: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 194.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 194.",
-            "Риск: нестабильное поле плазмы в секторе 194."
-        ));
-        entries.put("research-195", new MeteorResearchEntry(
-            "research-195",
-            "Сектор наблюдения 195",
-            "Артефактный отчёт №195: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 195.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 195.",
-            "Риск: нестабильное поле плазмы в секторе 195."
-        ));
-        entries.put("research-196", new MeteorResearchEntry(
-            "research-196",
-            "Сектор наблюдения 196",
-            "Артефактный отчёт №196: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 196.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 196.",
-            "Риск: нестабильное поле плазмы в секторе 196."
-        ));
-        entries.put("research-197", new MeteorResearchEntry(
-            "research-197",
-            "Сектор наблюдения 197",
-            "Артефактный отчёт №197: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 197.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 197.",
-            "Риск: нестабильное поле плазмы в секторе 197."
-        ));
-        entries.put("research-198", new MeteorResearchEntry(
-            "research-198",
-            "Сектор наблюдения 198",
-            "Артефактный отчёт №198: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 198.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 198.",
-            "Риск: нестабильное поле плазмы в секторе 198."
-        ));
-        entries.put("research-199", new MeteorResearchEntry(
-            "research-199",
-            "Сектор наблюдения 199",
-            "Артефактный отчёт №199: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 199.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 199.",
-            "Риск: нестабильное поле плазмы в секторе 199."
-        ));
-        entries.put("research-200", new MeteorResearchEntry(
-            "research-200",
-            "Сектор наблюдения 200",
-            "Артефактный отчёт №200: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 200.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 200.",
-            "Риск: нестабильное поле плазмы в секторе 200."
-        ));
-        entries.put("research-201", new MeteorResearchEntry(
-            "research-201",
-            "Сектор наблюдения 201",
-            "Артефактный отчёт №201: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 201.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 201.",
-            "Риск: нестабильное поле плазмы в секторе 201."
-        ));
-        entries.put("research-202", new MeteorResearchEntry(
-            "research-202",
-            "Сектор наблюдения 202",
-            "Артефактный отчёт №202: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 202.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 202.",
-            "Риск: нестабильное поле плазмы в секторе 202."
-        ));
-        entries.put("research-203", new MeteorResearchEntry(
-            "research-203",
-            "Сектор наблюдения 203",
-            "Артефактный отчёт №203: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 203.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 203.",
-            "Риск: нестабильное поле плазмы в секторе 203."
-        ));
-        entries.put("research-204", new MeteorResearchEntry(
-            "research-204",
-            "Сектор наблюдения 204",
-            "Артефактный отчёт №204: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 204.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 204.",
-            "Риск: нестабильное поле плазмы в секторе 204."
-        ));
-        entries.put("research-205", new MeteorResearchEntry(
-            "research-205",
-            "Сектор наблюдения 205",
-            "Артефактный отчёт №205: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 205.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 205.",
-            "Риск: нестабильное поле плазмы в секторе 205."
-        ));
-        entries.put("research-206", new MeteorResearchEntry(
-            "research-206",
-            "Сектор наблюдения 206",
-            "Артефактный отчёт №206: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 206.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 206.",
-            "Риск: нестабильное поле плазмы в секторе 206."
-        ));
-        entries.put("research-207", new MeteorResearchEntry(
-            "research-207",
-            "Сектор наблюдения 207",
-            "Артефактный отчёт №207: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 207.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 207.",
-            "Риск: нестабильное поле плазмы в секторе 207."
-        ));
-        entries.put("research-208", new MeteorResearchEntry(
-            "research-208",
-            "Сектор наблюдения 208",
-            "Артефактный отчёт №208: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 208.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 208.",
-            "Риск: нестабильное поле плазмы в секторе 208."
-        ));
-        entries.put("research-209", new MeteorResearchEntry(
-            "research-209",
-            "Сектор наблюдения 209",
-            "Артефактный отчёт №209: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 209.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 209.",
-            "Риск: нестабильное поле плазмы в секторе 209."
-        ));
-        entries.put("research-210", new MeteorResearchEntry(
-            "research-210",
-            "Сектор наблюдения 210",
-            "Артефактный отчёт №210: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 210.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 210.",
-            "Риск: нестабильное поле плазмы в секторе 210."
-        ));
-        entries.put("research-211", new MeteorResearchEntry(
-            "research-211",
-            "Сектор наблюдения 211",
-            "Артефактный отчёт №211: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 211.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 211.",
-            "Риск: нестабильное поле плазмы в секторе 211."
-        ));
-        entries.put("research-212", new MeteorResearchEntry(
-            "research-212",
-            "Сектор наблюдения 212",
-            "Артефактный отчёт №212: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 212.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 212.",
-            "Риск: нестабильное поле плазмы в секторе 212."
-        ));
-        entries.put("research-213", new MeteorResearchEntry(
-            "research-213",
-            "Сектор наблюдения 213",
-            "Артефактный отчёт №213: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 213.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 213.",
-            "Риск: нестабильное поле плазмы в секторе 213."
-        ));
-        entries.put("research-214", new MeteorResearchEntry(
-            "research-214",
-            "Сектор наблюдения 214",
-            "Артефактный отчёт №214: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 214.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 214.",
-            "Риск: нестабильное поле плазмы в секторе 214."
-        ));
-        entries.put("research-215", new MeteorResearchEntry(
-            "research-215",
-            "Сектор наблюдения 215",
-            "Артефактный отчёт №215: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 215.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 215.",
-            "Риск: нестабильное поле плазмы в секторе 215."
-        ));
-        entries.put("research-216", new MeteorResearchEntry(
-            "research-216",
-            "Сектор наблюдения 216",
-            "Артефактный отчёт №216: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 216.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 216.",
-            "Риск: нестабильное поле плазмы в секторе 216."
-        ));
-        entries.put("research-217", new MeteorResearchEntry(
-            "research-217",
-            "Сектор наблюдения 217",
-            "Артефактный отчёт №217: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 217.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 217.",
-            "Риск: нестабильное поле плазмы в секторе 217."
-        ));
-        entries.put("research-218", new MeteorResearchEntry(
-            "research-218",
-            "Сектор наблюдения 218",
-            "Артефактный отчёт №218: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 218.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 218.",
-            "Риск: нестабильное поле плазмы в секторе 218."
-        ));
-        entries.put("research-219", new MeteorResearchEntry(
-            "research-219",
-            "Сектор наблюдения 219",
-            "Артефактный отчёт №219: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 219.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 219.",
-            "Риск: нестабильное поле плазмы в секторе 219."
-        ));
-        entries.put("research-220", new MeteorResearchEntry(
-            "research-220",
-            "Сектор наблюдения 220",
-            "Артефактный отчёт №220: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 220.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 220.",
-            "Риск: нестабильное поле плазмы в секторе 220."
-        ));
-        entries.put("research-221", new MeteorResearchEntry(
-            "research-221",
-            "Сектор наблюдения 221",
-            "Артефактный отчёт №221: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 221.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 221.",
-            "Риск: нестабильное поле плазмы в секторе 221."
-        ));
-        entries.put("research-222", new MeteorResearchEntry(
-            "research-222",
-            "Сектор наблюдения 222",
-            "Артефактный отчёт №222: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 222.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 222.",
-            "Риск: нестабильное поле плазмы в секторе 222."
-        ));
-        entries.put("research-223", new MeteorResearchEntry(
-            "research-223",
-            "Сектор наблюдения 223",
-            "Артефактный отчёт №223: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 223.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 223.",
-            "Риск: нестабильное поле плазмы в секторе 223."
-        ));
-        entries.put("research-224", new MeteorResearchEntry(
-            "research-224",
-            "Сектор наблюдения 224",
-            "Артефактный отчёт №224: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 224.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 224.",
-            "Риск: нестабильное поле плазмы в секторе 224."
-        ));
-        entries.put("research-225", new MeteorResearchEntry(
-            "research-225",
-            "Сектор наблюдения 225",
-            "Артефактный отчёт №225: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 225.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 225.",
-            "Риск: нестабильное поле плазмы в секторе 225."
-        ));
-        entries.put("research-226", new MeteorResearchEntry(
-            "research-226",
-            "Сектор наблюдения 226",
-            "Артефактный отчёт №226: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 226.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 226.",
-            "Риск: нестабильное поле плазмы в секторе 226."
-        ));
-        entries.put("research-227", new MeteorResearchEntry(
-            "research-227",
-            "Сектор наблюдения 227",
-            "Артефактный отчёт №227: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 227.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 227.",
-            "Риск: нестабильное поле плазмы в секторе 227."
-        ));
-        entries.put("research-228", new MeteorResearchEntry(
-            "research-228",
-            "Сектор наблюдения 228",
-            "Артефактный отчёт №228: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 228.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 228.",
-            "Риск: нестабильное поле плазмы в секторе 228."
-        ));
-        entries.put("research-229", new MeteorResearchEntry(
-            "research-229",
-            "Сектор наблюдения 229",
-            "Артефактный отчёт №229: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 229.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 229.",
-            "Риск: нестабильное поле плазмы в секторе 229."
-        ));
-        entries.put("research-230", new MeteorResearchEntry(
-            "research-230",
-            "Сектор наблюдения 230",
-            "Артефактный отчёт №230: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 230.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 230.",
-            "Риск: нестабильное поле плазмы в секторе 230."
-        ));
-        entries.put("research-231", new MeteorResearchEntry(
-            "research-231",
-            "Сектор наблюдения 231",
-            "Артефактный отчёт №231: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 231.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 231.",
-            "Риск: нестабильное поле плазмы в секторе 231."
-        ));
-        entries.put("research-232", new MeteorResearchEntry(
-            "research-232",
-            "Сектор наблюдения 232",
-            "Артефактный отчёт №232: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 232.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 232.",
-            "Риск: нестабильное поле плазмы в секторе 232."
-        ));
-        entries.put("research-233", new MeteorResearchEntry(
-            "research-233",
-            "Сектор наблюдения 233",
-            "Артефактный отчёт №233: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 233.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 233.",
-            "Риск: нестабильное поле плазмы в секторе 233."
-        ));
-        entries.put("research-234", new MeteorResearchEntry(
-            "research-234",
-            "Сектор наблюдения 234",
-            "Артефактный отчёт №234: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 234.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 234.",
-            "Риск: нестабильное поле плазмы в секторе 234."
-        ));
-        entries.put("research-235", new MeteorResearchEntry(
-            "research-235",
-            "Сектор наблюдения 235",
-            "Артефактный отчёт №235: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 235.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 235.",
-            "Риск: нестабильное поле плазмы в секторе 235."
-        ));
-        entries.put("research-236", new MeteorResearchEntry(
-            "research-236",
-            "Сектор наблюдения 236",
-            "Артефактный отчёт №236: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 236.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 236.",
-            "Риск: нестабильное поле плазмы в секторе 236."
-        ));
-        entries.put("research-237", new MeteorResearchEntry(
-            "research-237",
-            "Сектор наблюдения 237",
-            "Артефактный отчёт №237: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 237.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 237.",
-            "Риск: нестабильное поле плазмы в секторе 237."
-        ));
-        entries.put("research-238", new MeteorResearchEntry(
-            "research-238",
-            "Сектор наблюдения 238",
-            "Артефактный отчёт №238: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 238.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 238.",
-            "Риск: нестабильное поле плазмы в секторе 238."
-        ));
-        entries.put("research-239", new MeteorResearchEntry(
-            "research-239",
-            "Сектор наблюдения 239",
-            "Артефактный отчёт №239: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 239.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 239.",
-            "Риск: нестабильное поле плазмы в секторе 239."
-        ));
-        entries.put("research-240", new MeteorResearchEntry(
-            "research-240",
-            "Сектор наблюдения 240",
-            "Артефактный отчёт №240: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 240.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 240.",
-            "Риск: нестабильное поле плазмы в секторе 240."
-        ));
-        entries.put("research-241", new MeteorResearchEntry(
-            "research-241",
-            "Сектор наблюдения 241",
-            "Артефактный отчёт №241: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 241.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 241.",
-            "Риск: нестабильное поле плазмы в секторе 241."
-        ));
-        entries.put("research-242", new MeteorResearchEntry(
-            "research-242",
-            "Сектор наблюдения 242",
-            "Артефактный отчёт №242: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 242.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 242.",
-            "Риск: нестабильное поле плазмы в секторе 242."
-        ));
-        entries.put("research-243", new MeteorResearchEntry(
-            "research-243",
-            "Сектор наблюдения 243",
-            "Артефактный отчёт №243: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 243.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 243.",
-            "Риск: нестабильное поле плазмы в секторе 243."
-        ));
-        entries.put("research-244", new MeteorResearchEntry(
-            "research-244",
-            "Сектор наблюдения 244",
-            "Артефактный отчёт №244: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 244.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 244.",
-            "Риск: нестабильное поле плазмы в секторе 244."
-        ));
-        entries.put("research-245", new MeteorResearchEntry(
-            "research-245",
-            "Сектор наблюдения 245",
-            "Артефактный отчёт №245: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 245.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 245.",
-            "Риск: нестабильное поле плазмы в секторе 245."
-        ));
-        entries.put("research-246", new MeteorResearchEntry(
-            "research-246",
-            "Сектор наблюдения 246",
-            "Артефактный отчёт №246: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 246.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 246.",
-            "Риск: нестабильное поле плазмы в секторе 246."
-        ));
-        entries.put("research-247", new MeteorResearchEntry(
-            "research-247",
-            "Сектор наблюдения 247",
-            "Артефактный отчёт №247: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 247.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 247.",
-            "Риск: нестабильное поле плазмы в секторе 247."
-        ));
-        entries.put("research-248", new MeteorResearchEntry(
-            "research-248",
-            "Сектор наблюдения 248",
-            "Артефактный отчёт №248: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 248.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 248.",
-            "Риск: нестабильное поле плазмы в секторе 248."
-        ));
-        entries.put("research-249", new MeteorResearchEntry(
-            "research-249",
-            "Сектор наблюдения 249",
-            "Артефактный отчёт №249: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 249.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 249.",
-            "Риск: нестабильное поле плазмы в секторе 249."
-        ));
-        entries.put("research-250", new MeteorResearchEntry(
-            "research-250",
-            "Сектор наблюдения 250",
-            "Артефактный отчёт №250: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 250.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 250.",
-            "Риск: нестабильное поле плазмы в секторе 250."
-        ));
-        entries.put("research-251", new MeteorResearchEntry(
-            "research-251",
-            "Сектор наблюдения 251",
-            "Артефактный отчёт №251: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 251.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 251.",
-            "Риск: нестабильное поле плазмы в секторе 251."
-        ));
-        entries.put("research-252", new MeteorResearchEntry(
-            "research-252",
-            "Сектор наблюдения 252",
-            "Артефактный отчёт №252: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 252.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 252.",
-            "Риск: нестабильное поле плазмы в секторе 252."
-        ));
-        entries.put("research-253", new MeteorResearchEntry(
-            "research-253",
-            "Сектор наблюдения 253",
-            "Артефактный отчёт №253: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 253.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 253.",
-            "Риск: нестабильное поле плазмы в секторе 253."
-        ));
-        entries.put("research-254", new MeteorResearchEntry(
-            "research-254",
-            "Сектор наблюдения 254",
-            "Артефактный отчёт №254: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 254.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 254.",
-            "Риск: нестабильное поле плазмы в секторе 254."
-        ));
-        entries.put("research-255", new MeteorResearchEntry(
-            "research-255",
-            "Сектор наблюдения 255",
-            "Артефактный отчёт №255: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 255.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 255.",
-            "Риск: нестабильное поле плазмы в секторе 255."
-        ));
-        entries.put("research-256", new MeteorResearchEntry(
-            "research-256",
-            "Сектор наблюдения 256",
-            "Артефактный отчёт №256: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 256.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 256.",
-            "Риск: нестабильное поле плазмы в секторе 256."
-        ));
-        entries.put("research-257", new MeteorResearchEntry(
-            "research-257",
-            "Сектор наблюдения 257",
-            "Артефактный отчёт №257: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 257.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 257.",
-            "Риск: нестабильное поле плазмы в секторе 257."
-        ));
-        entries.put("research-258", new MeteorResearchEntry(
-            "research-258",
-            "Сектор наблюдения 258",
-            "Артефактный отчёт №258: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 258.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 258.",
-            "Риск: нестабильное поле плазмы в секторе 258."
-        ));
-        entries.put("research-259", new MeteorResearchEntry(
-            "research-259",
-            "Сектор наблюдения 259",
-            "Артефактный отчёт №259: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 259.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 259.",
-            "Риск: нестабильное поле плазмы в секторе 259."
-        ));
-        entries.put("research-260", new MeteorResearchEntry(
-            "research-260",
-            "Сектор наблюдения 260",
-            "Артефактный отчёт №260: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 260.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 260.",
-            "Риск: нестабильное поле плазмы в секторе 260."
-        ));
-        entries.put("research-261", new MeteorResearchEntry(
-            "research-261",
-            "Сектор наблюдения 261",
-            "Артефактный отчёт №261: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 261.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 261.",
-            "Риск: нестабильное поле плазмы в секторе 261."
-        ));
-        entries.put("research-262", new MeteorResearchEntry(
-            "research-262",
-            "Сектор наблюдения 262",
-            "Артефактный отчёт №262: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 262.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 262.",
-            "Риск: нестабильное поле плазмы в секторе 262."
-        ));
-        entries.put("research-263", new MeteorResearchEntry(
-            "research-263",
-            "Сектор наблюдения 263",
-            "Артефактный отчёт №263: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 263.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 263.",
-            "Риск: нестабильное поле плазмы в секторе 263."
-        ));
-        entries.put("research-264", new MeteorResearchEntry(
-            "research-264",
-            "Сектор наблюдения 264",
-            "Артефактный отчёт №264: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 264.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 264.",
-            "Риск: нестабильное поле плазмы в секторе 264."
-        ));
-        entries.put("research-265", new MeteorResearchEntry(
-            "research-265",
-            "Сектор наблюдения 265",
-            "Артефактный отчёт №265: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 265.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 265.",
-            "Риск: нестабильное поле плазмы в секторе 265."
-        ));
-        entries.put("research-266", new MeteorResearchEntry(
-            "research-266",
-            "Сектор наблюдения 266",
-            "Артефактный отчёт №266: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 266.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 266.",
-            "Риск: нестабильное поле плазмы в секторе 266."
-        ));
-        entries.put("research-267", new MeteorResearchEntry(
-            "research-267",
-            "Сектор наблюдения 267",
-            "Артефактный отчёт №267: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 267.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 267.",
-            "Риск: нестабильное поле плазмы в секторе 267."
-        ));
-        entries.put("research-268", new MeteorResearchEntry(
-            "research-268",
-            "Сектор наблюдения 268",
-            "Артефактный отчёт №268: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 268.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 268.",
-            "Риск: нестабильное поле плазмы в секторе 268."
-        ));
-        entries.put("research-269", new MeteorResearchEntry(
-            "research-269",
-            "Сектор наблюдения 269",
-            "Артефактный отчёт №269: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 269.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 269.",
-            "Риск: нестабильное поле плазмы в секторе 269."
-        ));
-        entries.put("research-270", new MeteorResearchEntry(
-            "research-270",
-            "Сектор наблюдения 270",
-            "Артефактный отчёт №270: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 270.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 270.",
-            "Риск: нестабильное поле плазмы в секторе 270."
-        ));
-        entries.put("research-271", new MeteorResearchEntry(
-            "research-271",
-            "Сектор наблюдения 271",
-            "Артефактный отчёт №271: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 271.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 271.",
-            "Риск: нестабильное поле плазмы в секторе 271."
-        ));
-        entries.put("research-272", new MeteorResearchEntry(
-            "research-272",
-            "Сектор наблюдения 272",
-            "Артефактный отчёт №272: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 272.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 272.",
-            "Риск: нестабильное поле плазмы в секторе 272."
-        ));
-        entries.put("research-273", new MeteorResearchEntry(
-            "research-273",
-            "Сектор наблюдения 273",
-            "Артефактный отчёт №273: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 273.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 273.",
-            "Риск: нестабильное поле плазмы в секторе 273."
-        ));
-        entries.put("research-274", new MeteorResearchEntry(
-            "research-274",
-            "Сектор наблюдения 274",
-            "Артефактный отчёт №274: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 274.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 274.",
-            "Риск: нестабильное поле плазмы в секторе 274."
-        ));
-        entries.put("research-275", new MeteorResearchEntry(
-            "research-275",
-            "Сектор наблюдения 275",
-            "Артефактный отчёт №275: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 275.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 275.",
-            "Риск: нестабильное поле плазмы в секторе 275."
-        ));
-        entries.put("research-276", new MeteorResearchEntry(
-            "research-276",
-            "Сектор наблюдения 276",
-            "Артефактный отчёт №276: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 276.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 276.",
-            "Риск: нестабильное поле плазмы в секторе 276."
-        ));
-        entries.put("research-277", new MeteorResearchEntry(
-            "research-277",
-            "Сектор наблюдения 277",
-            "Артефактный отчёт №277: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 277.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 277.",
-            "Риск: нестабильное поле плазмы в секторе 277."
-        ));
-        entries.put("research-278", new MeteorResearchEntry(
-            "research-278",
-            "Сектор наблюдения 278",
-            "Артефактный отчёт №278: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 278.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 278.",
-            "Риск: нестабильное поле плазмы в секторе 278."
-        ));
-        entries.put("research-279", new MeteorResearchEntry(
-            "research-279",
-            "Сектор наблюдения 279",
-            "Артефактный отчёт №279: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 279.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 279.",
-            "Риск: нестабильное поле плазмы в секторе 279."
-        ));
-        entries.put("research-280", new MeteorResearchEntry(
-            "research-280",
-            "Сектор наблюдения 280",
-            "Артефактный отчёт №280: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 280.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 280.",
-            "Риск: нестабильное поле плазмы в секторе 280."
-        ));
-        entries.put("research-281", new MeteorResearchEntry(
-            "research-281",
-            "Сектор наблюдения 281",
-            "Артефактный отчёт №281: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 281.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 281.",
-            "Риск: нестабильное поле плазмы в секторе 281."
-        ));
-        entries.put("research-282", new MeteorResearchEntry(
-            "research-282",
-            "Сектор наблюдения 282",
-            "Артефактный отчёт №282: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 282.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 282.",
-            "Риск: нестабильное поле плазмы в секторе 282."
-        ));
-        entries.put("research-283", new MeteorResearchEntry(
-            "research-283",
-            "Сектор наблюдения 283",
-            "Артефактный отчёт №283: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 283.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 283.",
-            "Риск: нестабильное поле плазмы в секторе 283."
-        ));
-        entries.put("research-284", new MeteorResearchEntry(
-            "research-284",
-            "Сектор наблюдения 284",
-            "Артефактный отчёт №284: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 284.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 284.",
-            "Риск: нестабильное поле плазмы в секторе 284."
-        ));
-        entries.put("research-285", new MeteorResearchEntry(
-            "research-285",
-            "Сектор наблюдения 285",
-            "Артефактный отчёт №285: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 285.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 285.",
-            "Риск: нестабильное поле плазмы в секторе 285."
-        ));
-        entries.put("research-286", new MeteorResearchEntry(
-            "research-286",
-            "Сектор наблюдения 286",
-            "Артефактный отчёт №286: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 286.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 286.",
-            "Риск: нестабильное поле плазмы в секторе 286."
-        ));
-        entries.put("research-287", new MeteorResearchEntry(
-            "research-287",
-            "Сектор наблюдения 287",
-            "Артефактный отчёт №287: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 287.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 287.",
-            "Риск: нестабильное поле плазмы в секторе 287."
-        ));
-        entries.put("research-288", new MeteorResearchEntry(
-            "research-288",
-            "Сектор наблюдения 288",
-            "Артефактный отчёт №288: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 288.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 288.",
-            "Риск: нестабильное поле плазмы в секторе 288."
-        ));
-        entries.put("research-289", new MeteorResearchEntry(
-            "research-289",
-            "Сектор наблюдения 289",
-            "Артефактный отчёт №289: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 289.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 289.",
-            "Риск: нестабильное поле плазмы в секторе 289."
-        ));
-        entries.put("research-290", new MeteorResearchEntry(
-            "research-290",
-            "Сектор наблюдения 290",
-            "Артефактный отчёт №290: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 290.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 290.",
-            "Риск: нестабильное поле плазмы в секторе 290."
-        ));
-        entries.put("research-291", new MeteorResearchEntry(
-            "research-291",
-            "Сектор наблюдения 291",
-            "Артефактный отчёт №291: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 291.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 291.",
-            "Риск: нестабильное поле плазмы в секторе 291."
-        ));
-        entries.put("research-292", new MeteorResearchEntry(
-            "research-292",
-            "Сектор наблюдения 292",
-            "Артефактный отчёт №292: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 292.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 292.",
-            "Риск: нестабильное поле плазмы в секторе 292."
-        ));
-        entries.put("research-293", new MeteorResearchEntry(
-            "research-293",
-            "Сектор наблюдения 293",
-            "Артефактный отчёт №293: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 293.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 293.",
-            "Риск: нестабильное поле плазмы в секторе 293."
-        ));
-        entries.put("research-294", new MeteorResearchEntry(
-            "research-294",
-            "Сектор наблюдения 294",
-            "Артефактный отчёт №294: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 294.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 294.",
-            "Риск: нестабильное поле плазмы в секторе 294."
-        ));
-        entries.put("research-295", new MeteorResearchEntry(
-            "research-295",
-            "Сектор наблюдения 295",
-            "Артефактный отчёт №295: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 295.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 295.",
-            "Риск: нестабильное поле плазмы в секторе 295."
-        ));
-        entries.put("research-296", new MeteorResearchEntry(
-            "research-296",
-            "Сектор наблюдения 296",
-            "Артефактный отчёт №296: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 296.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 296.",
-            "Риск: нестабильное поле плазмы в секторе 296."
-        ));
-        entries.put("research-297", new MeteorResearchEntry(
-            "research-297",
-            "Сектор наблюдения 297",
-            "Артефактный отчёт №297: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 297.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 297.",
-            "Риск: нестабильное поле плазмы в секторе 297."
-        ));
-        entries.put("research-298", new MeteorResearchEntry(
-            "research-298",
-            "Сектор наблюдения 298",
-            "Артефактный отчёт №298: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 298.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 298.",
-            "Риск: нестабильное поле плазмы в секторе 298."
-        ));
-        entries.put("research-299", new MeteorResearchEntry(
-            "research-299",
-            "Сектор наблюдения 299",
-            "Артефактный отчёт №299: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 299.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 299.",
-            "Риск: нестабильное поле плазмы в секторе 299."
-        ));
-        entries.put("research-300", new MeteorResearchEntry(
-            "research-300",
-            "Сектор наблюдения 300",
-            "Артефактный отчёт №300: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 300.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 300.",
-            "Риск: нестабильное поле плазмы в секторе 300."
-        ));
-        entries.put("research-301", new MeteorResearchEntry(
-            "research-301",
-            "Сектор наблюдения 301",
-            "Артефактный отчёт №301: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 301.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 301.",
-            "Риск: нестабильное поле плазмы в секторе 301."
-        ));
-        entries.put("research-302", new MeteorResearchEntry(
-            "research-302",
-            "Сектор наблюдения 302",
-            "Артефактный отчёт №302: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 302.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 302.",
-            "Риск: нестабильное поле плазмы в секторе 302."
-        ));
-        entries.put("research-303", new MeteorResearchEntry(
-            "research-303",
-            "Сектор наблюдения 303",
-            "Артефактный отчёт №303: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 303.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 303.",
-            "Риск: нестабильное поле плазмы в секторе 303."
-        ));
-        entries.put("research-304", new MeteorResearchEntry(
-            "research-304",
-            "Сектор наблюдения 304",
-            "Артефактный отчёт №304: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 304.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 304.",
-            "Риск: нестабильное поле плазмы в секторе 304."
-        ));
-        entries.put("research-305", new MeteorResearchEntry(
-            "research-305",
-            "Сектор наблюдения 305",
-            "Артефактный отчёт №305: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 305.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 305.",
-            "Риск: нестабильное поле плазмы в секторе 305."
-        ));
-        entries.put("research-306", new MeteorResearchEntry(
-            "research-306",
-            "Сектор наблюдения 306",
-            "Артефактный отчёт №306: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 306.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 306.",
-            "Риск: нестабильное поле плазмы в секторе 306."
-        ));
-        entries.put("research-307", new MeteorResearchEntry(
-            "research-307",
-            "Сектор наблюдения 307",
-            "Артефактный отчёт №307: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 307.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 307.",
-            "Риск: нестабильное поле плазмы в секторе 307."
-        ));
-        entries.put("research-308", new MeteorResearchEntry(
-            "research-308",
-            "Сектор наблюдения 308",
-            "Артефактный отчёт №308: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 308.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 308.",
-            "Риск: нестабильное поле плазмы в секторе 308."
-        ));
-        entries.put("research-309", new MeteorResearchEntry(
-            "research-309",
-            "Сектор наблюдения 309",
-            "Артефактный отчёт №309: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 309.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 309.",
-            "Риск: нестабильное поле плазмы в секторе 309."
-        ));
-        entries.put("research-310", new MeteorResearchEntry(
-            "research-310",
-            "Сектор наблюдения 310",
-            "Артефактный отчёт №310: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 310.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 310.",
-            "Риск: нестабильное поле плазмы в секторе 310."
-        ));
-        entries.put("research-311", new MeteorResearchEntry(
-            "research-311",
-            "Сектор наблюдения 311",
-            "Артефактный отчёт №311: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 311.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 311.",
-            "Риск: нестабильное поле плазмы в секторе 311."
-        ));
-        entries.put("research-312", new MeteorResearchEntry(
-            "research-312",
-            "Сектор наблюдения 312",
-            "Артефактный отчёт №312: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 312.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 312.",
-            "Риск: нестабильное поле плазмы в секторе 312."
-        ));
-        entries.put("research-313", new MeteorResearchEntry(
-            "research-313",
-            "Сектор наблюдения 313",
-            "Артефактный отчёт №313: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 313.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 313.",
-            "Риск: нестабильное поле плазмы в секторе 313."
-        ));
-        entries.put("research-314", new MeteorResearchEntry(
-            "research-314",
-            "Сектор наблюдения 314",
-            "Артефактный отчёт №314: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 314.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 314.",
-            "Риск: нестабильное поле плазмы в секторе 314."
-        ));
-        entries.put("research-315", new MeteorResearchEntry(
-            "research-315",
-            "Сектор наблюдения 315",
-            "Артефактный отчёт №315: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 315.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 315.",
-            "Риск: нестабильное поле плазмы в секторе 315."
-        ));
-        entries.put("research-316", new MeteorResearchEntry(
-            "research-316",
-            "Сектор наблюдения 316",
-            "Артефактный отчёт №316: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 316.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 316.",
-            "Риск: нестабильное поле плазмы в секторе 316."
-        ));
-        entries.put("research-317", new MeteorResearchEntry(
-            "research-317",
-            "Сектор наблюдения 317",
-            "Артефактный отчёт №317: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 317.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 317.",
-            "Риск: нестабильное поле плазмы в секторе 317."
-        ));
-        entries.put("research-318", new MeteorResearchEntry(
-            "research-318",
-            "Сектор наблюдения 318",
-            "Артефактный отчёт №318: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 318.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 318.",
-            "Риск: нестабильное поле плазмы в секторе 318."
-        ));
-        entries.put("research-319", new MeteorResearchEntry(
-            "research-319",
-            "Сектор наблюдения 319",
-            "Артефактный отчёт №319: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 319.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 319.",
-            "Риск: нестабильное поле плазмы в секторе 319."
-        ));
-        entries.put("research-320", new MeteorResearchEntry(
-            "research-320",
-            "Сектор наблюдения 320",
-            "Артефактный отчёт №320: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 320.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 320.",
-            "Риск: нестабильное поле плазмы в секторе 320."
-        ));
-        entries.put("research-321", new MeteorResearchEntry(
-            "research-321",
-            "Сектор наблюдения 321",
-            "Артефактный отчёт №321: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 321.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 321.",
-            "Риск: нестабильное поле плазмы в секторе 321."
-        ));
-        entries.put("research-322", new MeteorResearchEntry(
-            "research-322",
-            "Сектор наблюдения 322",
-            "Артефактный отчёт №322: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 322.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 322.",
-            "Риск: нестабильное поле плазмы в секторе 322."
-        ));
-        entries.put("research-323", new MeteorResearchEntry(
-            "research-323",
-            "Сектор наблюдения 323",
-            "Артефактный отчёт №323: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 323.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 323.",
-            "Риск: нестабильное поле плазмы в секторе 323."
-        ));
-        entries.put("research-324", new MeteorResearchEntry(
-            "research-324",
-            "Сектор наблюдения 324",
-            "Артефактный отчёт №324: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 324.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 324.",
-            "Риск: нестабильное поле плазмы в секторе 324."
-        ));
-        entries.put("research-325", new MeteorResearchEntry(
-            "research-325",
-            "Сектор наблюдения 325",
-            "Артефактный отчёт №325: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 325.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 325.",
-            "Риск: нестабильное поле плазмы в секторе 325."
-        ));
-        entries.put("research-326", new MeteorResearchEntry(
-            "research-326",
-            "Сектор наблюдения 326",
-            "Артефактный отчёт №326: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 326.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 326.",
-            "Риск: нестабильное поле плазмы в секторе 326."
-        ));
-        entries.put("research-327", new MeteorResearchEntry(
-            "research-327",
-            "Сектор наблюдения 327",
-            "Артефактный отчёт №327: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 327.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 327.",
-            "Риск: нестабильное поле плазмы в секторе 327."
-        ));
-        entries.put("research-328", new MeteorResearchEntry(
-            "research-328",
-            "Сектор наблюдения 328",
-            "Артефактный отчёт №328: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 328.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 328.",
-            "Риск: нестабильное поле плазмы в секторе 328."
-        ));
-        entries.put("research-329", new MeteorResearchEntry(
-            "research-329",
-            "Сектор наблюдения 329",
-            "Артефактный отчёт №329: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 329.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 329.",
-            "Риск: нестабильное поле плазмы в секторе 329."
-        ));
-        entries.put("research-330", new MeteorResearchEntry(
-            "research-330",
-            "Сектор наблюдения 330",
-            "Артефактный отчёт №330: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 330.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 330.",
-            "Риск: нестабильное поле плазмы в секторе 330."
-        ));
-        entries.put("research-331", new MeteorResearchEntry(
-            "research-331",
-            "Сектор наблюдения 331",
-            "Артефактный отчёт №331: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 331.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 331.",
-            "Риск: нестабильное поле плазмы в секторе 331."
-        ));
-        entries.put("research-332", new MeteorResearchEntry(
-            "research-332",
-            "Сектор наблюдения 332",
-            "Артефактный отчёт №332: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 332.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 332.",
-            "Риск: нестабильное поле плазмы в секторе 332."
-        ));
-        entries.put("research-333", new MeteorResearchEntry(
-            "research-333",
-            "Сектор наблюдения 333",
-            "Артефактный отчёт №333: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 333.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 333.",
-            "Риск: нестабильное поле плазмы в секторе 333."
-        ));
-        entries.put("research-334", new MeteorResearchEntry(
-            "research-334",
-            "Сектор наблюдения 334",
-            "Артефактный отчёт №334: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 334.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 334.",
-            "Риск: нестабильное поле плазмы в секторе 334."
-        ));
-        entries.put("research-335", new MeteorResearchEntry(
-            "research-335",
-            "Сектор наблюдения 335",
-            "Артефактный отчёт №335: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 335.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 335.",
-            "Риск: нестабильное поле плазмы в секторе 335."
-        ));
-        entries.put("research-336", new MeteorResearchEntry(
-            "research-336",
-            "Сектор наблюдения 336",
-            "Артефактный отчёт №336: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 336.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 336.",
-            "Риск: нестабильное поле плазмы в секторе 336."
-        ));
-        entries.put("research-337", new MeteorResearchEntry(
-            "research-337",
-            "Сектор наблюдения 337",
-            "Артефактный отчёт №337: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 337.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 337.",
-            "Риск: нестабильное поле плазмы в секторе 337."
-        ));
-        entries.put("research-338", new MeteorResearchEntry(
-            "research-338",
-            "Сектор наблюдения 338",
-            "Артефактный отчёт №338: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 338.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 338.",
-            "Риск: нестабильное поле плазмы в секторе 338."
-        ));
-        entries.put("research-339", new MeteorResearchEntry(
-            "research-339",
-            "Сектор наблюдения 339",
-            "Артефактный отчёт №339: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 339.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 339.",
-            "Риск: нестабильное поле плазмы в секторе 339."
-        ));
-        entries.put("research-340", new MeteorResearchEntry(
-            "research-340",
-            "Сектор наблюдения 340",
-            "Артефактный отчёт №340: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 340.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 340.",
-            "Риск: нестабильное поле плазмы в секторе 340."
-        ));
-        entries.put("research-341", new MeteorResearchEntry(
-            "research-341",
-            "Сектор наблюдения 341",
-            "Артефактный отчёт №341: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 341.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 341.",
-            "Риск: нестабильное поле плазмы в секторе 341."
-        ));
-        entries.put("research-342", new MeteorResearchEntry(
-            "research-342",
-            "Сектор наблюдения 342",
-            "Артефактный отчёт №342: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 342.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 342.",
-            "Риск: нестабильное поле плазмы в секторе 342."
-        ));
-        entries.put("research-343", new MeteorResearchEntry(
-            "research-343",
-            "Сектор наблюдения 343",
-            "Артефактный отчёт №343: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 343.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 343.",
-            "Риск: нестабильное поле плазмы в секторе 343."
-        ));
-        entries.put("research-344", new MeteorResearchEntry(
-            "research-344",
-            "Сектор наблюдения 344",
-            "Артефактный отчёт №344: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 344.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 344.",
-            "Риск: нестабильное поле плазмы в секторе 344."
-        ));
-        entries.put("research-345", new MeteorResearchEntry(
-            "research-345",
-            "Сектор наблюдения 345",
-            "Артефактный отчёт №345: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 345.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 345.",
-            "Риск: нестабильное поле плазмы в секторе 345."
-        ));
-        entries.put("research-346", new MeteorResearchEntry(
-            "research-346",
-            "Сектор наблюдения 346",
-            "Артефактный отчёт №346: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 346.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 346.",
-            "Риск: нестабильное поле плазмы в секторе 346."
-        ));
-        entries.put("research-347", new MeteorResearchEntry(
-            "research-347",
-            "Сектор наблюдения 347",
-            "Артефактный отчёт №347: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 347.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 347.",
-            "Риск: нестабильное поле плазмы в секторе 347."
-        ));
-        entries.put("research-348", new MeteorResearchEntry(
-            "research-348",
-            "Сектор наблюдения 348",
-            "Артефактный отчёт №348: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 348.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 348.",
-            "Риск: нестабильное поле плазмы в секторе 348."
-        ));
-        entries.put("research-349", new MeteorResearchEntry(
-            "research-349",
-            "Сектор наблюдения 349",
-            "Артефактный отчёт №349: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 349.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 349.",
-            "Риск: нестабильное поле плазмы в секторе 349."
-        ));
-        entries.put("research-350", new MeteorResearchEntry(
-            "research-350",
-            "Сектор наблюдения 350",
-            "Артефактный отчёт №350: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 350.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 350.",
-            "Риск: нестабильное поле плазмы в секторе 350."
-        ));
-        entries.put("research-351", new MeteorResearchEntry(
-            "research-351",
-            "Сектор наблюдения 351",
-            "Артефактный отчёт №351: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 351.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 351.",
-            "Риск: нестабильное поле плазмы в секторе 351."
-        ));
-        entries.put("research-352", new MeteorResearchEntry(
-            "research-352",
-            "Сектор наблюдения 352",
-            "Артефактный отчёт №352: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 352.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 352.",
-            "Риск: нестабильное поле плазмы в секторе 352."
-        ));
-        entries.put("research-353", new MeteorResearchEntry(
-            "research-353",
-            "Сектор наблюдения 353",
-            "Артефактный отчёт №353: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 353.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 353.",
-            "Риск: нестабильное поле плазмы в секторе 353."
-        ));
-        entries.put("research-354", new MeteorResearchEntry(
-            "research-354",
-            "Сектор наблюдения 354",
-            "Артефактный отчёт №354: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 354.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 354.",
-            "Риск: нестабильное поле плазмы в секторе 354."
-        ));
-        entries.put("research-355", new MeteorResearchEntry(
-            "research-355",
-            "Сектор наблюдения 355",
-            "Артефактный отчёт №355: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 355.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 355.",
-            "Риск: нестабильное поле плазмы в секторе 355."
-        ));
-        entries.put("research-356", new MeteorResearchEntry(
-            "research-356",
-            "Сектор наблюдения 356",
-            "Артефактный отчёт №356: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 356.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 356.",
-            "Риск: нестабильное поле плазмы в секторе 356."
-        ));
-        entries.put("research-357", new MeteorResearchEntry(
-            "research-357",
-            "Сектор наблюдения 357",
-            "Артефактный отчёт №357: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 357.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 357.",
-            "Риск: нестабильное поле плазмы в секторе 357."
-        ));
-        entries.put("research-358", new MeteorResearchEntry(
-            "research-358",
-            "Сектор наблюдения 358",
-            "Артефактный отчёт №358: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 358.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 358.",
-            "Риск: нестабильное поле плазмы в секторе 358."
-        ));
-        entries.put("research-359", new MeteorResearchEntry(
-            "research-359",
-            "Сектор наблюдения 359",
-            "Артефактный отчёт №359: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 359.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 359.",
-            "Риск: нестабильное поле плазмы в секторе 359."
-        ));
-        entries.put("research-360", new MeteorResearchEntry(
-            "research-360",
-            "Сектор наблюдения 360",
-            "Артефактный отчёт №360: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 360.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 360.",
-            "Риск: нестабильное поле плазмы в секторе 360."
-        ));
-        entries.put("research-361", new MeteorResearchEntry(
-            "research-361",
-            "Сектор наблюдения 361",
-            "Артефактный отчёт №361: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 361.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 361.",
-            "Риск: нестабильное поле плазмы в секторе 361."
-        ));
-        entries.put("research-362", new MeteorResearchEntry(
-            "research-362",
-            "Сектор наблюдения 362",
-            "Артефактный отчёт №362: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 362.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 362.",
-            "Риск: нестабильное поле плазмы в секторе 362."
-        ));
-        entries.put("research-363", new MeteorResearchEntry(
-            "research-363",
-            "Сектор наблюдения 363",
-            "Артефактный отчёт №363: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 363.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 363.",
-            "Риск: нестабильное поле плазмы в секторе 363."
-        ));
-        entries.put("research-364", new MeteorResearchEntry(
-            "research-364",
-            "Сектор наблюдения 364",
-            "Артефактный отчёт №364: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 364.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 364.",
-            "Риск: нестабильное поле плазмы в секторе 364."
-        ));
-        entries.put("research-365", new MeteorResearchEntry(
-            "research-365",
-            "Сектор наблюдения 365",
-            "Артефактный отчёт №365: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 365.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 365.",
-            "Риск: нестабильное поле плазмы в секторе 365."
-        ));
-        entries.put("research-366", new MeteorResearchEntry(
-            "research-366",
-            "Сектор наблюдения 366",
-            "Артефактный отчёт №366: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 366.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 366.",
-            "Риск: нестабильное поле плазмы в секторе 366."
-        ));
-        entries.put("research-367", new MeteorResearchEntry(
-            "research-367",
-            "Сектор наблюдения 367",
-            "Артефактный отчёт №367: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 367.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 367.",
-            "Риск: нестабильное поле плазмы в секторе 367."
-        ));
-        entries.put("research-368", new MeteorResearchEntry(
-            "research-368",
-            "Сектор наблюдения 368",
-            "Артефактный отчёт №368: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 368.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 368.",
-            "Риск: нестабильное поле плазмы в секторе 368."
-        ));
-        entries.put("research-369", new MeteorResearchEntry(
-            "research-369",
-            "Сектор наблюдения 369",
-            "Артефактный отчёт №369: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 369.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 369.",
-            "Риск: нестабильное поле плазмы в секторе 369."
-        ));
-        entries.put("research-370", new MeteorResearchEntry(
-            "research-370",
-            "Сектор наблюдения 370",
-            "Артефактный отчёт №370: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 370.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 370.",
-            "Риск: нестабильное поле плазмы в секторе 370."
-        ));
-        entries.put("research-371", new MeteorResearchEntry(
-            "research-371",
-            "Сектор наблюдения 371",
-            "Артефактный отчёт №371: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 371.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 371.",
-            "Риск: нестабильное поле плазмы в секторе 371."
-        ));
-        entries.put("research-372", new MeteorResearchEntry(
-            "research-372",
-            "Сектор наблюдения 372",
-            "Артефактный отчёт №372: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 372.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 372.",
-            "Риск: нестабильное поле плазмы в секторе 372."
-        ));
-        entries.put("research-373", new MeteorResearchEntry(
-            "research-373",
-            "Сектор наблюдения 373",
-            "Артефактный отчёт №373: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 373.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 373.",
-            "Риск: нестабильное поле плазмы в секторе 373."
-        ));
-        entries.put("research-374", new MeteorResearchEntry(
-            "research-374",
-            "Сектор наблюдения 374",
-            "Артефактный отчёт №374: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 374.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 374.",
-            "Риск: нестабильное поле плазмы в секторе 374."
-        ));
-        entries.put("research-375", new MeteorResearchEntry(
-            "research-375",
-            "Сектор наблюдения 375",
-            "Артефактный отчёт №375: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 375.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 375.",
-            "Риск: нестабильное поле плазмы в секторе 375."
-        ));
-        entries.put("research-376", new MeteorResearchEntry(
-            "research-376",
-            "Сектор наблюдения 376",
-            "Артефактный отчёт №376: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 376.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 376.",
-            "Риск: нестабильное поле плазмы в секторе 376."
-        ));
-        entries.put("research-377", new MeteorResearchEntry(
-            "research-377",
-            "Сектор наблюдения 377",
-            "Артефактный отчёт №377: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 377.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 377.",
-            "Риск: нестабильное поле плазмы в секторе 377."
-        ));
-        entries.put("research-378", new MeteorResearchEntry(
-            "research-378",
-            "Сектор наблюдения 378",
-            "Артефактный отчёт №378: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 378.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 378.",
-            "Риск: нестабильное поле плазмы в секторе 378."
-        ));
-        entries.put("research-379", new MeteorResearchEntry(
-            "research-379",
-            "Сектор наблюдения 379",
-            "Артефактный отчёт №379: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 379.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 379.",
-            "Риск: нестабильное поле плазмы в секторе 379."
-        ));
-        entries.put("research-380", new MeteorResearchEntry(
-            "research-380",
-            "Сектор наблюдения 380",
-            "Артефактный отчёт №380: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 380.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 380.",
-            "Риск: нестабильное поле плазмы в секторе 380."
-        ));
-        entries.put("research-381", new MeteorResearchEntry(
-            "research-381",
-            "Сектор наблюдения 381",
-            "Артефактный отчёт №381: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 381.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 381.",
-            "Риск: нестабильное поле плазмы в секторе 381."
-        ));
-        entries.put("research-382", new MeteorResearchEntry(
-            "research-382",
-            "Сектор наблюдения 382",
-            "Артефактный отчёт №382: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 382.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 382.",
-            "Риск: нестабильное поле плазмы в секторе 382."
-        ));
-        entries.put("research-383", new MeteorResearchEntry(
-            "research-383",
-            "Сектор наблюдения 383",
-            "Артефактный отчёт №383: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 383.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 383.",
-            "Риск: нестабильное поле плазмы в секторе 383."
-        ));
-        entries.put("research-384", new MeteorResearchEntry(
-            "research-384",
-            "Сектор наблюдения 384",
-            "Артефактный отчёт №384: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 384.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 384.",
-            "Риск: нестабильное поле плазмы в секторе 384."
-        ));
-        entries.put("research-385", new MeteorResearchEntry(
-            "research-385",
-            "Сектор наблюдения 385",
-            "Артефактный отчёт №385: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 385.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 385.",
-            "Риск: нестабильное поле плазмы в секторе 385."
-        ));
-        entries.put("research-386", new MeteorResearchEntry(
-            "research-386",
-            "Сектор наблюдения 386",
-            "Артефактный отчёт №386: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 386.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 386.",
-            "Риск: нестабильное поле плазмы в секторе 386."
-        ));
-        entries.put("research-387", new MeteorResearchEntry(
-            "research-387",
-            "Сектор наблюдения 387",
-            "Артефактный отчёт №387: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 387.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 387.",
-            "Риск: нестабильное поле плазмы в секторе 387."
-        ));
-        entries.put("research-388", new MeteorResearchEntry(
-            "research-388",
-            "Сектор наблюдения 388",
-            "Артефактный отчёт №388: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 388.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 388.",
-            "Риск: нестабильное поле плазмы в секторе 388."
-        ));
-        entries.put("research-389", new MeteorResearchEntry(
-            "research-389",
-            "Сектор наблюдения 389",
-            "Артефактный отчёт №389: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 389.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 389.",
-            "Риск: нестабильное поле плазмы в секторе 389."
-        ));
-        entries.put("research-390", new MeteorResearchEntry(
-            "research-390",
-            "Сектор наблюдения 390",
-            "Артефактный отчёт №390: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 390.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 390.",
-            "Риск: нестабильное поле плазмы в секторе 390."
-        ));
-        entries.put("research-391", new MeteorResearchEntry(
-            "research-391",
-            "Сектор наблюдения 391",
-            "Артефактный отчёт №391: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 391.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 391.",
-            "Риск: нестабильное поле плазмы в секторе 391."
-        ));
-        entries.put("research-392", new MeteorResearchEntry(
-            "research-392",
-            "Сектор наблюдения 392",
-            "Артефактный отчёт №392: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 392.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 392.",
-            "Риск: нестабильное поле плазмы в секторе 392."
-        ));
-        entries.put("research-393", new MeteorResearchEntry(
-            "research-393",
-            "Сектор наблюдения 393",
-            "Артефактный отчёт №393: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 393.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 393.",
-            "Риск: нестабильное поле плазмы в секторе 393."
-        ));
-        entries.put("research-394", new MeteorResearchEntry(
-            "research-394",
-            "Сектор наблюдения 394",
-            "Артефактный отчёт №394: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 394.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 394.",
-            "Риск: нестабильное поле плазмы в секторе 394."
-        ));
-        entries.put("research-395", new MeteorResearchEntry(
-            "research-395",
-            "Сектор наблюдения 395",
-            "Артефактный отчёт №395: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 395.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 395.",
-            "Риск: нестабильное поле плазмы в секторе 395."
-        ));
-        entries.put("research-396", new MeteorResearchEntry(
-            "research-396",
-            "Сектор наблюдения 396",
-            "Артефактный отчёт №396: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 396.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 396.",
-            "Риск: нестабильное поле плазмы в секторе 396."
-        ));
-        entries.put("research-397", new MeteorResearchEntry(
-            "research-397",
-            "Сектор наблюдения 397",
-            "Артефактный отчёт №397: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 397.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 397.",
-            "Риск: нестабильное поле плазмы в секторе 397."
-        ));
-        entries.put("research-398", new MeteorResearchEntry(
-            "research-398",
-            "Сектор наблюдения 398",
-            "Артефактный отчёт №398: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 398.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 398.",
-            "Риск: нестабильное поле плазмы в секторе 398."
-        ));
-        entries.put("research-399", new MeteorResearchEntry(
-            "research-399",
-            "Сектор наблюдения 399",
-            "Артефактный отчёт №399: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 399.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 399.",
-            "Риск: нестабильное поле плазмы в секторе 399."
-        ));
-        entries.put("research-400", new MeteorResearchEntry(
-            "research-400",
-            "Сектор наблюдения 400",
-            "Артефактный отчёт №400: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 400.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 400.",
-            "Риск: нестабильное поле плазмы в секторе 400."
-        ));
-        entries.put("research-401", new MeteorResearchEntry(
-            "research-401",
-            "Сектор наблюдения 401",
-            "Артефактный отчёт №401: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 401.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 401.",
-            "Риск: нестабильное поле плазмы в секторе 401."
-        ));
-        entries.put("research-402", new MeteorResearchEntry(
-            "research-402",
-            "Сектор наблюдения 402",
-            "Артефактный отчёт №402: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 402.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 402.",
-            "Риск: нестабильное поле плазмы в секторе 402."
-        ));
-        entries.put("research-403", new MeteorResearchEntry(
-            "research-403",
-            "Сектор наблюдения 403",
-            "Артефактный отчёт №403: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 403.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 403.",
-            "Риск: нестабильное поле плазмы в секторе 403."
-        ));
-        entries.put("research-404", new MeteorResearchEntry(
-            "research-404",
-            "Сектор наблюдения 404",
-            "Артефактный отчёт №404: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 404.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 404.",
-            "Риск: нестабильное поле плазмы в секторе 404."
-        ));
-        entries.put("research-405", new MeteorResearchEntry(
-            "research-405",
-            "Сектор наблюдения 405",
-            "Артефактный отчёт №405: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 405.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 405.",
-            "Риск: нестабильное поле плазмы в секторе 405."
-        ));
-        entries.put("research-406", new MeteorResearchEntry(
-            "research-406",
-            "Сектор наблюдения 406",
-            "Артефактный отчёт №406: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 406.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 406.",
-            "Риск: нестабильное поле плазмы в секторе 406."
-        ));
-        entries.put("research-407", new MeteorResearchEntry(
-            "research-407",
-            "Сектор наблюдения 407",
-            "Артефактный отчёт №407: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 407.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 407.",
-            "Риск: нестабильное поле плазмы в секторе 407."
-        ));
-        entries.put("research-408", new MeteorResearchEntry(
-            "research-408",
-            "Сектор наблюдения 408",
-            "Артефактный отчёт №408: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 408.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 408.",
-            "Риск: нестабильное поле плазмы в секторе 408."
-        ));
-        entries.put("research-409", new MeteorResearchEntry(
-            "research-409",
-            "Сектор наблюдения 409",
-            "Артефактный отчёт №409: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 409.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 409.",
-            "Риск: нестабильное поле плазмы в секторе 409."
-        ));
-        entries.put("research-410", new MeteorResearchEntry(
-            "research-410",
-            "Сектор наблюдения 410",
-            "Артефактный отчёт №410: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 410.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 410.",
-            "Риск: нестабильное поле плазмы в секторе 410."
-        ));
-        entries.put("research-411", new MeteorResearchEntry(
-            "research-411",
-            "Сектор наблюдения 411",
-            "Артефактный отчёт №411: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 411.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 411.",
-            "Риск: нестабильное поле плазмы в секторе 411."
-        ));
-        entries.put("research-412", new MeteorResearchEntry(
-            "research-412",
-            "Сектор наблюдения 412",
-            "Артефактный отчёт №412: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 412.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 412.",
-            "Риск: нестабильное поле плазмы в секторе 412."
-        ));
-        entries.put("research-413", new MeteorResearchEntry(
-            "research-413",
-            "Сектор наблюдения 413",
-            "Артефактный отчёт №413: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 413.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 413.",
-            "Риск: нестабильное поле плазмы в секторе 413."
-        ));
-        entries.put("research-414", new MeteorResearchEntry(
-            "research-414",
-            "Сектор наблюдения 414",
-            "Артефактный отчёт №414: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 414.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 414.",
-            "Риск: нестабильное поле плазмы в секторе 414."
-        ));
-        entries.put("research-415", new MeteorResearchEntry(
-            "research-415",
-            "Сектор наблюдения 415",
-            "Артефактный отчёт №415: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 415.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 415.",
-            "Риск: нестабильное поле плазмы в секторе 415."
-        ));
-        entries.put("research-416", new MeteorResearchEntry(
-            "research-416",
-            "Сектор наблюдения 416",
-            "Артефактный отчёт №416: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 416.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 416.",
-            "Риск: нестабильное поле плазмы в секторе 416."
-        ));
-        entries.put("research-417", new MeteorResearchEntry(
-            "research-417",
-            "Сектор наблюдения 417",
-            "Артефактный отчёт №417: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 417.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 417.",
-            "Риск: нестабильное поле плазмы в секторе 417."
-        ));
-        entries.put("research-418", new MeteorResearchEntry(
-            "research-418",
-            "Сектор наблюдения 418",
-            "Артефактный отчёт №418: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 418.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 418.",
-            "Риск: нестабильное поле плазмы в секторе 418."
-        ));
-        entries.put("research-419", new MeteorResearchEntry(
-            "research-419",
-            "Сектор наблюдения 419",
-            "Артефактный отчёт №419: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 419.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 419.",
-            "Риск: нестабильное поле плазмы в секторе 419."
-        ));
-        entries.put("research-420", new MeteorResearchEntry(
-            "research-420",
-            "Сектор наблюдения 420",
-            "Артефактный отчёт №420: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 420.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 420.",
-            "Риск: нестабильное поле плазмы в секторе 420."
-        ));
-        entries.put("research-421", new MeteorResearchEntry(
-            "research-421",
-            "Сектор наблюдения 421",
-            "Артефактный отчёт №421: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 421.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 421.",
-            "Риск: нестабильное поле плазмы в секторе 421."
-        ));
-        entries.put("research-422", new MeteorResearchEntry(
-            "research-422",
-            "Сектор наблюдения 422",
-            "Артефактный отчёт №422: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 422.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 422.",
-            "Риск: нестабильное поле плазмы в секторе 422."
-        ));
-        entries.put("research-423", new MeteorResearchEntry(
-            "research-423",
-            "Сектор наблюдения 423",
-            "Артефактный отчёт №423: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 423.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 423.",
-            "Риск: нестабильное поле плазмы в секторе 423."
-        ));
-        entries.put("research-424", new MeteorResearchEntry(
-            "research-424",
-            "Сектор наблюдения 424",
-            "Артефактный отчёт №424: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 424.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 424.",
-            "Риск: нестабильное поле плазмы в секторе 424."
-        ));
-        entries.put("research-425", new MeteorResearchEntry(
-            "research-425",
-            "Сектор наблюдения 425",
-            "Артефактный отчёт №425: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 425.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 425.",
-            "Риск: нестабильное поле плазмы в секторе 425."
-        ));
-        entries.put("research-426", new MeteorResearchEntry(
-            "research-426",
-            "Сектор наблюдения 426",
-            "Артефактный отчёт №426: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 426.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 426.",
-            "Риск: нестабильное поле плазмы в секторе 426."
-        ));
-        entries.put("research-427", new MeteorResearchEntry(
-            "research-427",
-            "Сектор наблюдения 427",
-            "Артефактный отчёт №427: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 427.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 427.",
-            "Риск: нестабильное поле плазмы в секторе 427."
-        ));
-        entries.put("research-428", new MeteorResearchEntry(
-            "research-428",
-            "Сектор наблюдения 428",
-            "Артефактный отчёт №428: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 428.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 428.",
-            "Риск: нестабильное поле плазмы в секторе 428."
-        ));
-        entries.put("research-429", new MeteorResearchEntry(
-            "research-429",
-            "Сектор наблюдения 429",
-            "Артефактный отчёт №429: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 429.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 429.",
-            "Риск: нестабильное поле плазмы в секторе 429."
-        ));
-        entries.put("research-430", new MeteorResearchEntry(
-            "research-430",
-            "Сектор наблюдения 430",
-            "Артефактный отчёт №430: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 430.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 430.",
-            "Риск: нестабильное поле плазмы в секторе 430."
-        ));
-        entries.put("research-431", new MeteorResearchEntry(
-            "research-431",
-            "Сектор наблюдения 431",
-            "Артефактный отчёт №431: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 431.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 431.",
-            "Риск: нестабильное поле плазмы в секторе 431."
-        ));
-        entries.put("research-432", new MeteorResearchEntry(
-            "research-432",
-            "Сектор наблюдения 432",
-            "Артефактный отчёт №432: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 432.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 432.",
-            "Риск: нестабильное поле плазмы в секторе 432."
-        ));
-        entries.put("research-433", new MeteorResearchEntry(
-            "research-433",
-            "Сектор наблюдения 433",
-            "Артефактный отчёт №433: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 433.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 433.",
-            "Риск: нестабильное поле плазмы в секторе 433."
-        ));
-        entries.put("research-434", new MeteorResearchEntry(
-            "research-434",
-            "Сектор наблюдения 434",
-            "Артефактный отчёт №434: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 434.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 434.",
-            "Риск: нестабильное поле плазмы в секторе 434."
-        ));
-        entries.put("research-435", new MeteorResearchEntry(
-            "research-435",
-            "Сектор наблюдения 435",
-            "Артефактный отчёт №435: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 435.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 435.",
-            "Риск: нестабильное поле плазмы в секторе 435."
-        ));
-        entries.put("research-436", new MeteorResearchEntry(
-            "research-436",
-            "Сектор наблюдения 436",
-            "Артефактный отчёт №436: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 436.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 436.",
-            "Риск: нестабильное поле плазмы в секторе 436."
-        ));
-        entries.put("research-437", new MeteorResearchEntry(
-            "research-437",
-            "Сектор наблюдения 437",
-            "Артефактный отчёт №437: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 437.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 437.",
-            "Риск: нестабильное поле плазмы в секторе 437."
-        ));
-        entries.put("research-438", new MeteorResearchEntry(
-            "research-438",
-            "Сектор наблюдения 438",
-            "Артефактный отчёт №438: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 438.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 438.",
-            "Риск: нестабильное поле плазмы в секторе 438."
-        ));
-        entries.put("research-439", new MeteorResearchEntry(
-            "research-439",
-            "Сектор наблюдения 439",
-            "Артефактный отчёт №439: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 439.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 439.",
-            "Риск: нестабильное поле плазмы в секторе 439."
-        ));
-        entries.put("research-440", new MeteorResearchEntry(
-            "research-440",
-            "Сектор наблюдения 440",
-            "Артефактный отчёт №440: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 440.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 440.",
-            "Риск: нестабильное поле плазмы в секторе 440."
-        ));
-        entries.put("research-441", new MeteorResearchEntry(
-            "research-441",
-            "Сектор наблюдения 441",
-            "Артефактный отчёт №441: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 441.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 441.",
-            "Риск: нестабильное поле плазмы в секторе 441."
-        ));
-        entries.put("research-442", new MeteorResearchEntry(
-            "research-442",
-            "Сектор наблюдения 442",
-            "Артефактный отчёт №442: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 442.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 442.",
-            "Риск: нестабильное поле плазмы в секторе 442."
-        ));
-        entries.put("research-443", new MeteorResearchEntry(
-            "research-443",
-            "Сектор наблюдения 443",
-            "Артефактный отчёт №443: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 443.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 443.",
-            "Риск: нестабильное поле плазмы в секторе 443."
-        ));
-        entries.put("research-444", new MeteorResearchEntry(
-            "research-444",
-            "Сектор наблюдения 444",
-            "Артефактный отчёт №444: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 444.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 444.",
-            "Риск: нестабильное поле плазмы в секторе 444."
-        ));
-        entries.put("research-445", new MeteorResearchEntry(
-            "research-445",
-            "Сектор наблюдения 445",
-            "Артефактный отчёт №445: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 445.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 445.",
-            "Риск: нестабильное поле плазмы в секторе 445."
-        ));
-        entries.put("research-446", new MeteorResearchEntry(
-            "research-446",
-            "Сектор наблюдения 446",
-            "Артефактный отчёт №446: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 446.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 446.",
-            "Риск: нестабильное поле плазмы в секторе 446."
-        ));
-        entries.put("research-447", new MeteorResearchEntry(
-            "research-447",
-            "Сектор наблюдения 447",
-            "Артефактный отчёт №447: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 447.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 447.",
-            "Риск: нестабильное поле плазмы в секторе 447."
-        ));
-        entries.put("research-448", new MeteorResearchEntry(
-            "research-448",
-            "Сектор наблюдения 448",
-            "Артефактный отчёт №448: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 448.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 448.",
-            "Риск: нестабильное поле плазмы в секторе 448."
-        ));
-        entries.put("research-449", new MeteorResearchEntry(
-            "research-449",
-            "Сектор наблюдения 449",
-            "Артефактный отчёт №449: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 449.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 449.",
-            "Риск: нестабильное поле плазмы в секторе 449."
-        ));
-        entries.put("research-450", new MeteorResearchEntry(
-            "research-450",
-            "Сектор наблюдения 450",
-            "Артефактный отчёт №450: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 450.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 450.",
-            "Риск: нестабильное поле плазмы в секторе 450."
-        ));
-        entries.put("research-451", new MeteorResearchEntry(
-            "research-451",
-            "Сектор наблюдения 451",
-            "Артефактный отчёт №451: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 451.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 451.",
-            "Риск: нестабильное поле плазмы в секторе 451."
-        ));
-        entries.put("research-452", new MeteorResearchEntry(
-            "research-452",
-            "Сектор наблюдения 452",
-            "Артефактный отчёт №452: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 452.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 452.",
-            "Риск: нестабильное поле плазмы в секторе 452."
-        ));
-        entries.put("research-453", new MeteorResearchEntry(
-            "research-453",
-            "Сектор наблюдения 453",
-            "Артефактный отчёт №453: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 453.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 453.",
-            "Риск: нестабильное поле плазмы в секторе 453."
-        ));
-        entries.put("research-454", new MeteorResearchEntry(
-            "research-454",
-            "Сектор наблюдения 454",
-            "Артефактный отчёт №454: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 454.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 454.",
-            "Риск: нестабильное поле плазмы в секторе 454."
-        ));
-        entries.put("research-455", new MeteorResearchEntry(
-            "research-455",
-            "Сектор наблюдения 455",
-            "Артефактный отчёт №455: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 455.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 455.",
-            "Риск: нестабильное поле плазмы в секторе 455."
-        ));
-        entries.put("research-456", new MeteorResearchEntry(
-            "research-456",
-            "Сектор наблюдения 456",
-            "Артефактный отчёт №456: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 456.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 456.",
-            "Риск: нестабильное поле плазмы в секторе 456."
-        ));
-        entries.put("research-457", new MeteorResearchEntry(
-            "research-457",
-            "Сектор наблюдения 457",
-            "Артефактный отчёт №457: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 457.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 457.",
-            "Риск: нестабильное поле плазмы в секторе 457."
-        ));
-        entries.put("research-458", new MeteorResearchEntry(
-            "research-458",
-            "Сектор наблюдения 458",
-            "Артефактный отчёт №458: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 458.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 458.",
-            "Риск: нестабильное поле плазмы в секторе 458."
-        ));
-        entries.put("research-459", new MeteorResearchEntry(
-            "research-459",
-            "Сектор наблюдения 459",
-            "Артефактный отчёт №459: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 459.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 459.",
-            "Риск: нестабильное поле плазмы в секторе 459."
-        ));
-        entries.put("research-460", new MeteorResearchEntry(
-            "research-460",
-            "Сектор наблюдения 460",
-            "Артефактный отчёт №460: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 460.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 460.",
-            "Риск: нестабильное поле плазмы в секторе 460."
-        ));
-        entries.put("research-461", new MeteorResearchEntry(
-            "research-461",
-            "Сектор наблюдения 461",
-            "Артефактный отчёт №461: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 461.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 461.",
-            "Риск: нестабильное поле плазмы в секторе 461."
-        ));
-        entries.put("research-462", new MeteorResearchEntry(
-            "research-462",
-            "Сектор наблюдения 462",
-            "Артефактный отчёт №462: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 462.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 462.",
-            "Риск: нестабильное поле плазмы в секторе 462."
-        ));
-        entries.put("research-463", new MeteorResearchEntry(
-            "research-463",
-            "Сектор наблюдения 463",
-            "Артефактный отчёт №463: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 463.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 463.",
-            "Риск: нестабильное поле плазмы в секторе 463."
-        ));
-        entries.put("research-464", new MeteorResearchEntry(
-            "research-464",
-            "Сектор наблюдения 464",
-            "Артефактный отчёт №464: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 464.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 464.",
-            "Риск: нестабильное поле плазмы в секторе 464."
-        ));
-        entries.put("research-465", new MeteorResearchEntry(
-            "research-465",
-            "Сектор наблюдения 465",
-            "Артефактный отчёт №465: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 465.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 465.",
-            "Риск: нестабильное поле плазмы в секторе 465."
-        ));
-        entries.put("research-466", new MeteorResearchEntry(
-            "research-466",
-            "Сектор наблюдения 466",
-            "Артефактный отчёт №466: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 466.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 466.",
-            "Риск: нестабильное поле плазмы в секторе 466."
-        ));
-        entries.put("research-467", new MeteorResearchEntry(
-            "research-467",
-            "Сектор наблюдения 467",
-            "Артефактный отчёт №467: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 467.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 467.",
-            "Риск: нестабильное поле плазмы в секторе 467."
-        ));
-        entries.put("research-468", new MeteorResearchEntry(
-            "research-468",
-            "Сектор наблюдения 468",
-            "Артефактный отчёт №468: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 468.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 468.",
-            "Риск: нестабильное поле плазмы в секторе 468."
-        ));
-        entries.put("research-469", new MeteorResearchEntry(
-            "research-469",
-            "Сектор наблюдения 469",
-            "Артефактный отчёт №469: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 469.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 469.",
-            "Риск: нестабильное поле плазмы в секторе 469."
-        ));
-        entries.put("research-470", new MeteorResearchEntry(
-            "research-470",
-            "Сектор наблюдения 470",
-            "Артефактный отчёт №470: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 470.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 470.",
-            "Риск: нестабильное поле плазмы в секторе 470."
-        ));
-        entries.put("research-471", new MeteorResearchEntry(
-            "research-471",
-            "Сектор наблюдения 471",
-            "Артефактный отчёт №471: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 471.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 471.",
-            "Риск: нестабильное поле плазмы в секторе 471."
-        ));
-        entries.put("research-472", new MeteorResearchEntry(
-            "research-472",
-            "Сектор наблюдения 472",
-            "Артефактный отчёт №472: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 472.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 472.",
-            "Риск: нестабильное поле плазмы в секторе 472."
-        ));
-        entries.put("research-473", new MeteorResearchEntry(
-            "research-473",
-            "Сектор наблюдения 473",
-            "Артефактный отчёт №473: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 473.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 473.",
-            "Риск: нестабильное поле плазмы в секторе 473."
-        ));
-        entries.put("research-474", new MeteorResearchEntry(
-            "research-474",
-            "Сектор наблюдения 474",
-            "Артефактный отчёт №474: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 474.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 474.",
-            "Риск: нестабильное поле плазмы в секторе 474."
-        ));
-        entries.put("research-475", new MeteorResearchEntry(
-            "research-475",
-            "Сектор наблюдения 475",
-            "Артефактный отчёт №475: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 475.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 475.",
-            "Риск: нестабильное поле плазмы в секторе 475."
-        ));
-        entries.put("research-476", new MeteorResearchEntry(
-            "research-476",
-            "Сектор наблюдения 476",
-            "Артефактный отчёт №476: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 476.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 476.",
-            "Риск: нестабильное поле плазмы в секторе 476."
-        ));
-        entries.put("research-477", new MeteorResearchEntry(
-            "research-477",
-            "Сектор наблюдения 477",
-            "Артефактный отчёт №477: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 477.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 477.",
-            "Риск: нестабильное поле плазмы в секторе 477."
-        ));
-        entries.put("research-478", new MeteorResearchEntry(
-            "research-478",
-            "Сектор наблюдения 478",
-            "Артефактный отчёт №478: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 478.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 478.",
-            "Риск: нестабильное поле плазмы в секторе 478."
-        ));
-        entries.put("research-479", new MeteorResearchEntry(
-            "research-479",
-            "Сектор наблюдения 479",
-            "Артефактный отчёт №479: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 479.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 479.",
-            "Риск: нестабильное поле плазмы в секторе 479."
-        ));
-        entries.put("research-480", new MeteorResearchEntry(
-            "research-480",
-            "Сектор наблюдения 480",
-            "Артефактный отчёт №480: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 480.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 480.",
-            "Риск: нестабильное поле плазмы в секторе 480."
-        ));
-        entries.put("research-481", new MeteorResearchEntry(
-            "research-481",
-            "Сектор наблюдения 481",
-            "Артефактный отчёт №481: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 481.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 481.",
-            "Риск: нестабильное поле плазмы в секторе 481."
-        ));
-        entries.put("research-482", new MeteorResearchEntry(
-            "research-482",
-            "Сектор наблюдения 482",
-            "Артефактный отчёт №482: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 482.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 482.",
-            "Риск: нестабильное поле плазмы в секторе 482."
-        ));
-        entries.put("research-483", new MeteorResearchEntry(
-            "research-483",
-            "Сектор наблюдения 483",
-            "Артефактный отчёт №483: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 483.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 483.",
-            "Риск: нестабильное поле плазмы в секторе 483."
-        ));
-        entries.put("research-484", new MeteorResearchEntry(
-            "research-484",
-            "Сектор наблюдения 484",
-            "Артефактный отчёт №484: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 484.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 484.",
-            "Риск: нестабильное поле плазмы в секторе 484."
-        ));
-        entries.put("research-485", new MeteorResearchEntry(
-            "research-485",
-            "Сектор наблюдения 485",
-            "Артефактный отчёт №485: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 485.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 485.",
-            "Риск: нестабильное поле плазмы в секторе 485."
-        ));
-        entries.put("research-486", new MeteorResearchEntry(
-            "research-486",
-            "Сектор наблюдения 486",
-            "Артефактный отчёт №486: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 486.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 486.",
-            "Риск: нестабильное поле плазмы в секторе 486."
-        ));
-        entries.put("research-487", new MeteorResearchEntry(
-            "research-487",
-            "Сектор наблюдения 487",
-            "Артефактный отчёт №487: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 487.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 487.",
-            "Риск: нестабильное поле плазмы в секторе 487."
-        ));
-        entries.put("research-488", new MeteorResearchEntry(
-            "research-488",
-            "Сектор наблюдения 488",
-            "Артефактный отчёт №488: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 488.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 488.",
-            "Риск: нестабильное поле плазмы в секторе 488."
-        ));
-        entries.put("research-489", new MeteorResearchEntry(
-            "research-489",
-            "Сектор наблюдения 489",
-            "Артефактный отчёт №489: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 489.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 489.",
-            "Риск: нестабильное поле плазмы в секторе 489."
-        ));
-        entries.put("research-490", new MeteorResearchEntry(
-            "research-490",
-            "Сектор наблюдения 490",
-            "Артефактный отчёт №490: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 490.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 490.",
-            "Риск: нестабильное поле плазмы в секторе 490."
-        ));
-        entries.put("research-491", new MeteorResearchEntry(
-            "research-491",
-            "Сектор наблюдения 491",
-            "Артефактный отчёт №491: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 491.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 491.",
-            "Риск: нестабильное поле плазмы в секторе 491."
-        ));
-        entries.put("research-492", new MeteorResearchEntry(
-            "research-492",
-            "Сектор наблюдения 492",
-            "Артефактный отчёт №492: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 492.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 492.",
-            "Риск: нестабильное поле плазмы в секторе 492."
-        ));
-        entries.put("research-493", new MeteorResearchEntry(
-            "research-493",
-            "Сектор наблюдения 493",
-            "Артефактный отчёт №493: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 493.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 493.",
-            "Риск: нестабильное поле плазмы в секторе 493."
-        ));
-        entries.put("research-494", new MeteorResearchEntry(
-            "research-494",
-            "Сектор наблюдения 494",
-            "Артефактный отчёт №494: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 494.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 494.",
-            "Риск: нестабильное поле плазмы в секторе 494."
-        ));
-        entries.put("research-495", new MeteorResearchEntry(
-            "research-495",
-            "Сектор наблюдения 495",
-            "Артефактный отчёт №495: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 495.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 495.",
-            "Риск: нестабильное поле плазмы в секторе 495."
-        ));
-        entries.put("research-496", new MeteorResearchEntry(
-            "research-496",
-            "Сектор наблюдения 496",
-            "Артефактный отчёт №496: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 496.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 496.",
-            "Риск: нестабильное поле плазмы в секторе 496."
-        ));
-        entries.put("research-497", new MeteorResearchEntry(
-            "research-497",
-            "Сектор наблюдения 497",
-            "Артефактный отчёт №497: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 497.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 497.",
-            "Риск: нестабильное поле плазмы в секторе 497."
-        ));
-        entries.put("research-498", new MeteorResearchEntry(
-            "research-498",
-            "Сектор наблюдения 498",
-            "Артефактный отчёт №498: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 498.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 498.",
-            "Риск: нестабильное поле плазмы в секторе 498."
-        ));
-        entries.put("research-499", new MeteorResearchEntry(
-            "research-499",
-            "Сектор наблюдения 499",
-            "Артефактный отчёт №499: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 499.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 499.",
-            "Риск: нестабильное поле плазмы в секторе 499."
-        ));
-        entries.put("research-500", new MeteorResearchEntry(
-            "research-500",
-            "Сектор наблюдения 500",
-            "Артефактный отчёт №500: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 500.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 500.",
-            "Риск: нестабильное поле плазмы в секторе 500."
-        ));
-        entries.put("research-501", new MeteorResearchEntry(
-            "research-501",
-            "Сектор наблюдения 501",
-            "Артефактный отчёт №501: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 501.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 501.",
-            "Риск: нестабильное поле плазмы в секторе 501."
-        ));
-        entries.put("research-502", new MeteorResearchEntry(
-            "research-502",
-            "Сектор наблюдения 502",
-            "Артефактный отчёт №502: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 502.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 502.",
-            "Риск: нестабильное поле плазмы в секторе 502."
-        ));
-        entries.put("research-503", new MeteorResearchEntry(
-            "research-503",
-            "Сектор наблюдения 503",
-            "Артефактный отчёт №503: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 503.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 503.",
-            "Риск: нестабильное поле плазмы в секторе 503."
-        ));
-        entries.put("research-504", new MeteorResearchEntry(
-            "research-504",
-            "Сектор наблюдения 504",
-            "Артефактный отчёт №504: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 504.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 504.",
-            "Риск: нестабильное поле плазмы в секторе 504."
-        ));
-        entries.put("research-505", new MeteorResearchEntry(
-            "research-505",
-            "Сектор наблюдения 505",
-            "Артефактный отчёт №505: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 505.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 505.",
-            "Риск: нестабильное поле плазмы в секторе 505."
-        ));
-        entries.put("research-506", new MeteorResearchEntry(
-            "research-506",
-            "Сектор наблюдения 506",
-            "Артефактный отчёт №506: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 506.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 506.",
-            "Риск: нестабильное поле плазмы в секторе 506."
-        ));
-        entries.put("research-507", new MeteorResearchEntry(
-            "research-507",
-            "Сектор наблюдения 507",
-            "Артефактный отчёт №507: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 507.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 507.",
-            "Риск: нестабильное поле плазмы в секторе 507."
-        ));
-        entries.put("research-508", new MeteorResearchEntry(
-            "research-508",
-            "Сектор наблюдения 508",
-            "Артефактный отчёт №508: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 508.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 508.",
-            "Риск: нестабильное поле плазмы в секторе 508."
-        ));
-        entries.put("research-509", new MeteorResearchEntry(
-            "research-509",
-            "Сектор наблюдения 509",
-            "Артефактный отчёт №509: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 509.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 509.",
-            "Риск: нестабильное поле плазмы в секторе 509."
-        ));
-        entries.put("research-510", new MeteorResearchEntry(
-            "research-510",
-            "Сектор наблюдения 510",
-            "Артефактный отчёт №510: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 510.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 510.",
-            "Риск: нестабильное поле плазмы в секторе 510."
-        ));
-        entries.put("research-511", new MeteorResearchEntry(
-            "research-511",
-            "Сектор наблюдения 511",
-            "Артефактный отчёт №511: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 511.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 511.",
-            "Риск: нестабильное поле плазмы в секторе 511."
-        ));
-        entries.put("research-512", new MeteorResearchEntry(
-            "research-512",
-            "Сектор наблюдения 512",
-            "Артефактный отчёт №512: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 512.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 512.",
-            "Риск: нестабильное поле плазмы в секторе 512."
-        ));
-        entries.put("research-513", new MeteorResearchEntry(
-            "research-513",
-            "Сектор наблюдения 513",
-            "Артефактный отчёт №513: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 513.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 513.",
-            "Риск: нестабильное поле плазмы в секторе 513."
-        ));
-        entries.put("research-514", new MeteorResearchEntry(
-            "research-514",
-            "Сектор наблюдения 514",
-            "Артефактный отчёт №514: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 514.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 514.",
-            "Риск: нестабильное поле плазмы в секторе 514."
-        ));
-        entries.put("research-515", new MeteorResearchEntry(
-            "research-515",
-            "Сектор наблюдения 515",
-            "Артефактный отчёт №515: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 515.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 515.",
-            "Риск: нестабильное поле плазмы в секторе 515."
-        ));
-        entries.put("research-516", new MeteorResearchEntry(
-            "research-516",
-            "Сектор наблюдения 516",
-            "Артефактный отчёт №516: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 516.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 516.",
-            "Риск: нестабильное поле плазмы в секторе 516."
-        ));
-        entries.put("research-517", new MeteorResearchEntry(
-            "research-517",
-            "Сектор наблюдения 517",
-            "Артефактный отчёт №517: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 517.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 517.",
-            "Риск: нестабильное поле плазмы в секторе 517."
-        ));
-        entries.put("research-518", new MeteorResearchEntry(
-            "research-518",
-            "Сектор наблюдения 518",
-            "Артефактный отчёт №518: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 518.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 518.",
-            "Риск: нестабильное поле плазмы в секторе 518."
-        ));
-        entries.put("research-519", new MeteorResearchEntry(
-            "research-519",
-            "Сектор наблюдения 519",
-            "Артефактный отчёт №519: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 519.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 519.",
-            "Риск: нестабильное поле плазмы в секторе 519."
-        ));
-        entries.put("research-520", new MeteorResearchEntry(
-            "research-520",
-            "Сектор наблюдения 520",
-            "Артефактный отчёт №520: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 520.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 520.",
-            "Риск: нестабильное поле плазмы в секторе 520."
-        ));
-        entries.put("research-521", new MeteorResearchEntry(
-            "research-521",
-            "Сектор наблюдения 521",
-            "Артефактный отчёт №521: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 521.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 521.",
-            "Риск: нестабильное поле плазмы в секторе 521."
-        ));
-        entries.put("research-522", new MeteorResearchEntry(
-            "research-522",
-            "Сектор наблюдения 522",
-            "Артефактный отчёт №522: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 522.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 522.",
-            "Риск: нестабильное поле плазмы в секторе 522."
-        ));
-        entries.put("research-523", new MeteorResearchEntry(
-            "research-523",
-            "Сектор наблюдения 523",
-            "Артефактный отчёт №523: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 523.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 523.",
-            "Риск: нестабильное поле плазмы в секторе 523."
-        ));
-        entries.put("research-524", new MeteorResearchEntry(
-            "research-524",
-            "Сектор наблюдения 524",
-            "Артефактный отчёт №524: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 524.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 524.",
-            "Риск: нестабильное поле плазмы в секторе 524."
-        ));
-        entries.put("research-525", new MeteorResearchEntry(
-            "research-525",
-            "Сектор наблюдения 525",
-            "Артефактный отчёт №525: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 525.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 525.",
-            "Риск: нестабильное поле плазмы в секторе 525."
-        ));
-        entries.put("research-526", new MeteorResearchEntry(
-            "research-526",
-            "Сектор наблюдения 526",
-            "Артефактный отчёт №526: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 526.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 526.",
-            "Риск: нестабильное поле плазмы в секторе 526."
-        ));
-        entries.put("research-527", new MeteorResearchEntry(
-            "research-527",
-            "Сектор наблюдения 527",
-            "Артефактный отчёт №527: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 527.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 527.",
-            "Риск: нестабильное поле плазмы в секторе 527."
-        ));
-        entries.put("research-528", new MeteorResearchEntry(
-            "research-528",
-            "Сектор наблюдения 528",
-            "Артефактный отчёт №528: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 528.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 528.",
-            "Риск: нестабильное поле плазмы в секторе 528."
-        ));
-        entries.put("research-529", new MeteorResearchEntry(
-            "research-529",
-            "Сектор наблюдения 529",
-            "Артефактный отчёт №529: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 529.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 529.",
-            "Риск: нестабильное поле плазмы в секторе 529."
-        ));
-        entries.put("research-530", new MeteorResearchEntry(
-            "research-530",
-            "Сектор наблюдения 530",
-            "Артефактный отчёт №530: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 530.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 530.",
-            "Риск: нестабильное поле плазмы в секторе 530."
-        ));
-        entries.put("research-531", new MeteorResearchEntry(
-            "research-531",
-            "Сектор наблюдения 531",
-            "Артефактный отчёт №531: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 531.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 531.",
-            "Риск: нестабильное поле плазмы в секторе 531."
-        ));
-        entries.put("research-532", new MeteorResearchEntry(
-            "research-532",
-            "Сектор наблюдения 532",
-            "Артефактный отчёт №532: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 532.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 532.",
-            "Риск: нестабильное поле плазмы в секторе 532."
-        ));
-        entries.put("research-533", new MeteorResearchEntry(
-            "research-533",
-            "Сектор наблюдения 533",
-            "Артефактный отчёт №533: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 533.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 533.",
-            "Риск: нестабильное поле плазмы в секторе 533."
-        ));
-        entries.put("research-534", new MeteorResearchEntry(
-            "research-534",
-            "Сектор наблюдения 534",
-            "Артефактный отчёт №534: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 534.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 534.",
-            "Риск: нестабильное поле плазмы в секторе 534."
-        ));
-        entries.put("research-535", new MeteorResearchEntry(
-            "research-535",
-            "Сектор наблюдения 535",
-            "Артефактный отчёт №535: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 535.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 535.",
-            "Риск: нестабильное поле плазмы в секторе 535."
-        ));
-        entries.put("research-536", new MeteorResearchEntry(
-            "research-536",
-            "Сектор наблюдения 536",
-            "Артефактный отчёт №536: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 536.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 536.",
-            "Риск: нестабильное поле плазмы в секторе 536."
-        ));
-        entries.put("research-537", new MeteorResearchEntry(
-            "research-537",
-            "Сектор наблюдения 537",
-            "Артефактный отчёт №537: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 537.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 537.",
-            "Риск: нестабильное поле плазмы в секторе 537."
-        ));
-        entries.put("research-538", new MeteorResearchEntry(
-            "research-538",
-            "Сектор наблюдения 538",
-            "Артефактный отчёт №538: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 538.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 538.",
-            "Риск: нестабильное поле плазмы в секторе 538."
-        ));
-        entries.put("research-539", new MeteorResearchEntry(
-            "research-539",
-            "Сектор наблюдения 539",
-            "Артефактный отчёт №539: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 539.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 539.",
-            "Риск: нестабильное поле плазмы в секторе 539."
-        ));
-        entries.put("research-540", new MeteorResearchEntry(
-            "research-540",
-            "Сектор наблюдения 540",
-            "Артефактный отчёт №540: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 540.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 540.",
-            "Риск: нестабильное поле плазмы в секторе 540."
-        ));
-        entries.put("research-541", new MeteorResearchEntry(
-            "research-541",
-            "Сектор наблюдения 541",
-            "Артефактный отчёт №541: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 541.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 541.",
-            "Риск: нестабильное поле плазмы в секторе 541."
-        ));
-        entries.put("research-542", new MeteorResearchEntry(
-            "research-542",
-            "Сектор наблюдения 542",
-            "Артефактный отчёт №542: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 542.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 542.",
-            "Риск: нестабильное поле плазмы в секторе 542."
-        ));
-        entries.put("research-543", new MeteorResearchEntry(
-            "research-543",
-            "Сектор наблюдения 543",
-            "Артефактный отчёт №543: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 543.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 543.",
-            "Риск: нестабильное поле плазмы в секторе 543."
-        ));
-        entries.put("research-544", new MeteorResearchEntry(
-            "research-544",
-            "Сектор наблюдения 544",
-            "Артефактный отчёт №544: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 544.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 544.",
-            "Риск: нестабильное поле плазмы в секторе 544."
-        ));
-        entries.put("research-545", new MeteorResearchEntry(
-            "research-545",
-            "Сектор наблюдения 545",
-            "Артефактный отчёт №545: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 545.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 545.",
-            "Риск: нестабильное поле плазмы в секторе 545."
-        ));
-        entries.put("research-546", new MeteorResearchEntry(
-            "research-546",
-            "Сектор наблюдения 546",
-            "Артефактный отчёт №546: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 546.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 546.",
-            "Риск: нестабильное поле плазмы в секторе 546."
-        ));
-        entries.put("research-547", new MeteorResearchEntry(
-            "research-547",
-            "Сектор наблюдения 547",
-            "Артефактный отчёт №547: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 547.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 547.",
-            "Риск: нестабильное поле плазмы в секторе 547."
-        ));
-        entries.put("research-548", new MeteorResearchEntry(
-            "research-548",
-            "Сектор наблюдения 548",
-            "Артефактный отчёт №548: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 548.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 548.",
-            "Риск: нестабильное поле плазмы в секторе 548."
-        ));
-        entries.put("research-549", new MeteorResearchEntry(
-            "research-549",
-            "Сектор наблюдения 549",
-            "Артефактный отчёт №549: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 549.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 549.",
-            "Риск: нестабильное поле плазмы в секторе 549."
-        ));
-        entries.put("research-550", new MeteorResearchEntry(
-            "research-550",
-            "Сектор наблюдения 550",
-            "Артефактный отчёт №550: фиксируем активность метеоритного ядра.",
-            List.of(
-                "Провести калибровку датчиков сектора 550.",
-                "Собрать фрагменты породы и задокументировать спектр.",
-                "Сравнить уровень радиации до и после инцидента."
-            ),
-            "Награда: контейнер с образцами сектора 550.",
-            "Риск: нестабильное поле плазмы в секторе 550."
-        ));
-        return Collections.unmodifiableMap(entries);
+    private static final class Index {
+        private static final Index INSTANCE = load();
+
+        private final byte[] data;
+        private final int[] offsets;
+        private final int[] numbers;
+        private final int size;
+        private final Map<String, Integer> positions;
+        private final MeteorResearchEntry[] decoded;
+        private final List<MeteorResearchEntry> view = new EntryView();
+
+        private Index(byte[] data, int[] offsets, int[] numbers, int size) {
+            this.data = data;
+            this.offsets = offsets;
+            this.numbers = numbers;
+            this.size = size;
+            this.decoded = new MeteorResearchEntry[size];
+            this.positions = new HashMap<>(size * 2);
+            for (int i = 0; i < size; i++) {
+                positions.put(expand(field(offsets[i], 0), numbers[i]), i);
+            }
+        }
+
+        private static Index load() {
+            byte[] data;
+            try (InputStream in = MeteorResearchLibrary.class.getClassLoader().getResourceAsStream(RESOURCE)) {
+                if (in == null) {
+                    throw new IllegalStateException("Missing resource " + RESOURCE);
+                }
+                data = in.readAllBytes();
+            } catch (IOException e) {
+                throw new IllegalStateException("Failed to read " + RESOURCE, e);
+            }
+            int[] offsets = new int[64];
+            int[] numbers = new int[64];
+            int size = 0;
+            int rangeFrom = 0;
+            int rangeTo = -1;
+            int line = 0;
+            for (int start = 0; start < data.length; start = lineEnd(data, start) + 1) {
+                line++;
+                int end = lineEnd(data, start);
+                if (end == start || data[start] == '#') {
+                    continue;
+                }
+                if (data[start] == '@') {
+                    String[] range = new String(data, start + 1, end - start - 1, StandardCharsets.UTF_8).trim().split("\\s+");
+                    try {
+                        rangeFrom = Integer.parseInt(range[0]);
+                        rangeTo = Integer.parseInt(range[1]);
+                    } catch (RuntimeException e) {
+                        throw new IllegalStateException(RESOURCE + ":" + line + ": bad range", e);
+                    }
+                    continue;
+                }
+                int first = rangeTo >= rangeFrom ? rangeFrom : 0;
+                int last = rangeTo >= rangeFrom ? rangeTo : 0;
+                for (int n = first; n <= last; n++) {
+                    if (size == offsets.length) {
+                        offsets = Arrays.copyOf(offsets, size * 2);
+                        numbers = Arrays.copyOf(numbers, size * 2);
+                    }
+                    offsets[size] = start;
+                    numbers[size] = n;
+                    size++;
+                }
+                rangeFrom = 0;
+                rangeTo = -1;
+            }
+            return new Index(data, offsets, numbers, size);
+        }
+
+        private MeteorResearchEntry entry(int position) {
+            MeteorResearchEntry entry = decoded[position];
+            if (entry == null) {
+                entry = decode(position);
+                decoded[position] = entry;
+            }
+            return entry;
+        }
+
+        private MeteorResearchEntry decode(int position) {
+            int start = offsets[position];
+            String[] fields = new String(data, start, lineEnd(data, start) - start, StandardCharsets.UTF_8).split("\t", -1);
+            if (fields.length != 6) {
+                throw new IllegalStateException(RESOURCE + ": expected 6 fields, got " + fields.length);
+            }
+            int n = numbers[position];
+            String[] taskTemplates = fields[3].split("\\|");
+            List<String> tasks = new ArrayList<>(taskTemplates.length);
+            for (String task : taskTemplates) {
+                tasks.add(expand(task, n));
+            }
+            return new MeteorResearchEntry(
+                expand(fields[0], n),
+                expand(fields[1], n),
+                expand(fields[2], n),
+                List.copyOf(tasks),
+                expand(fields[4], n),
+                expand(fields[5], n)
+            );
+        }
+
+        private String field(int start, int index) {
+            int end = lineEnd(data, start);
+            int from = start;
+            for (int i = 0; i < index; i++) {
+                while (from < end && data[from] != '\t') {
+                    from++;
+                }
+                from++;
+            }
+            int to = from;
+            while (to < end && data[to] != '\t') {
+                to++;
+            }
+            return new String(data, from, Math.max(0, to - from), StandardCharsets.UTF_8);
+        }
+
+        private static String expand(String template, int n) {
+            if (!template.contains("{n}")) {
+                return template;
+            }
+            String number = Integer.toString(n);
+            if (number.length() < 3) {
+                number = "000".substring(number.length()) + number;
+            }
+            return template.replace("{n}", number);
+        }
+
+        private final class EntryView extends AbstractList<MeteorResearchEntry> implements RandomAccess {
+            @Override
+            public MeteorResearchEntry get(int index) {
+                return entry(index);
+            }
+
+            @Override
+            public int size() {
+                return size;
+            }
+        }
+
+        private static int lineEnd(byte[] data, int start) {
+            int end = start;
+            while (end < data.length && data[end] != '\n') {
+                end++;
+            }
+            return end > start && data[end - 1] == '\r' ? end - 1 : end;
+        }
     }
 }
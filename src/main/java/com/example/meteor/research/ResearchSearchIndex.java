@@ -0,0 +1,184 @@
+package com.example.meteor.research;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * In-memory inverted index over research texts. Each token maps to the sorted numbers of the
+ * documents containing it; a trie over the vocabulary serves prefix completion.
+ */
+public class ResearchSearchIndex {
+    private static final int MIN_TOKEN_LENGTH = 2;
+
+    private final List<Document> documents = new ArrayList<>();
+    private final Map<String, Postings> postings = new HashMap<>();
+    private final Node root = new Node();
+
+    public record Document(String key, String label) {
+    }
+
+    public record Result(int total, List<Document> documents) {
+    }
+
+    /**
+     * Adds a document. Documents are numbered in insertion order, so postings stay sorted by
+     * appending.
+     */
+    public synchronized void add(String key, String label, String... texts) {
+        int number = documents.size();
+        documents.add(new Document(key, label));
+        for (String text : texts) {
+            for (String token : tokenize(text)) {
+                Postings list = postings.get(token);
+                if (list == null) {
+                    list = new Postings();
+                    postings.put(token, list);
+                    insert(token);
+                }
+                list.add(number);
+            }
+        }
+    }
+
+    /**
+     * Documents containing every word of the query, oldest first.
+     */
+    public synchronized Result search(String query, int limit) {
+        Set<String> tokens = tokenize(query);
+        if (tokens.isEmpty()) {
+            return new Result(0, List.of());
+        }
+        List<Postings> lists = new ArrayList<>(tokens.size());
+        for (String token : tokens) {
+            Postings list = postings.get(token);
+            if (list == null) {
+                return new Result(0, List.of());
+            }
+            lists.add(list);
+        }
+        lists.sort(Comparator.comparingInt(list -> list.size));
+        int[] matches = Arrays.copyOf(lists.get(0).numbers, lists.get(0).size);
+        int count = matches.length;
+        for (int i = 1; i < lists.size() && count > 0; i++) {
+            count = intersect(matches, count, lists.get(i));
+        }
+        List<Document> found = new ArrayList<>(Math.min(count, limit));
+        for (int i = 0; i < count && found.size() < limit; i++) {
+            found.add(documents.get(matches[i]));
+        }
+        return new Result(count, found);
+    }
+
+    /**
+     * Indexed words starting with the given prefix, in alphabetical order.
+     */
+    public synchronized List<String> complete(String prefix, int limit) {
+        String normalized = prefix.toLowerCase(Locale.ROOT);
+        Node node = root;
+        for (int i = 0; i < normalized.length() && node != null; i++) {
+            node = node.children.get(normalized.charAt(i));
+        }
+        List<String> words = new ArrayList<>();
+        if (node != null) {
+            collect(node, new StringBuilder(normalized), words, limit);
+        }
+        return words;
+    }
+
+    public synchronized int getDocumentCount() {
+        return documents.size();
+    }
+
+    public synchronized int getTokenCount() {
+        return postings.size();
+    }
+
+    private void insert(String token) {
+        Node node = root;
+        for (int i = 0; i < token.length(); i++) {
+            node = node.children.computeIfAbsent(token.charAt(i), key -> new Node());
+        }
+        node.word = true;
+    }
+
+    private static void collect(Node node, StringBuilder prefix, List<String> words, int limit) {
+        if (node.word) {
+            words.add(prefix.toString());
+        }
+        for (Map.Entry<Character, Node> child : node.children.entrySet()) {
+            if (words.size() >= limit) {
+                return;
+            }
+            prefix.append(child.getKey().charValue());
+            collect(child.getValue(), prefix, words, limit);
+            prefix.setLength(prefix.length() - 1);
+        }
+    }
+
+    // Keeps the numbers of matches that also appear in other; both sides are sorted.
+    private static int intersect(int[] matches, int count, Postings other) {
+        int kept = 0;
+        int j = 0;
+        for (int i = 0; i < count && j < other.size; i++) {
+            int number = matches[i];
+            while (j < other.size && other.numbers[j] < number) {
+                j++;
+            }
+            if (j < other.size && other.numbers[j] == number) {
+                matches[kept++] = number;
+            }
+        }
+        return kept;
+    }
+
+    private static Set<String> tokenize(String text) {
+        Set<String> tokens = new LinkedHashSet<>();
+        if (text == null) {
+            return tokens;
+        }
+        StringBuilder token = new StringBuilder();
+        for (int i = 0; i <= text.length(); i++) {
+            char c = i < text.length() ? text.charAt(i) : ' ';
+            if (Character.isLetterOrDigit(c)) {
+                token.append(Character.toLowerCase(c));
+                continue;
+            }
+            if (token.length() >= MIN_TOKEN_LENGTH) {
+                tokens.add(token.toString());
+            }
+            token.setLength(0);
+            if (c == '§') {
+                i++;
+            }
+        }
+        return tokens;
+    }
+
+    private static final class Postings {
+        private int[] numbers = new int[4];
+        private int size;
+
+        private void add(int number) {
+            if (size > 0 && numbers[size - 1] == number) {
+                return;
+            }
+            if (size == numbers.length) {
+                numbers = Arrays.copyOf(numbers, size * 2);
+            }
+            numbers[size++] = number;
+        }
+    }
+
+    private static final class Node {
+        private final TreeMap<Character, Node> children = new TreeMap<>();
+        private boolean word;
+    }
+}
@@ -0,0 +1,309 @@
+package com.example.meteor.world;
+
+import org.bukkit.Material;
+import org.bukkit.World;
+import org.bukkit.block.Block;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * Collects block changes and applies them chunk by chunk, section by section. Edits surrounded by
+ * other edits are written without physics. Edits next to an untouched block, and edits queued with
+ * physics, are deferred to the end of their chunk batch and written with physics, so neighbours
+ * (falling blocks, fluids) still react to the finished batch. Edits queued with {@code physics}
+ * false are always written without it.
+ */
+public class BlockEditBuffer {
+    private static final byte REPLACE = 0;
+    private static final byte IF_AIR = 1;
+    private static final byte IF_AIR_ON_SOLID = 2;
+    private static final byte MODE_MASK = 3;
+    // Flag on the mode: never write this edit with physics, even on the batch boundary.
+    private static final byte NO_PHYSICS = 4;
+
+    private final World world;
+    private final Set<Material> protectedMaterials;
+    private final HeightmapCache heightmap;
+    private final Map<Long, ChunkBatch> chunks = new TreeMap<>();
+    private long lastChunkKey = Long.MIN_VALUE;
+    private ChunkBatch lastChunk;
+    private int size = 0;
+    private int applied = 0;
+
+    private PositionSet positions;
+    private Iterator<ChunkBatch> chunkCursor;
+    private ChunkBatch currentChunk;
+    private List<EditList> currentSteps;
+    private int stepIndex;
+    private int editIndex;
+
+    public BlockEditBuffer(World world, Set<Material> protectedMaterials) {
+        this(world, protectedMaterials, null);
+    }
+
+    public BlockEditBuffer(World world, Set<Material> protectedMaterials, HeightmapCache heightmap) {
+        this.world = world;
+        this.protectedMaterials = protectedMaterials;
+        this.heightmap = heightmap;
+    }
+
+    public void set(int x, int y, int z, Material material) {
+        set(x, y, z, material, true);
+    }
+
+    public void set(int x, int y, int z, Material material, boolean physics) {
+        add(x, y, z, material, physics ? REPLACE : REPLACE | NO_PHYSICS, false);
+    }
+
+    public void setWithPhysics(int x, int y, int z, Material material) {
+        add(x, y, z, material, REPLACE, true);
+    }
+
+    public void setIfAir(int x, int y, int z, Material material) {
+        setIfAir(x, y, z, material, true);
+    }
+
+    public void setIfAir(int x, int y, int z, Material material, boolean physics) {
+        add(x, y, z, material, physics ? IF_AIR : IF_AIR | NO_PHYSICS, false);
+    }
+
+    public void setIfAirOnSolid(int x, int y, int z, Material material) {
+        setIfAirOnSolid(x, y, z, material, true);
+    }
+
+    public void setIfAirOnSolid(int x, int y, int z, Material material, boolean physics) {
+        add(x, y, z, material, physics ? IF_AIR_ON_SOLID : IF_AIR_ON_SOLID | NO_PHYSICS, false);
+    }
+
+    public World getWorld() {
+        return world;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public int getAppliedCount() {
+        return applied;
+    }
+
+    public boolean isDone() {
+        return applied >= size;
+    }
+
+    public void applyAll() {
+        apply(Integer.MAX_VALUE, Long.MAX_VALUE);
+    }
+
+    public int apply(int maxEdits, long deadlineNanos) {
+        if (chunkCursor == null) {
+            positions = indexPositions();
+            chunkCursor = chunks.values().iterator();
+        }
+        int count = 0;
+        while (count < maxEdits) {
+            if (currentChunk == null) {
+                if (!chunkCursor.hasNext()) {
+                    break;
+                }
+                currentChunk = chunkCursor.next();
+                currentSteps = currentChunk.steps();
+                stepIndex = 0;
+                editIndex = 0;
+            }
+            if (stepIndex >= currentSteps.size()) {
+                currentChunk = null;
+                continue;
+            }
+            EditList edits = currentSteps.get(stepIndex);
+            if (editIndex >= edits.size) {
+                stepIndex++;
+                editIndex = 0;
+                continue;
+            }
+            if (applyEdit(currentChunk, edits, editIndex++, edits == currentChunk.deferred)) {
+                applied++;
+            }
+            count++;
+            if ((count & 63) == 0 && System.nanoTime() >= deadlineNanos) {
+                break;
+            }
+        }
+        return count;
+    }
+
+    private void add(int x, int y, int z, Material material, int mode, boolean physics) {
+        if (chunkCursor != null) {
+            throw new IllegalStateException("Block edit buffer is already being applied");
+        }
+        int chunkX = x >> 4;
+        int chunkZ = z >> 4;
+        long key = ((long) chunkX << 32) | (chunkZ & 0xFFFFFFFFL);
+        ChunkBatch chunk = key == lastChunkKey ? lastChunk : null;
+        if (chunk == null) {
+            chunk = chunks.computeIfAbsent(key, ignored -> new ChunkBatch(chunkX, chunkZ));
+            lastChunkKey = key;
+            lastChunk = chunk;
+        }
+        EditList edits = physics ? chunk.deferred : chunk.section(y >> 4);
+        edits.add((y << 8) | ((z & 15) << 4) | (x & 15), material, (byte) mode);
+        size++;
+    }
+
+    /**
+     * Returns false when the edit was moved to the chunk's deferred list instead of being written.
+     */
+    private boolean applyEdit(ChunkBatch chunk, EditList edits, int index, boolean physics) {
+        int packed = edits.positions[index];
+        int x = (chunk.chunkX << 4) | (packed & 15);
+        int z = (chunk.chunkZ << 4) | ((packed >> 4) & 15);
+        int y = packed >> 8;
+        byte flags = edits.modes[index];
+        if (!physics && (flags & NO_PHYSICS) == 0 && touchesUnedited(x, y, z)) {
+            chunk.deferred.add(packed, edits.materials[index], flags);
+            return false;
+        }
+        Block block = world.getBlockAt(x, y, z);
+        Material current = block.getType();
+        if (protectedMaterials.contains(current)) {
+            return true;
+        }
+        int mode = flags & MODE_MASK;
+        if (mode != REPLACE && !current.isAir()) {
+            return true;
+        }
+        if (mode == IF_AIR_ON_SOLID && !block.getRelative(0, -1, 0).getType().isSolid()) {
+            return true;
+        }
+        Material material = edits.materials[index];
+        block.setType(material, physics);
+        if (heightmap != null) {
+            heightmap.onBlockChanged(x, y, z, material);
+        }
+        return true;
+    }
+
+    private boolean touchesUnedited(int x, int y, int z) {
+        return !positions.contains(x + 1, y, z)
+            || !positions.contains(x - 1, y, z)
+            || !positions.contains(x, y + 1, z)
+            || !positions.contains(x, y - 1, z)
+            || !positions.contains(x, y, z + 1)
+            || !positions.contains(x, y, z - 1);
+    }
+
+    private PositionSet indexPositions() {
+        PositionSet set = new PositionSet(size);
+        for (ChunkBatch chunk : chunks.values()) {
+            for (EditList edits : chunk.steps()) {
+                for (int i = 0; i < edits.size; i++) {
+                    int packed = edits.positions[i];
+                    set.add((chunk.chunkX << 4) | (packed & 15), packed >> 8, (chunk.chunkZ << 4) | ((packed >> 4) & 15));
+                }
+            }
+        }
+        return set;
+    }
+
+    private static final class ChunkBatch {
+        private final int chunkX;
+        private final int chunkZ;
+        private final TreeMap<Integer, EditList> sections = new TreeMap<>();
+        private final EditList deferred = new EditList();
+        private int lastSectionY = Integer.MIN_VALUE;
+        private EditList lastSection;
+
+        private ChunkBatch(int chunkX, int chunkZ) {
+            this.chunkX = chunkX;
+            this.chunkZ = chunkZ;
+        }
+
+        private EditList section(int sectionY) {
+            if (sectionY != lastSectionY) {
+                lastSection = sections.computeIfAbsent(sectionY, ignored -> new EditList());
+                lastSectionY = sectionY;
+            }
+            return lastSection;
+        }
+
+        private List<EditList> steps() {
+            List<EditList> steps = new ArrayList<>(sections.descendingMap().values());
+            steps.add(deferred);
+            return steps;
+        }
+    }
+
+    private static final class EditList {
+        private int[] positions = new int[32];
+        private Material[] materials = new Material[32];
+        private byte[] modes = new byte[32];
+        private int size = 0;
+
+        private void add(int position, Material material, byte mode) {
+            if (size == positions.length) {
+                positions = Arrays.copyOf(positions, size * 2);
+                materials = Arrays.copyOf(materials, size * 2);
+                modes = Arrays.copyOf(modes, size * 2);
+            }
+            positions[size] = position;
+            materials[size] = material;
+            modes[size] = mode;
+            size++;
+        }
+    }
+
+    /**
+     * Open-addressed set of block positions packed like vanilla block keys: 26 bits of x and z,
+     * 12 bits of y.
+     */
+    private static final class PositionSet {
+        private static final long EMPTY = Long.MIN_VALUE;
+
+        private final long[] keys;
+        private final int mask;
+
+        private PositionSet(int expected) {
+            int capacity = Integer.highestOneBit(Math.max(16, expected * 2 - 1)) << 1;
+            keys = new long[capacity];
+            Arrays.fill(keys, EMPTY);
+            mask = capacity - 1;
+        }
+
+        private void add(int x, int y, int z) {
+            long key = key(x, y, z);
+            int slot = slot(key);
+            while (keys[slot] != EMPTY) {
+                if (keys[slot] == key) {
+                    return;
+                }
+                slot = (slot + 1) & mask;
+            }
+            keys[slot] = key;
+        }
+
+        private boolean contains(int x, int y, int z) {
+            long key = key(x, y, z);
+            for (int slot = slot(key); keys[slot] != EMPTY; slot = (slot + 1) & mask) {
+                if (keys[slot] == key) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private int slot(long key) {
+            long hash = key * 0x9E3779B97F4A7C15L;
+            return (int) (hash ^ (hash >>> 32)) & mask;
+        }
+
+        private static long key(int x, int y, int z) {
+            return ((long) x & 0x3FFFFFFL) << 38 | ((long) z & 0x3FFFFFFL) << 12 | (y & 0xFFFL);
+        }
+    }
+}
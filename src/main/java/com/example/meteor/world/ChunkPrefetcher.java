@@ -0,0 +1,113 @@
+package com.example.meteor.world;
+
+import org.bukkit.World;
+import org.bukkit.configuration.file.FileConfiguration;
+import org.bukkit.plugin.Plugin;
+import org.bukkit.scheduler.BukkitRunnable;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Loads the chunks around an impact site asynchronously ahead of time and holds them with plugin
+ * chunk tickets, so impact terrain work never has to load chunks synchronously.
+ */
+public class ChunkPrefetcher extends BukkitRunnable {
+    private final Plugin plugin;
+    private final World world;
+    private final List<long[]> pending = new ArrayList<>();
+    private final Set<Long> pinned = new HashSet<>();
+    private final int chunksPerTick;
+    private final int totalCount;
+    private int requested = 0;
+    private boolean released = false;
+
+    public ChunkPrefetcher(Plugin plugin, World world, int blockX, int blockZ, int radius, int chunksPerTick) {
+        this.plugin = plugin;
+        this.world = world;
+        this.chunksPerTick = Math.max(1, chunksPerTick);
+        int centerX = blockX >> 4;
+        int centerZ = blockZ >> 4;
+        int chunkRadius = (radius + 15) >> 4;
+        for (int x = -chunkRadius; x <= chunkRadius; x++) {
+            for (int z = -chunkRadius; z <= chunkRadius; z++) {
+                if (x * x + z * z <= (chunkRadius + 1) * (chunkRadius + 1)) {
+                    pending.add(new long[] {centerX + x, centerZ + z, (long) x * x + (long) z * z});
+                }
+            }
+        }
+        pending.sort(Comparator.comparingLong(entry -> entry[2]));
+        this.totalCount = pending.size();
+    }
+
+    public static int affectedRadius(FileConfiguration config) {
+        int radius = config.getInt("meteor.impact.crater-size", 15);
+        radius = Math.max(radius, config.getInt("meteor.impact.debris-radius", 28));
+        radius = Math.max(radius, config.getInt("meteor.impact.debris-cluster-radius", 50) + 4);
+        radius = Math.max(radius, config.getInt("meteor.impact.fire-radius", 14));
+        radius = Math.max(radius, (int) Math.ceil(config.getDouble("meteor.radiation.sculk.max-radius", 24.0)));
+        radius = Math.max(radius, (int) Math.ceil(config.getDouble("meteor.radiation.sculk.initial-radius", 0.0)));
+        radius = Math.max(radius, config.getInt("meteor.radiation.sculk.radius", 0));
+        radius = Math.max(radius, config.getInt("meteor.dome.radius", 15) + 1);
+        return radius + config.getInt("meteor.prefetch.padding-blocks", 16);
+    }
+
+    public ChunkPrefetcher start() {
+        runTaskTimer(plugin, 0L, 1L);
+        return this;
+    }
+
+    @Override
+    public void run() {
+        int issued = 0;
+        while (requested < pending.size() && issued < chunksPerTick) {
+            long[] entry = pending.get(requested++);
+            int chunkX = (int) entry[0];
+            int chunkZ = (int) entry[1];
+            world.getChunkAtAsync(chunkX, chunkZ).thenAccept(chunk -> pin(chunkX, chunkZ));
+            issued++;
+        }
+        if (requested >= pending.size()) {
+            cancel();
+        }
+    }
+
+    private void pin(int chunkX, int chunkZ) {
+        if (released) {
+            return;
+        }
+        if (world.addPluginChunkTicket(chunkX, chunkZ, plugin)) {
+            pinned.add(((long) chunkX << 32) | (chunkZ & 0xFFFFFFFFL));
+        }
+    }
+
+    public void release() {
+        if (released) {
+            return;
+        }
+        released = true;
+        if (!isCancelled()) {
+            cancel();
+        }
+        for (long key : pinned) {
+            world.removePluginChunkTicket((int) (key >> 32), (int) key, plugin);
+        }
+        plugin.getLogger().info("Released " + pinned.size() + " prefetched chunks around the impact site");
+        pinned.clear();
+    }
+
+    public int getPinnedCount() {
+        return pinned.size();
+    }
+
+    public int getTotalCount() {
+        return totalCount;
+    }
+
+    public boolean isReleased() {
+        return released;
+    }
+}
@@ -0,0 +1,69 @@
+package com.example.meteor.world;
+
+import org.bukkit.plugin.Plugin;
+import org.bukkit.scheduler.BukkitRunnable;
+
+public class CraterJob extends BukkitRunnable {
+    private static final int PROGRESS_STEP_PERCENT = 25;
+
+    private final Plugin plugin;
+    private final BlockEditBuffer edits;
+    private final int blocksPerTick;
+    private final long tickBudgetNanos;
+    private final Runnable onComplete;
+    private int reportedPercent = 0;
+    private boolean finished = false;
+
+    public CraterJob(Plugin plugin, BlockEditBuffer edits, int blocksPerTick, int tickBudgetMillis, Runnable onComplete) {
+        this.plugin = plugin;
+        this.edits = edits;
+        this.blocksPerTick = blocksPerTick;
+        this.tickBudgetNanos = Math.max(0, tickBudgetMillis) * 1_000_000L;
+        this.onComplete = onComplete;
+    }
+
+    public CraterJob start() {
+        runTaskTimer(plugin, 0L, 1L);
+        return this;
+    }
+
+    @Override
+    public void run() {
+        long deadline = tickBudgetNanos > 0 ? System.nanoTime() + tickBudgetNanos : Long.MAX_VALUE;
+        int limit = blocksPerTick > 0 ? blocksPerTick : Integer.MAX_VALUE;
+        edits.apply(limit, deadline);
+        reportProgress();
+        if (edits.isDone()) {
+            finished = true;
+            cancel();
+            if (onComplete != null) {
+                onComplete.run();
+            }
+        }
+    }
+
+    public int getAppliedCount() {
+        return edits.getAppliedCount();
+    }
+
+    public int getTotalCount() {
+        return edits.size();
+    }
+
+    public double getProgress() {
+        return edits.size() == 0 ? 1.0 : edits.getAppliedCount() / (double) edits.size();
+    }
+
+    public boolean isFinished() {
+        return finished;
+    }
+
+    private void reportProgress() {
+        int percent = (int) Math.floor(getProgress() * 100.0);
+        if (percent < reportedPercent + PROGRESS_STEP_PERCENT && percent < 100) {
+            return;
+        }
+        reportedPercent = percent - percent % PROGRESS_STEP_PERCENT;
+        plugin.getLogger().info("Crater carving " + percent + "% (" + getAppliedCount() + "/" + getTotalCount() + " blocks)");
+    }
+}
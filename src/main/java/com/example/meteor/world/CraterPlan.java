@@ -0,0 +1,204 @@
+package com.example.meteor.world;
+
+import org.bukkit.Material;
+import org.bukkit.World;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+/**
+ * Column-ordered list of block targets relative to the crater center. Offsets are packed into
+ * one int (10 bits x, 10 bits z, 12 bits y) and materials are indexes into a small palette.
+ */
+public final class CraterPlan {
+    private static final int MAX_HORIZONTAL = 511;
+    private static final int MAX_VERTICAL = 2047;
+
+    private final Material[] palette;
+    private final int[] offsets;
+    private final byte[] materials;
+    private final int size;
+    private final int columns;
+
+    private CraterPlan(Material[] palette, int[] offsets, byte[] materials, int size, int columns) {
+        this.palette = palette;
+        this.offsets = offsets;
+        this.materials = materials;
+        this.size = size;
+        this.columns = columns;
+    }
+
+    public static CraterPlan bowl(int size, int depth, int rimHeight, List<Material> craterMaterials, long seed) {
+        checkBounds(size, depth + rimHeight + 2);
+        Random random = new Random(seed);
+        Builder builder = new Builder(craterMaterials);
+        for (int x = -size; x <= size; x++) {
+            for (int z = -size; z <= size; z++) {
+                double dist = Math.sqrt(x * x + z * z);
+                double noise = (random.nextDouble() - 0.5) * 2.0;
+                double effectiveRadius = size + noise;
+                if (dist > effectiveRadius) {
+                    continue;
+                }
+                int columnDepth = (int) Math.max(2, depth - dist * 1.35 + noise * 2.0);
+                boolean rim = dist >= size - 2.2 && rimHeight > 0;
+                boolean floor = dist < size - 1.8;
+                builder.beginColumn();
+                if (rim) {
+                    for (int y = rimHeight - 1; y >= 0; y--) {
+                        builder.add(x, y, z, builder.pick(random));
+                    }
+                }
+                int airTop = rim ? -1 : 0;
+                int airBottom = floor ? -columnDepth + 1 : -columnDepth;
+                for (int y = airTop; y >= airBottom; y--) {
+                    builder.add(x, y, z, 0);
+                }
+                if (floor) {
+                    builder.add(x, -columnDepth, z, builder.pick(random));
+                }
+            }
+        }
+        return builder.build();
+    }
+
+    public static CraterPlan shelled(
+        int radius,
+        int depth,
+        int rimHeight,
+        int shellDepth,
+        double roughness,
+        List<Material> craterMaterials,
+        long seed
+    ) {
+        checkBounds(radius, depth + rimHeight + 1);
+        Random random = new Random(seed);
+        Builder builder = new Builder(craterMaterials);
+        int radiusSquared = radius * radius;
+        for (int x = -radius; x <= radius; x++) {
+            for (int z = -radius; z <= radius; z++) {
+                int distanceSquared = x * x + z * z;
+                if (distanceSquared > radiusSquared) {
+                    continue;
+                }
+                double distance = Math.sqrt(distanceSquared);
+                double depthScale = 1.0 - (distance / radius);
+                if (roughness > 0.0) {
+                    depthScale = Math.max(0.0, depthScale + (random.nextDouble() - 0.5) * 2.0 * roughness);
+                }
+                int carveDepth = Math.max(1, (int) Math.round(depth * depthScale));
+                double rimScale = Math.max(0.0, (distance - radius * 0.65) / (radius * 0.35));
+                if (roughness > 0.0 && rimScale > 0.0) {
+                    rimScale = Math.max(0.0, rimScale + (random.nextDouble() - 0.5) * roughness);
+                }
+                int rimBoost = (int) Math.round(rimHeight * rimScale);
+
+                int floorY = -carveDepth;
+                int craterShell = Math.max(1, Math.min(shellDepth, carveDepth));
+                int airBottomY = floorY + craterShell;
+                builder.beginColumn();
+                if (rimBoost > 0) {
+                    for (int y = rimBoost; y >= 0; y--) {
+                        builder.add(x, y, z, builder.pick(random));
+                    }
+                }
+                for (int y = rimBoost > 0 ? -1 : 0; y >= airBottomY; y--) {
+                    builder.add(x, y, z, 0);
+                }
+                for (int y = airBottomY - 1; y >= floorY; y--) {
+                    builder.add(x, y, z, builder.pick(random));
+                }
+            }
+        }
+        return builder.build();
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public int columns() {
+        return columns;
+    }
+
+    public int offsetX(int index) {
+        return offsets[index] >> 22;
+    }
+
+    public int offsetZ(int index) {
+        return (offsets[index] << 10) >> 22;
+    }
+
+    public int offsetY(int index) {
+        return (offsets[index] << 20) >> 20;
+    }
+
+    public Material material(int index) {
+        return palette[materials[index]];
+    }
+
+    public BlockEditBuffer toBuffer(
+        World world,
+        int centerX,
+        int centerY,
+        int centerZ,
+        Set<Material> protectedMaterials,
+        HeightmapCache heightmap,
+        boolean physics
+    ) {
+        BlockEditBuffer buffer = new BlockEditBuffer(world, protectedMaterials, heightmap);
+        for (int i = 0; i < size; i++) {
+            buffer.set(centerX + offsetX(i), centerY + offsetY(i), centerZ + offsetZ(i), material(i), physics);
+        }
+        return buffer;
+    }
+
+    private static void checkBounds(int horizontal, int vertical) {
+        if (horizontal > MAX_HORIZONTAL || vertical > MAX_VERTICAL) {
+            throw new IllegalArgumentException("Crater is too large: radius " + horizontal + ", height " + vertical);
+        }
+    }
+
+    private static final class Builder {
+        private final Material[] palette;
+        private int[] offsets = new int[4096];
+        private byte[] materials = new byte[4096];
+        private int size = 0;
+        private int columns = 0;
+
+        private Builder(List<Material> craterMaterials) {
+            List<Material> entries = new ArrayList<>();
+            entries.add(Material.AIR);
+            entries.addAll(craterMaterials);
+            if (entries.size() > Byte.MAX_VALUE) {
+                throw new IllegalArgumentException("Too many crater materials: " + craterMaterials.size());
+            }
+            this.palette = entries.toArray(new Material[0]);
+        }
+
+        private int pick(Random random) {
+            return palette.length == 1 ? 0 : 1 + random.nextInt(palette.length - 1);
+        }
+
+        private void beginColumn() {
+            columns++;
+        }
+
+        private void add(int x, int y, int z, int paletteIndex) {
+            if (size == offsets.length) {
+                offsets = Arrays.copyOf(offsets, size * 2);
+                materials = Arrays.copyOf(materials, size * 2);
+            }
+            offsets[size] = ((x & 0x3FF) << 22) | ((z & 0x3FF) << 12) | (y & 0xFFF);
+            materials[size] = (byte) paletteIndex;
+            size++;
+        }
+
+        private CraterPlan build() {
+            return new CraterPlan(palette, offsets, materials, size, columns);
+        }
+    }
+}
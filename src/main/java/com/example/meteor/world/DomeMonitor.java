@@ -1,101 +1,155 @@
 package com.example.meteor.world;
 
+import com.example.meteor.config.MeteorSettings;
+import com.example.meteor.config.SettingsHolder;
 import com.example.meteor.util.ConfigHelper;
 import org.bukkit.Bukkit;
 import org.bukkit.Location;
-import org.bukkit.Material;
 import org.bukkit.World;
-import org.bukkit.configuration.file.FileConfiguration;
 import org.bukkit.entity.Player;
 import org.bukkit.plugin.Plugin;
 import org.bukkit.scheduler.BukkitRunnable;
 
+import java.util.HashMap;
 import java.util.HashSet;
-import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
 
 public class DomeMonitor {
+    private static final long REPORT_FRESH_MILLIS = 5000L;
+
     private final Plugin plugin;
-    private final MeteorManager meteorManager;
+    private final ZoneRegistry zones;
+    private final SettingsHolder settings;
+    private final Set<Integer> domeStable = new HashSet<>();
+    private final Map<Integer, CompletableFuture<DomeReport>> pending = new HashMap<>();
+    private final Map<Integer, DomeReport> lastReports = new HashMap<>();
+    private final Map<Integer, Long> lastReportTimes = new HashMap<>();
     private BukkitRunnable task;
-    private boolean domeStable = false;
 
-    public DomeMonitor(Plugin plugin, MeteorManager meteorManager) {
+    public DomeMonitor(Plugin plugin, ZoneRegistry zones, SettingsHolder settings) {
         this.plugin = plugin;
-        this.meteorManager = meteorManager;
+        this.zones = zones;
+        this.settings = settings;
     }
 
     public void start() {
         stop();
-        FileConfiguration config = plugin.getConfig();
-        int interval = config.getInt("meteor.dome.check-interval-seconds", 60);
+        int interval = settings.get().dome().checkIntervalSeconds();
         task = new BukkitRunnable() {
             @Override
             public void run() {
-                Location impact = meteorManager.getImpactLocation();
-                if (impact == null) {
-                    return;
-                }
-                World world = impact.getWorld();
-                if (world == null) {
-                    return;
-                }
-                int radius = config.getInt("meteor.dome.radius", 15);
-                Set<Material> glassTypes = loadGlassTypes(config);
-
-                boolean stable = isDomeStable(world, impact, radius, glassTypes);
-                if (stable != domeStable) {
-                    domeStable = stable;
-                    String message = stable
-                        ? "§aКупол стабилизирован. Радиация временно подавлена."
-                        : "§cКупол разрушен! Радиация усиливается.";
-                    Bukkit.broadcastMessage(message);
-                    for (Player player : world.getPlayers()) {
-                        player.playSound(player.getLocation(), ConfigHelper.safeSound("BLOCK_GLASS_BREAK", org.bukkit.Sound.BLOCK_GLASS_BREAK), 1.0f, stable ? 1.4f : 0.6f);
-                    }
+                Set<Integer> active = new HashSet<>();
+                for (RadiationZone zone : zones.getZones()) {
+                    active.add(zone.getId());
+                    requestReport(zone, report -> { });
                 }
+                domeStable.retainAll(active);
+                pending.keySet().retainAll(active);
+                lastReports.keySet().retainAll(active);
+                lastReportTimes.keySet().retainAll(active);
             }
         };
         task.runTaskTimer(plugin, 20L, interval * 20L);
     }
 
-    private boolean isDomeStable(World world, Location center, int radius, Set<Material> glassTypes) {
-        int samples = 64;
-        int hits = 0;
-        for (int i = 0; i < samples; i++) {
-            double theta = Math.random() * Math.PI * 2;
-            double phi = Math.acos(2 * Math.random() - 1);
-            int x = center.getBlockX() + (int) Math.round(Math.sin(phi) * Math.cos(theta) * radius);
-            int y = center.getBlockY() + (int) Math.round(Math.cos(phi) * radius);
-            int z = center.getBlockZ() + (int) Math.round(Math.sin(phi) * Math.sin(theta) * radius);
-            Material material = world.getBlockAt(x, y, z).getType();
-            if (glassTypes.contains(material)) {
-                hits++;
+    /**
+     * Calls back on the main thread with the zone's dome report, or null if it could not be made.
+     * A report younger than a few seconds is reused, and a verification already in flight is
+     * joined rather than started again.
+     */
+    public void requestReport(RadiationZone zone, Consumer<DomeReport> callback) {
+        DomeReport last = lastReports.get(zone.getId());
+        Long madeAt = lastReportTimes.get(zone.getId());
+        if (last != null && madeAt != null && System.currentTimeMillis() - madeAt < REPORT_FRESH_MILLIS) {
+            callback.accept(last);
+            return;
+        }
+        CompletableFuture<DomeReport> check = pending.get(zone.getId());
+        if (check == null || check.isDone()) {
+            check = startCheck(zone);
+            if (check == null) {
+                callback.accept(null);
+                return;
             }
+            pending.put(zone.getId(), check);
         }
-        return hits >= samples * 0.75;
+        check.thenAccept(callback);
     }
 
-    private Set<Material> loadGlassTypes(FileConfiguration config) {
-        Set<Material> glassTypes = new HashSet<>();
-        List<String> types = config.getStringList("meteor.dome.glass-types");
-        for (String type : types) {
-            try {
-                glassTypes.add(Material.valueOf(type));
-            } catch (IllegalArgumentException ignored) {
-                // ignore
-            }
+    /**
+     * Completes on the main thread, after the report has been applied.
+     */
+    private CompletableFuture<DomeReport> startCheck(RadiationZone zone) {
+        CompletableFuture<DomeReport> verify = verifyNow(zone);
+        if (verify == null) {
+            return null;
         }
-        for (Material material : Material.values()) {
-            if (material.isBlock() && material.name().contains("GLASS")) {
-                glassTypes.add(material);
+        CompletableFuture<DomeReport> applied = new CompletableFuture<>();
+        verify.whenComplete((report, error) -> Bukkit.getScheduler().runTask(plugin, () -> {
+            if (error != null) {
+                plugin.getLogger().warning("Dome verification failed: " + error.getMessage());
+                applied.complete(null);
+                return;
+            }
+            if (task != null) {
+                applyReport(zone, report);
             }
+            applied.complete(report);
+        }));
+        return applied;
+    }
+
+    private CompletableFuture<DomeReport> verifyNow(RadiationZone zone) {
+        Location impact = zone.getOrigin();
+        if (impact.getWorld() == null) {
+            return null;
         }
-        return glassTypes;
+        MeteorSettings.Dome dome = settings.get().dome();
+        return DomeVerifier.verify(
+            impact.getWorld(),
+            impact.getBlockX(),
+            impact.getBlockY(),
+            impact.getBlockZ(),
+            dome.radius(),
+            dome.glassTypes(),
+            dome.reportMissingLimit()
+        );
+    }
+
+    private void applyReport(RadiationZone zone, DomeReport report) {
+        lastReports.put(zone.getId(), report);
+        lastReportTimes.put(zone.getId(), System.currentTimeMillis());
+        boolean stable = report.isComplete();
+        if (stable == domeStable.contains(zone.getId())) {
+            return;
+        }
+        if (stable) {
+            domeStable.add(zone.getId());
+        } else {
+            domeStable.remove(zone.getId());
+        }
+        String message = stable
+            ? "§aКупол стабилизирован. Радиация временно подавлена."
+            : "§cКупол разрушен! Радиация усиливается.";
+        Bukkit.broadcastMessage(message);
+        World world = zone.getOrigin().getWorld();
+        if (world == null) {
+            return;
+        }
+        for (Player player : world.getPlayers()) {
+            player.playSound(player.getLocation(), ConfigHelper.safeSound("BLOCK_GLASS_BREAK", org.bukkit.Sound.BLOCK_GLASS_BREAK), 1.0f, stable ? 1.4f : 0.6f);
+        }
+    }
+
+    public boolean isDomeStable(RadiationZone zone) {
+        return domeStable.contains(zone.getId());
     }
 
-    public boolean isDomeStable() {
-        return domeStable;
+    public DomeReport getLastReport(RadiationZone zone) {
+        return lastReports.get(zone.getId());
     }
 
     public void stop() {
@@ -103,5 +157,6 @@ public class DomeMonitor {
             task.cancel();
             task = null;
         }
+        pending.clear();
     }
 }
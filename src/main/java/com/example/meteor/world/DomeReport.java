@@ -0,0 +1,19 @@
+package com.example.meteor.world;
+
+import org.bukkit.util.Vector;
+
+import java.util.List;
+
+public record DomeReport(int shellSize, int glassCount, List<Vector> firstMissing) {
+    public int missingCount() {
+        return shellSize - glassCount;
+    }
+
+    public double coveragePercent() {
+        return shellSize == 0 ? 100.0 : glassCount * 100.0 / shellSize;
+    }
+
+    public boolean isComplete() {
+        return glassCount == shellSize;
+    }
+}
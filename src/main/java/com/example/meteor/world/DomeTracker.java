@@ -0,0 +1,211 @@
+package com.example.meteor.world;
+
+import org.bukkit.Bukkit;
+import org.bukkit.Chunk;
+import org.bukkit.Material;
+import org.bukkit.World;
+import org.bukkit.block.Block;
+import org.bukkit.block.BlockFace;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.HandlerList;
+import org.bukkit.event.Listener;
+import org.bukkit.event.block.BlockBreakEvent;
+import org.bukkit.event.block.BlockExplodeEvent;
+import org.bukkit.event.block.BlockPistonExtendEvent;
+import org.bukkit.event.block.BlockPistonRetractEvent;
+import org.bukkit.event.block.BlockPlaceEvent;
+import org.bukkit.event.entity.EntityExplodeEvent;
+import org.bukkit.event.world.ChunkLoadEvent;
+import org.bukkit.plugin.Plugin;
+
+import java.util.BitSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Tracks which dome shell positions hold glass. The shell is read once on start; afterwards only
+ * positions touched by block events are re-read, one tick after the event.
+ */
+public class DomeTracker implements Listener {
+    private final Plugin plugin;
+    private final World world;
+    private final int centerX;
+    private final int centerY;
+    private final int centerZ;
+    private final SphereSpans sphere;
+    private final Set<Material> glassTypes;
+    private final Runnable onComplete;
+    private final BitSet glass = new BitSet();
+    private final BitSet dirty = new BitSet();
+    private int glassCount = 0;
+    private boolean flushScheduled = false;
+    private boolean active = false;
+
+    public DomeTracker(
+        Plugin plugin,
+        World world,
+        int centerX,
+        int centerY,
+        int centerZ,
+        int radius,
+        Set<Material> glassTypes,
+        Runnable onComplete
+    ) {
+        this.plugin = plugin;
+        this.world = world;
+        this.centerX = centerX;
+        this.centerY = centerY;
+        this.centerZ = centerZ;
+        this.sphere = SphereSpans.of(radius);
+        this.glassTypes = glassTypes;
+        this.onComplete = onComplete;
+    }
+
+    public DomeTracker start() {
+        if (active) {
+            return this;
+        }
+        active = true;
+        dirty.set(0, sphere.shellSize());
+        flush();
+        Bukkit.getPluginManager().registerEvents(this, plugin);
+        return this;
+    }
+
+    public void stop() {
+        if (!active) {
+            return;
+        }
+        active = false;
+        HandlerList.unregisterAll(this);
+    }
+
+    public boolean isComplete() {
+        return glassCount == sphere.shellSize();
+    }
+
+    public int getGlassCount() {
+        return glassCount;
+    }
+
+    public int getShellSize() {
+        return sphere.shellSize();
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onBlockPlace(BlockPlaceEvent event) {
+        mark(event.getBlockPlaced());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onBlockBreak(BlockBreakEvent event) {
+        mark(event.getBlock());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onBlockExplode(BlockExplodeEvent event) {
+        markAll(event.blockList());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onEntityExplode(EntityExplodeEvent event) {
+        markAll(event.blockList());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onPistonExtend(BlockPistonExtendEvent event) {
+        markMoved(event.getBlock(), event.getBlocks(), event.getDirection());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onPistonRetract(BlockPistonRetractEvent event) {
+        markMoved(event.getBlock(), event.getBlocks(), event.getDirection());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onChunkLoad(ChunkLoadEvent event) {
+        if (!event.getWorld().equals(world)) {
+            return;
+        }
+        Chunk chunk = event.getChunk();
+        int radius = sphere.radius();
+        int minX = chunk.getX() << 4;
+        int minZ = chunk.getZ() << 4;
+        if (minX > centerX + radius || minX + 15 < centerX - radius || minZ > centerZ + radius || minZ + 15 < centerZ - radius) {
+            return;
+        }
+        for (int i = 0; i < sphere.shellSize(); i++) {
+            int x = centerX + sphere.shellX(i);
+            int z = centerZ + sphere.shellZ(i);
+            if (x >> 4 == chunk.getX() && z >> 4 == chunk.getZ()) {
+                dirty.set(i);
+            }
+        }
+        scheduleFlush();
+    }
+
+    private void markMoved(Block piston, List<Block> blocks, BlockFace direction) {
+        int dx = direction.getModX();
+        int dy = direction.getModY();
+        int dz = direction.getModZ();
+        mark(piston.getX() + dx, piston.getY() + dy, piston.getZ() + dz, piston.getWorld());
+        for (Block block : blocks) {
+            mark(block.getX(), block.getY(), block.getZ(), block.getWorld());
+            mark(block.getX() + dx, block.getY() + dy, block.getZ() + dz, block.getWorld());
+            mark(block.getX() - dx, block.getY() - dy, block.getZ() - dz, block.getWorld());
+        }
+    }
+
+    private void markAll(List<Block> blocks) {
+        for (Block block : blocks) {
+            mark(block);
+        }
+    }
+
+    private void mark(Block block) {
+        mark(block.getX(), block.getY(), block.getZ(), block.getWorld());
+    }
+
+    private void mark(int x, int y, int z, World blockWorld) {
+        int index = sphere.shellIndexOf(x - centerX, y - centerY, z - centerZ);
+        if (index < 0 || !world.equals(blockWorld)) {
+            return;
+        }
+        dirty.set(index);
+        scheduleFlush();
+    }
+
+    private void scheduleFlush() {
+        if (flushScheduled) {
+            return;
+        }
+        flushScheduled = true;
+        Bukkit.getScheduler().runTask(plugin, this::flush);
+    }
+
+    private void flush() {
+        flushScheduled = false;
+        if (!active) {
+            return;
+        }
+        boolean wasComplete = isComplete();
+        for (int i = dirty.nextSetBit(0); i >= 0; i = dirty.nextSetBit(i + 1)) {
+            int x = centerX + sphere.shellX(i);
+            int z = centerZ + sphere.shellZ(i);
+            if (!world.isChunkLoaded(x >> 4, z >> 4)) {
+                continue;
+            }
+            Material type = world.getBlockAt(x, centerY + sphere.shellY(i), z).getType();
+            boolean present = glassTypes.contains(type);
+            if (present != glass.get(i)) {
+                glass.set(i, present);
+                glassCount += present ? 1 : -1;
+            }
+        }
+        dirty.clear();
+        if (!wasComplete && isComplete() && onComplete != null) {
+            onComplete.run();
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package com.example.meteor.world;
+
+import org.bukkit.ChunkSnapshot;
+import org.bukkit.Material;
+import org.bukkit.World;
+import org.bukkit.util.Vector;
+
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Checks every dome shell block against snapshots of the chunks the dome covers. Snapshots are
+ * taken on the main thread; the shell walk runs on a worker thread.
+ */
+public final class DomeVerifier {
+    private DomeVerifier() {
+    }
+
+    public static CompletableFuture<DomeReport> verify(
+        World world,
+        int centerX,
+        int centerY,
+        int centerZ,
+        int radius,
+        Set<Material> glassTypes,
+        int missingLimit
+    ) {
+        SphereSpans sphere = SphereSpans.of(radius);
+        int minChunkX = (centerX - radius) >> 4;
+        int minChunkZ = (centerZ - radius) >> 4;
+        int chunksX = ((centerX + radius) >> 4) - minChunkX + 1;
+        int chunksZ = ((centerZ + radius) >> 4) - minChunkZ + 1;
+        int minHeight = world.getMinHeight();
+        int maxHeight = world.getMaxHeight();
+        Set<Material> glass = glassTypes.isEmpty() ? EnumSet.noneOf(Material.class) : EnumSet.copyOf(glassTypes);
+        List<CompletableFuture<ChunkSnapshot>> snapshots = new ArrayList<>(chunksX * chunksZ);
+        for (int cx = 0; cx < chunksX; cx++) {
+            for (int cz = 0; cz < chunksZ; cz++) {
+                snapshots.add(world.getChunkAtAsync(minChunkX + cx, minChunkZ + cz)
+                    .thenApply(chunk -> chunk.getChunkSnapshot(false, false, false)));
+            }
+        }
+        return CompletableFuture.allOf(snapshots.toArray(new CompletableFuture<?>[0])).thenApplyAsync(ignored -> {
+            int found = 0;
+            List<Vector> missing = new ArrayList<>();
+            for (int i = 0; i < sphere.shellSize(); i++) {
+                int x = centerX + sphere.shellX(i);
+                int y = centerY + sphere.shellY(i);
+                int z = centerZ + sphere.shellZ(i);
+                boolean present = false;
+                if (y >= minHeight && y < maxHeight) {
+                    ChunkSnapshot snapshot = snapshots.get(((x >> 4) - minChunkX) * chunksZ + ((z >> 4) - minChunkZ)).join();
+                    present = glass.contains(snapshot.getBlockType(x & 15, y, z & 15));
+                }
+                if (present) {
+                    found++;
+                } else if (missing.size() < missingLimit) {
+                    missing.add(new Vector(x, y, z));
+                }
+            }
+            return new DomeReport(sphere.shellSize(), found, List.copyOf(missing));
+        });
+    }
+}
@@ -0,0 +1,77 @@
+package com.example.meteor.world;
+
+import org.bukkit.Bukkit;
+import org.bukkit.entity.Player;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.PlayerQuitEvent;
+import org.bukkit.potion.PotionEffect;
+import org.bukkit.potion.PotionEffectType;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Remembers the radiation effects last sent to each player and skips re-sending an effect that
+ * will outlast the caller's next pass. An effect is re-applied when it is about to lapse, when its
+ * amplifier changes, or when it has been removed (milk, death). Main thread only.
+ */
+public class EffectManager implements Listener {
+    private static final int SLACK_TICKS = 5;
+
+    private final Map<UUID, Map<PotionEffectType, Applied>> applied = new HashMap<>();
+    private long sent = 0L;
+    private long skipped = 0L;
+
+    /**
+     * Applies an ambient effect with an icon unless the player still has it at this amplifier for
+     * longer than {@code intervalTicks}, the time until the caller applies it again.
+     */
+    public void apply(Player player, PotionEffectType type, int durationTicks, int amplifier, boolean particles, int intervalTicks) {
+        if (type == null) {
+            return;
+        }
+        int now = Bukkit.getCurrentTick();
+        Map<PotionEffectType, Applied> effects = applied.computeIfAbsent(player.getUniqueId(), uuid -> new HashMap<>());
+        Applied last = effects.get(type);
+        if (last != null
+            && last.amplifier == amplifier
+            && last.expiresAt - now > intervalTicks + SLACK_TICKS
+            && player.hasPotionEffect(type)) {
+            skipped++;
+            return;
+        }
+        player.addPotionEffect(new PotionEffect(type, durationTicks, amplifier, true, particles, true));
+        if (last == null) {
+            last = new Applied();
+            effects.put(type, last);
+        }
+        last.amplifier = amplifier;
+        last.expiresAt = now + durationTicks;
+        sent++;
+    }
+
+    public void forget(Player player) {
+        applied.remove(player.getUniqueId());
+    }
+
+    public long getSent() {
+        return sent;
+    }
+
+    public long getSkipped() {
+        return skipped;
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onQuit(PlayerQuitEvent event) {
+        forget(event.getPlayer());
+    }
+
+    private static final class Applied {
+        private int amplifier;
+        private int expiresAt;
+    }
+}
@@ -0,0 +1,115 @@
+package com.example.meteor.world;
+
+import org.bukkit.ChunkSnapshot;
+import org.bukkit.Material;
+import org.bukkit.World;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Highest-block heights per column, filled one chunk at a time from a chunk snapshot and kept up
+ * to date by the block edit buffers that write through it.
+ */
+public class HeightmapCache {
+    private static final int UNKNOWN = Integer.MIN_VALUE;
+
+    private final World world;
+    private final long maxAgeMillis;
+    private final Map<Long, ChunkHeights> chunks = new HashMap<>();
+    private long lastKey = Long.MIN_VALUE;
+    private ChunkHeights lastChunk;
+
+    public HeightmapCache(World world, int maxAgeSeconds) {
+        this.world = world;
+        this.maxAgeMillis = maxAgeSeconds > 0 ? maxAgeSeconds * 1000L : Long.MAX_VALUE;
+    }
+
+    public World getWorld() {
+        return world;
+    }
+
+    public int getHighestBlockYAt(int x, int z) {
+        ChunkHeights chunk = chunk(x >> 4, z >> 4);
+        int index = ((z & 15) << 4) | (x & 15);
+        int height = chunk.heights[index];
+        if (height == UNKNOWN) {
+            height = world.getHighestBlockYAt(x, z);
+            chunk.heights[index] = height;
+        }
+        return height;
+    }
+
+    public void onBlockChanged(int x, int y, int z, Material material) {
+        ChunkHeights chunk = chunks.get(key(x >> 4, z >> 4));
+        if (chunk == null) {
+            return;
+        }
+        int index = ((z & 15) << 4) | (x & 15);
+        int height = chunk.heights[index];
+        if (height == UNKNOWN) {
+            return;
+        }
+        if (material.isSolid()) {
+            if (y > height) {
+                chunk.heights[index] = y;
+            }
+        } else if (y == height) {
+            chunk.heights[index] = UNKNOWN;
+        }
+    }
+
+    public void invalidateChunk(int chunkX, int chunkZ) {
+        chunks.remove(key(chunkX, chunkZ));
+        lastKey = Long.MIN_VALUE;
+        lastChunk = null;
+    }
+
+    public void clear() {
+        chunks.clear();
+        lastKey = Long.MIN_VALUE;
+        lastChunk = null;
+    }
+
+    private ChunkHeights chunk(int chunkX, int chunkZ) {
+        long key = key(chunkX, chunkZ);
+        ChunkHeights chunk = key == lastKey ? lastChunk : chunks.get(key);
+        long now = System.currentTimeMillis();
+        if (chunk == null || now - chunk.filledAt > maxAgeMillis) {
+            chunk = fill(chunkX, chunkZ, now);
+            chunks.put(key, chunk);
+        }
+        lastKey = key;
+        lastChunk = chunk;
+        return chunk;
+    }
+
+    private ChunkHeights fill(int chunkX, int chunkZ, long now) {
+        ChunkHeights chunk = new ChunkHeights(now);
+        if (!world.isChunkLoaded(chunkX, chunkZ)) {
+            Arrays.fill(chunk.heights, UNKNOWN);
+            return chunk;
+        }
+        ChunkSnapshot snapshot = world.getChunkAt(chunkX, chunkZ).getChunkSnapshot(true, false, false);
+        for (int z = 0; z < 16; z++) {
+            for (int x = 0; x < 16; x++) {
+                chunk.heights[(z << 4) | x] = snapshot.getHighestBlockYAt(x, z);
+            }
+        }
+        return chunk;
+    }
+
+    private static long key(int chunkX, int chunkZ) {
+        return ((long) chunkX << 32) | (chunkZ & 0xFFFFFFFFL);
+    }
+
+    private static final class ChunkHeights {
+        private final int[] heights = new int[256];
+        private final long filledAt;
+
+        private ChunkHeights(long filledAt) {
+            this.filledAt = filledAt;
+        }
+    }
+}
@@ -1,5 +1,8 @@
 package com.example.meteor.world;
 
+import com.example.meteor.config.MeteorSettings;
+import com.example.meteor.config.SettingsHolder;
+import com.example.meteor.data.ResearchEntry;
 import com.example.meteor.data.ResearchRepository;
 import com.example.meteor.util.ConfigHelper;
 import org.bukkit.*;
@@ -16,20 +19,37 @@ import org.bukkit.util.Vector;
 import org.bukkit.plugin.Plugin;
 
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
 
 public class MeteorManager {
+    private static final int SITE_ATTEMPTS = 12;
+
     private final Plugin plugin;
     private final ResearchRepository researchRepository;
+    private final SettingsHolder settings;
+    private final ZoneRegistry zones;
+    private final PlayerSpatialIndex players;
+    private final ParticleDispatcher particles;
     private BukkitTask countdownTask;
     private BukkitTask flightTask;
-    private RadiationZone radiationZone;
+    private CraterJob craterJob;
+    private CompletableFuture<CraterPlan> craterPlan;
+    private ChunkPrefetcher prefetcher;
+    private HeightmapCache heightmap;
     private Location impactLocation;
     private boolean running;
     private boolean freeLaunch;
+    // Bumped on every start and stop so async completions can tell whether their run is still current.
+    private int generation = 0;
 
-    public MeteorManager(Plugin plugin, ResearchRepository researchRepository) {
+    public MeteorManager(Plugin plugin, ResearchRepository researchRepository, SettingsHolder settings, ZoneRegistry zones,
+                         PlayerSpatialIndex players, ParticleDispatcher particles) {
         this.plugin = plugin;
         this.researchRepository = researchRepository;
+        this.settings = settings;
+        this.zones = zones;
+        this.players = players;
+        this.particles = particles;
     }
 
     public boolean isRunning() {
@@ -40,6 +60,10 @@ public class MeteorManager {
         return impactLocation;
     }
 
+    public CraterJob getCraterJob() {
+        return craterJob;
+    }
+
     public void startMeteor(CommandSender sender, Integer x, Integer z) {
         startMeteor(sender, x, z, false);
     }
@@ -57,14 +81,18 @@ public class MeteorManager {
         Location spawn = ConfigHelper.worldSpawnOrDefault(world);
         Random random = new Random();
         boolean useAdminLocation = immediate && sender instanceof Player && x == null && z == null;
-        int targetX = x != null ? x : resolveTargetCoordinate(sender, spawn.getBlockX(), random, immediate, true);
-        int targetZ = z != null ? z : resolveTargetCoordinate(sender, spawn.getBlockZ(), random, immediate, false);
+        int[] site = resolveImpactSite(sender, world, spawn, random, immediate, x, z);
+        int targetX = site[0];
+        int targetZ = site[1];
         int targetY = world.getHighestBlockYAt(targetX, targetZ) + 1;
         impactLocation = new Location(world, targetX + 0.5, targetY, targetZ + 0.5);
         running = true;
+        generation++;
         freeLaunch = immediate;
 
         FileConfiguration config = plugin.getConfig();
+        craterPlan = planCrater(config);
+        prefetchImpactSite(config, world);
         int countdownMinutes = config.getInt("meteor.countdown-minutes", 60);
         List<Integer> reminders = config.getIntegerList("meteor.reminder-times-minutes");
         String title = config.getString("meteor.warning-title", "§6☄ Метеорит приближается!");
@@ -112,6 +140,7 @@ public class MeteorManager {
 
     public void stopMeteor() {
         running = false;
+        generation++;
         freeLaunch = false;
         if (countdownTask != null) {
             countdownTask.cancel();
@@ -121,32 +150,36 @@ public class MeteorManager {
             flightTask.cancel();
             flightTask = null;
         }
-        if (radiationZone != null) {
-            radiationZone.stop();
-            radiationZone = null;
+        if (craterPlan != null) {
+            craterPlan.cancel(false);
+            craterPlan = null;
+        }
+        if (craterJob != null) {
+            if (!craterJob.isFinished()) {
+                craterJob.cancel();
+            }
+            craterJob = null;
         }
+        releasePrefetchedChunks();
+        heightmap = null;
     }
 
     private void startFlight() {
-        FileConfiguration config = plugin.getConfig();
         World world = impactLocation.getWorld();
         if (world == null) {
             stopMeteor();
             return;
         }
-        int height = config.getInt("meteor.flight.height", 200);
-        int durationSeconds = config.getInt("meteor.flight.duration-seconds", 10);
-        double bodyRadius = config.getDouble("meteor.flight.body-radius", 2.1);
-        double baseHorizontalOffset = config.getDouble("meteor.flight.horizontal-offset", 32.0);
-        double freeHorizontalOffset = config.getDouble("meteor.flight.free-horizontal-offset", 52.0);
-        List<Particle> trailParticles = ConfigHelper.readParticles(config, "meteor.flight.trail-particles");
-        List<Material> bodyMaterials = readMaterials(config.getStringList("meteor.flight.body-materials"), List.of(Material.MAGMA_BLOCK));
-        Sound whistle = ConfigHelper.safeSound(config.getString("meteor.flight.whistle-sound"), Sound.ENTITY_ARROW_SHOOT);
-        Sound rumble = ConfigHelper.safeSound(config.getString("meteor.flight.rumble-sound"), Sound.ENTITY_PHANTOM_FLAP);
-        Sound approach = ConfigHelper.safeSound(config.getString("meteor.flight.approach-sound"), Sound.ENTITY_GHAST_SHOOT);
-        double startY = impactLocation.getY() + height;
+        MeteorSettings.Flight flight = settings.get().flight();
+        double bodyRadius = flight.bodyRadius();
+        List<Particle> trailParticles = flight.trailParticles();
+        Particle smoke = flight.smoke();
+        Sound whistle = flight.whistle();
+        Sound rumble = flight.rumble();
+        Sound approach = flight.approach();
+        double startY = impactLocation.getY() + flight.height();
         Location start = impactLocation.clone();
-        double horizontalOffset = freeLaunch ? freeHorizontalOffset : baseHorizontalOffset;
+        double horizontalOffset = freeLaunch ? flight.freeHorizontalOffset() : flight.horizontalOffset();
         if (horizontalOffset > 0.1) {
             double angle = Math.random() * Math.PI * 2;
             double offsetX = Math.cos(angle) * horizontalOffset;
@@ -156,17 +189,17 @@ public class MeteorManager {
         start.set(start.getX(), startY, start.getZ());
 
         List<Vector> meteorOffsets = buildMeteorOffsets(bodyRadius);
-        List<ArmorStand> meteorPieces = spawnMeteorPieces(world, start, meteorOffsets, bodyMaterials);
+        List<ArmorStand> meteorPieces = spawnMeteorPieces(world, start, meteorOffsets, flight.bodyMaterials());
         if (meteorPieces.isEmpty()) {
             impact();
             return;
         }
 
-        double totalTicks = durationSeconds * 20.0;
+        double totalTicks = flight.durationSeconds() * 20.0;
         Vector step = impactLocation.toVector().subtract(start.toVector()).multiply(1.0 / totalTicks);
-        boolean globalApproachShake = config.getBoolean("meteor.flight.global-shake", true);
-        int approachShakeInterval = Math.max(1, config.getInt("meteor.flight.shake-interval-ticks", 6));
-        double approachShakeIntensity = config.getDouble("meteor.flight.shake-intensity", 2.6);
+        boolean globalApproachShake = flight.globalShake();
+        int approachShakeInterval = flight.shakeIntervalTicks();
+        double approachShakeIntensity = flight.shakeIntensity();
 
         flightTask = new BukkitRunnable() {
             int tick = 0;
@@ -213,12 +246,12 @@ public class MeteorManager {
                 base = base.add(step);
                 teleportMeteorPieces(base, meteorPieces, meteorOffsets);
                 for (Particle particle : trailParticles) {
-                    world.spawnParticle(particle, base, 18, bodyRadius * 0.3, bodyRadius * 0.3, bodyRadius * 0.3, 0.03);
+                    particles.spawn(particle, base, 18, bodyRadius * 0.3, bodyRadius * 0.3, bodyRadius * 0.3, 0.03);
                 }
-                spawnFlightSpiral(world, base, tick);
-                spawnFlightAura(world, base, tick, bodyRadius);
-                spawnFlightEmbers(world, base, bodyRadius);
-                world.spawnParticle(Particle.LAVA, base, 10, bodyRadius * 0.2, bodyRadius * 0.2, bodyRadius * 0.2, 0.02);
+                spawnFlightSpiral(base, tick);
+                spawnFlightAura(base, tick, bodyRadius);
+                spawnFlightEmbers(base, bodyRadius, smoke);
+                particles.spawn(Particle.LAVA, base, 10, bodyRadius * 0.2, bodyRadius * 0.2, bodyRadius * 0.2, 0.02);
                 tick++;
             }
         }.runTaskTimer(plugin, 0L, 1L);
@@ -244,7 +277,8 @@ public class MeteorManager {
         world.playSound(impactLocation, impactSound, 4.0f, 0.6f);
         world.playSound(impactLocation, explosionSound, 5.0f, 0.5f);
         applyExplosion(world, explosionPower, explosionFire, explosionBreak, forceBlockBreak);
-        spawnImpactResidue(world);
+        heightmap = new HeightmapCache(world, config.getInt("meteor.heightmap.max-age-seconds", 30));
+        spawnImpactResidue();
 
         int flashCount = config.getInt("meteor.impact.flash-count", 8);
         double flashRadius = config.getDouble("meteor.impact.flash-radius", 60.0);
@@ -256,31 +290,29 @@ public class MeteorManager {
                 world.spawnParticle(Particle.FLASH, impactLocation, 1);
                 world.spawnParticle(Particle.EXPLOSION, impactLocation, 1);
                 world.playSound(impactLocation, flashSound, 2.5f, 1.2f);
-                for (Player player : world.getPlayers()) {
-                    if (player.getLocation().distanceSquared(impactLocation) <= flashRadius * flashRadius) {
-                        player.addPotionEffect(new org.bukkit.potion.PotionEffect(
-                            org.bukkit.potion.PotionEffectType.BLINDNESS,
-                            blindnessTicks,
-                            1,
-                            true,
-                            true,
-                            true
-                        ));
-                    }
+                for (Player player : players.nearby(impactLocation, flashRadius)) {
+                    player.addPotionEffect(new org.bukkit.potion.PotionEffect(
+                        org.bukkit.potion.PotionEffectType.BLINDNESS,
+                        blindnessTicks,
+                        1,
+                        true,
+                        true,
+                        true
+                    ));
                 }
             }, delay);
         }
 
         triggerShockwave(config, world);
-        createCrater(config, world);
-        igniteCraterRim(config, world);
+        createCrater(config, world, () -> {
+            igniteCraterRim(config, world);
+            placeCoreBlock(config, world);
+            startRadiation();
+        });
         launchDebrisBurst(config, world, freeLaunch);
         shakePlayers(config, world);
         applyScreenShake(config, world);
 
-        placeCoreBlock(config, world);
-        startRadiation(config);
-
         researchRepository.addEntry(
             world.getName(),
             impactLocation.getBlockX(),
@@ -311,9 +343,9 @@ public class MeteorManager {
                     double x = impactLocation.getX() + Math.cos(angle) * currentRadius;
                     double z = impactLocation.getZ() + Math.sin(angle) * currentRadius;
                     Location particleLoc = new Location(world, x, impactLocation.getY() + 0.2, z);
-                    world.spawnParticle(Particle.CAMPFIRE_COSY_SMOKE, particleLoc, 3, 0.05, 0.05, 0.05, 0.0);
+                    particles.spawn(Particle.CAMPFIRE_COSY_SMOKE, particleLoc, 3, 0.05, 0.05, 0.05, 0.0);
                     if (sparkEffect != null) {
-                        world.spawnParticle(sparkEffect, particleLoc, 4, 0.1, 0.1, 0.1, 0.02);
+                        particles.spawn(sparkEffect, particleLoc, 4, 0.1, 0.1, 0.1, 0.02);
                     }
                 }
             }, delay);
@@ -331,7 +363,7 @@ public class MeteorManager {
                 fallbackExplosion = ConfigHelper.safeParticle("EXPLOSION_LARGE");
             }
             if (fallbackExplosion != null) {
-                world.spawnParticle(fallbackExplosion, impactLocation, 6, 1.5, 1.5, 1.5, 0.05);
+                particles.spawn(fallbackExplosion, impactLocation, 6, 1.5, 1.5, 1.5, 0.05);
             }
         }
         if (breakBlocks && (forceBlockBreak || !exploded)) {
@@ -344,85 +376,92 @@ public class MeteorManager {
         int centerX = impactLocation.getBlockX();
         int centerY = impactLocation.getBlockY();
         int centerZ = impactLocation.getBlockZ();
-        int radiusSquared = radius * radius;
+        SphereSpans sphere = SphereSpans.of(radius);
+        BlockEditBuffer edits = new BlockEditBuffer(world, EnumSet.of(Material.BEDROCK));
         for (int x = -radius; x <= radius; x++) {
             for (int y = -radius; y <= radius; y++) {
-                for (int z = -radius; z <= radius; z++) {
-                    int distance = x * x + y * y + z * z;
-                    if (distance > radiusSquared) {
-                        continue;
-                    }
-                    Block block = world.getBlockAt(centerX + x, centerY + y, centerZ + z);
-                    if (block.getType() == Material.BEDROCK) {
-                        continue;
-                    }
-                    block.setType(Material.AIR, false);
+                int half = sphere.halfWidth(x, y);
+                for (int z = -half; z <= half; z++) {
+                    edits.set(centerX + x, centerY + y, centerZ + z, Material.AIR, false);
                 }
             }
         }
+        edits.applyAll();
     }
 
-    private void createCrater(FileConfiguration config, World world) {
+    private CompletableFuture<CraterPlan> planCrater(FileConfiguration config) {
         int craterSize = config.getInt("meteor.impact.crater-size", 15);
         int craterDepth = config.getInt("meteor.impact.crater-depth", craterSize + 6);
         int craterRimHeight = config.getInt("meteor.impact.crater-rim-height", 3);
-        List<String> materials = config.getStringList("meteor.impact.crater-materials");
-        List<Material> craterMaterials = new ArrayList<>();
-        for (String material : materials) {
-            try {
-                craterMaterials.add(Material.valueOf(material));
-            } catch (IllegalArgumentException e) {
-                plugin.getLogger().warning("Unknown crater material: " + material);
-            }
-        }
-        if (craterMaterials.isEmpty()) {
-            craterMaterials.add(Material.OBSIDIAN);
-        }
+        List<Material> craterMaterials = readCraterMaterials(config);
+        long seed = new Random().nextLong();
+        return CompletableFuture.supplyAsync(
+            () -> CraterPlan.bowl(craterSize, craterDepth, craterRimHeight, craterMaterials, seed)
+        );
+    }
+
+    private void createCrater(FileConfiguration config, World world, Runnable afterCrater) {
         List<Material> debrisMaterials = readMaterials(
             config.getStringList("meteor.impact.debris-materials"),
-            craterMaterials
+            readCraterMaterials(config)
         );
-
         int centerX = impactLocation.getBlockX();
         int centerY = impactLocation.getBlockY();
         int centerZ = impactLocation.getBlockZ();
-        Random random = new Random();
-
-        for (int x = -craterSize; x <= craterSize; x++) {
-            for (int z = -craterSize; z <= craterSize; z++) {
-                double dist = Math.sqrt(x * x + z * z);
-                double noise = (random.nextDouble() - 0.5) * 2.0;
-                double effectiveRadius = craterSize + noise;
-                if (dist > effectiveRadius) {
-                    continue;
-                }
-                int depth = (int) Math.max(2, craterDepth - dist * 1.35 + noise * 2.0);
-                for (int y = 0; y <= depth; y++) {
-                    Block block = world.getBlockAt(centerX + x, centerY - y, centerZ + z);
-                    if (block.getType() == Material.BEDROCK) {
-                        continue;
-                    }
-                    block.setType(Material.AIR);
-                }
-                if (dist >= craterSize - 2.2) {
-                    for (int y = 0; y < craterRimHeight; y++) {
-                        Block rimBlock = world.getBlockAt(centerX + x, centerY + y, centerZ + z);
-                        if (rimBlock.getType() == Material.BEDROCK) {
-                            continue;
-                        }
-                        rimBlock.setType(craterMaterials.get(random.nextInt(craterMaterials.size())));
-                    }
-                }
-                if (dist < craterSize - 1.8) {
-                    Block floor = world.getBlockAt(centerX + x, centerY - depth, centerZ + z);
-                    if (floor.getType() != Material.BEDROCK) {
-                        floor.setType(craterMaterials.get(random.nextInt(craterMaterials.size())));
+        if (craterPlan == null) {
+            craterPlan = planCrater(config);
+        }
+        // Left in craterPlan so stopMeteor() can still cancel it while it is being built or expanded.
+        CompletableFuture<CraterPlan> pending = craterPlan;
+        int run = generation;
+
+        pending.thenApplyAsync(
+            plan -> plan.toBuffer(world, centerX, centerY, centerZ, EnumSet.of(Material.BEDROCK), heightmap, true)
+        ).whenComplete((edits, error) -> Bukkit.getScheduler().runTask(plugin, () -> {
+            if (!running || run != generation) {
+                return;
+            }
+            if (craterPlan == pending) {
+                craterPlan = null;
+            }
+            if (error != null) {
+                plugin.getLogger().warning("Failed to plan crater: " + error.getMessage());
+                afterCrater.run();
+                return;
+            }
+            if (craterJob != null && !craterJob.isFinished()) {
+                craterJob.cancel();
+            }
+            craterJob = new CraterJob(
+                plugin,
+                edits,
+                config.getInt("meteor.impact.crater-blocks-per-tick", 4000),
+                config.getInt("meteor.impact.crater-tick-budget-ms", 0),
+                () -> {
+                    if (!running || run != generation) {
+                        return;
                     }
+                    scatterDebris(config, world, debrisMaterials);
+                    scatterDebrisClusters(config, world, debrisMaterials);
+                    afterCrater.run();
                 }
+            ).start();
+        }));
+    }
+
+    private List<Material> readCraterMaterials(FileConfiguration config) {
+        List<Material> craterMaterials = new ArrayList<>();
+        for (String material : config.getStringList("meteor.impact.crater-materials")) {
+            try {
+                craterMaterials.add(Material.valueOf(material));
+            } catch (IllegalArgumentException e) {
+                plugin.getLogger().warning("Unknown crater material: " + material);
             }
         }
-        scatterDebris(config, world, debrisMaterials);
-        scatterDebrisClusters(config, world, debrisMaterials);
+        if (craterMaterials.isEmpty()) {
+            craterMaterials.add(Material.OBSIDIAN);
+        }
+        return craterMaterials;
     }
 
     private void scatterDebris(FileConfiguration config, World world, List<Material> debrisMaterials) {
@@ -433,24 +472,22 @@ public class MeteorManager {
             return;
         }
         Random random = new Random();
+        BlockEditBuffer edits = new BlockEditBuffer(world, EnumSet.noneOf(Material.class), heightmap);
         for (int i = 0; i < debrisCount; i++) {
             double angle = random.nextDouble() * Math.PI * 2;
             double distance = random.nextDouble() * debrisRadius;
             int x = impactLocation.getBlockX() + (int) Math.round(Math.cos(angle) * distance);
             int z = impactLocation.getBlockZ() + (int) Math.round(Math.sin(angle) * distance);
-            int y = world.getHighestBlockYAt(x, z);
+            int y = heightmap.getHighestBlockYAt(x, z);
             if (y <= world.getMinHeight()) {
                 continue;
             }
             int stackHeight = 1 + random.nextInt(maxStack);
             for (int offset = 0; offset < stackHeight; offset++) {
-                Block target = world.getBlockAt(x, y + offset, z);
-                if (!target.isEmpty()) {
-                    break;
-                }
-                target.setType(debrisMaterials.get(random.nextInt(debrisMaterials.size())));
+                edits.setIfAir(x, y + offset, z, debrisMaterials.get(random.nextInt(debrisMaterials.size())));
             }
         }
+        edits.applyAll();
     }
 
     private void scatterDebrisClusters(FileConfiguration config, World world, List<Material> debrisMaterials) {
@@ -462,12 +499,13 @@ public class MeteorManager {
         int clusterSize = Math.max(4, config.getInt("meteor.impact.debris-cluster-size", 12));
         int clusterHeight = Math.max(1, config.getInt("meteor.impact.debris-cluster-height", 3));
         Random random = new Random();
+        BlockEditBuffer edits = new BlockEditBuffer(world, EnumSet.noneOf(Material.class), heightmap);
         for (int cluster = 0; cluster < clusterCount; cluster++) {
             double angle = random.nextDouble() * Math.PI * 2;
             double distance = Math.pow(random.nextDouble(), 0.4) * clusterRadius;
             int centerX = impactLocation.getBlockX() + (int) Math.round(Math.cos(angle) * distance);
             int centerZ = impactLocation.getBlockZ() + (int) Math.round(Math.sin(angle) * distance);
-            int baseY = world.getHighestBlockYAt(centerX, centerZ);
+            int baseY = heightmap.getHighestBlockYAt(centerX, centerZ);
             if (baseY <= world.getMinHeight()) {
                 continue;
             }
@@ -477,20 +515,17 @@ public class MeteorManager {
                 int offsetZ = random.nextInt(7) - 3;
                 int x = centerX + offsetX;
                 int z = centerZ + offsetZ;
-                int topY = world.getHighestBlockYAt(x, z);
+                int topY = heightmap.getHighestBlockYAt(x, z);
                 if (topY <= world.getMinHeight()) {
                     continue;
                 }
                 int height = 1 + random.nextInt(clusterHeight);
                 for (int h = 0; h < height; h++) {
-                    Block target = world.getBlockAt(x, topY + h, z);
-                    if (!target.isEmpty()) {
-                        break;
-                    }
-                    target.setType(debrisMaterials.get(random.nextInt(debrisMaterials.size())));
+                    edits.setIfAir(x, topY + h, z, debrisMaterials.get(random.nextInt(debrisMaterials.size())));
                 }
             }
         }
+        edits.applyAll();
     }
 
     private void launchDebrisBurst(FileConfiguration config, World world, boolean freeLaunch) {
@@ -530,12 +565,12 @@ public class MeteorManager {
             velocity.setY(0.45 + random.nextDouble() * (freeLaunch ? 0.9 : 0.6));
             falling.setVelocity(velocity);
         }
-        world.spawnParticle(Particle.EXPLOSION, impactLocation, 8, 2.4, 1.2, 2.4, 0.02);
-        world.spawnParticle(Particle.CAMPFIRE_SIGNAL_SMOKE, impactLocation, 24, 2.2, 1.3, 2.2, 0.01);
-        world.spawnParticle(Particle.FLAME, impactLocation, 32, 2.8, 1.4, 2.8, 0.04);
-        world.spawnParticle(Particle.LAVA, impactLocation, 22, 1.8, 0.9, 1.8, 0.03);
-        world.spawnParticle(Particle.SOUL_FIRE_FLAME, impactLocation, 18, 2.1, 0.9, 2.1, 0.02);
-        world.spawnParticle(Particle.DRAGON_BREATH, impactLocation, 16, 2.6, 1.2, 2.6, 0.02);
+        particles.spawn(Particle.EXPLOSION, impactLocation, 8, 2.4, 1.2, 2.4, 0.02);
+        particles.spawn(Particle.CAMPFIRE_SIGNAL_SMOKE, impactLocation, 24, 2.2, 1.3, 2.2, 0.01);
+        particles.spawn(Particle.FLAME, impactLocation, 32, 2.8, 1.4, 2.8, 0.04);
+        particles.spawn(Particle.LAVA, impactLocation, 22, 1.8, 0.9, 1.8, 0.03);
+        particles.spawn(Particle.SOUL_FIRE_FLAME, impactLocation, 18, 2.1, 0.9, 2.1, 0.02);
+        particles.spawn(Particle.DRAGON_BREATH, impactLocation, 16, 2.6, 1.2, 2.6, 0.02);
     }
 
     private void igniteCraterRim(FileConfiguration config, World world) {
@@ -546,6 +581,7 @@ public class MeteorManager {
         int centerY = impactLocation.getBlockY();
         int centerZ = impactLocation.getBlockZ();
         Random random = new Random();
+        BlockEditBuffer edits = new BlockEditBuffer(world, EnumSet.noneOf(Material.class), heightmap);
 
         for (int x = -fireRadius; x <= fireRadius; x++) {
             for (int z = -fireRadius; z <= fireRadius; z++) {
@@ -553,22 +589,22 @@ public class MeteorManager {
                 if (dist > fireRadius) {
                     continue;
                 }
-                int topY = world.getHighestBlockYAt(centerX + x, centerZ + z);
+                int topY = heightmap.getHighestBlockYAt(centerX + x, centerZ + z);
                 if (topY <= world.getMinHeight()) {
                     continue;
                 }
-                Block ground = world.getBlockAt(centerX + x, topY - 1, centerZ + z);
                 Block above = world.getBlockAt(centerX + x, topY, centerZ + z);
                 if (!above.isEmpty()) {
                     continue;
                 }
                 if (random.nextDouble() <= fireChance) {
-                    above.setType(Material.FIRE);
+                    edits.setWithPhysics(centerX + x, topY, centerZ + z, Material.FIRE);
                 } else if (random.nextInt(100) < magmaChance) {
-                    ground.setType(Material.MAGMA_BLOCK);
+                    edits.set(centerX + x, topY - 1, centerZ + z, Material.MAGMA_BLOCK);
                 }
             }
         }
+        edits.applyAll();
     }
 
     private void shakePlayers(FileConfiguration config, World world) {
@@ -576,18 +612,14 @@ public class MeteorManager {
         double radius = config.getDouble("meteor.impact.shake-radius", 50.0);
         int duration = config.getInt("meteor.impact.shake-duration-ticks", 60);
         double intensity = config.getDouble("meteor.impact.shake-intensity", 6.0);
-        for (Player player : world.getPlayers()) {
-            if (globalShake || player.getLocation().distanceSquared(impactLocation) <= radius * radius) {
-                Vector knock = player.getLocation().toVector().subtract(impactLocation.toVector()).normalize().multiply(intensity / 10.0).setY(0.6);
-                player.setVelocity(knock);
-                player.sendMessage("§cУдарная волна сбила с ног!");
-            }
+        for (Player player : globalShake ? world.getPlayers() : players.nearby(impactLocation, radius)) {
+            Vector knock = player.getLocation().toVector().subtract(impactLocation.toVector()).normalize().multiply(intensity / 10.0).setY(0.6);
+            player.setVelocity(knock);
+            player.sendMessage("§cУдарная волна сбила с ног!");
         }
         Bukkit.getScheduler().runTaskLater(plugin, () -> {
-            for (Player player : world.getPlayers()) {
-                if (globalShake || player.getLocation().distanceSquared(impactLocation) <= radius * radius) {
-                    player.spawnParticle(Particle.ASH, player.getLocation(), 20, 0.5, 0.5, 0.5, 0.02);
-                }
+            for (Player player : globalShake ? world.getPlayers() : players.nearby(impactLocation, radius)) {
+                player.spawnParticle(Particle.ASH, player.getLocation(), 20, 0.5, 0.5, 0.5, 0.02);
             }
         }, duration);
     }
@@ -602,10 +634,7 @@ public class MeteorManager {
 
             @Override
             public void run() {
-                for (Player player : world.getPlayers()) {
-                    if (!globalShake && player.getLocation().distanceSquared(impactLocation) > radius * radius) {
-                        continue;
-                    }
+                for (Player player : globalShake ? world.getPlayers() : players.nearby(impactLocation, radius)) {
                     Location view = player.getLocation().clone();
                     float yawJitter = (float) ((Math.random() - 0.5) * intensity);
                     float pitchJitter = (float) ((Math.random() - 0.5) * intensity);
@@ -631,30 +660,62 @@ public class MeteorManager {
         }
         Block coreBlock = world.getBlockAt(impactLocation);
         coreBlock.setType(material);
-        world.spawnParticle(Particle.END_ROD, impactLocation, 40, 1.0, 1.0, 1.0, 0.02);
-        world.spawnParticle(Particle.SCULK_SOUL, impactLocation, 32, 0.8, 1.2, 0.8, 0.01);
-        world.spawnParticle(Particle.PORTAL, impactLocation, 60, 1.4, 1.2, 1.4, 0.02);
+        particles.spawn(Particle.END_ROD, impactLocation, 40, 1.0, 1.0, 1.0, 0.02);
+        particles.spawn(Particle.SCULK_SOUL, impactLocation, 32, 0.8, 1.2, 0.8, 0.01);
+        particles.spawn(Particle.PORTAL, impactLocation, 60, 1.4, 1.2, 1.4, 0.02);
+    }
+
+    /**
+     * Hands the impact site over to the zone registry and frees the manager for the next launch.
+     * The prefetched chunks stay ticketed until the sculk has finished growing.
+     */
+    private void startRadiation() {
+        zones.open(impactLocation, heightmap);
+        ChunkPrefetcher settling = prefetcher;
+        prefetcher = null;
+        if (settling != null) {
+            long settleTicks = Math.max(0, settings.get().sculk().growDurationSeconds()) * 20L;
+            Bukkit.getScheduler().runTaskLater(plugin, settling::release, settleTicks);
+        }
+        running = false;
+        freeLaunch = false;
+        craterJob = null;
+        heightmap = null;
     }
 
-    private void startRadiation(FileConfiguration config) {
-        if (radiationZone != null) {
-            radiationZone.stop();
+    private void prefetchImpactSite(FileConfiguration config, World world) {
+        releasePrefetchedChunks();
+        if (!config.getBoolean("meteor.prefetch.enabled", true)) {
+            return;
         }
-        radiationZone = new RadiationZone(plugin, impactLocation, config);
-        radiationZone.start();
+        prefetcher = new ChunkPrefetcher(
+            plugin,
+            world,
+            impactLocation.getBlockX(),
+            impactLocation.getBlockZ(),
+            ChunkPrefetcher.affectedRadius(config),
+            config.getInt("meteor.prefetch.chunks-per-tick", 4)
+        ).start();
     }
 
-    private void spawnFlightSpiral(World world, Location current, int tick) {
+    private void releasePrefetchedChunks() {
+        if (prefetcher != null) {
+            prefetcher.release();
+            prefetcher = null;
+        }
+    }
+
+    private void spawnFlightSpiral(Location current, int tick) {
         double angle = tick * 0.35;
         double radius = 0.7 + Math.sin(tick * 0.2) * 0.2;
         double x = Math.cos(angle) * radius;
         double z = Math.sin(angle) * radius;
         Location spiral = current.clone().add(x, 0.1, z);
-        world.spawnParticle(Particle.CAMPFIRE_COSY_SMOKE, spiral, 6, 0.1, 0.1, 0.1, 0.01);
-        world.spawnParticle(Particle.FLAME, spiral, 4, 0.05, 0.05, 0.05, 0.0);
+        particles.spawn(Particle.CAMPFIRE_COSY_SMOKE, spiral, 6, 0.1, 0.1, 0.1, 0.01);
+        particles.spawn(Particle.FLAME, spiral, 4, 0.05, 0.05, 0.05, 0.0);
     }
 
-    private void spawnFlightAura(World world, Location current, int tick, double bodyRadius) {
+    private void spawnFlightAura(Location current, int tick, double bodyRadius) {
         double angle = tick * 0.2;
         double ringRadius = bodyRadius * 0.8 + Math.sin(tick * 0.15) * 0.2;
         for (int i = 0; i < 3; i++) {
@@ -662,31 +723,30 @@ public class MeteorManager {
             double x = Math.cos(offsetAngle) * ringRadius;
             double z = Math.sin(offsetAngle) * ringRadius;
             Location aura = current.clone().add(x, 0.2, z);
-            world.spawnParticle(Particle.DRAGON_BREATH, aura, 4, 0.1, 0.1, 0.1, 0.01);
-            world.spawnParticle(Particle.SMOKE, aura, 6, 0.12, 0.12, 0.12, 0.02);
+            particles.spawn(Particle.DRAGON_BREATH, aura, 4, 0.1, 0.1, 0.1, 0.01);
+            particles.spawn(Particle.SMOKE, aura, 6, 0.12, 0.12, 0.12, 0.02);
         }
     }
 
-    private void spawnFlightEmbers(World world, Location current, double bodyRadius) {
-        world.spawnParticle(Particle.ASH, current, 12, bodyRadius * 0.4, bodyRadius * 0.2, bodyRadius * 0.4, 0.01);
-        world.spawnParticle(Particle.SOUL_FIRE_FLAME, current, 8, bodyRadius * 0.3, bodyRadius * 0.3, bodyRadius * 0.3, 0.01);
-        Particle smoke = resolveParticle("SMOKE_LARGE", "LARGE_SMOKE", "SMOKE_NORMAL", "SMOKE");
+    private void spawnFlightEmbers(Location current, double bodyRadius, Particle smoke) {
+        particles.spawn(Particle.ASH, current, 12, bodyRadius * 0.4, bodyRadius * 0.2, bodyRadius * 0.4, 0.01);
+        particles.spawn(Particle.SOUL_FIRE_FLAME, current, 8, bodyRadius * 0.3, bodyRadius * 0.3, bodyRadius * 0.3, 0.01);
         if (smoke != null) {
-            world.spawnParticle(smoke, current, 6, bodyRadius * 0.3, bodyRadius * 0.2, bodyRadius * 0.3, 0.02);
+            particles.spawn(smoke, current, 6, bodyRadius * 0.3, bodyRadius * 0.2, bodyRadius * 0.3, 0.02);
         }
     }
 
-    private void spawnImpactResidue(World world) {
-        Particle smoke = resolveParticle("SMOKE_LARGE", "LARGE_SMOKE", "SMOKE_NORMAL", "SMOKE");
+    private void spawnImpactResidue() {
+        Particle smoke = settings.get().flight().smoke();
         if (smoke != null) {
-            world.spawnParticle(smoke, impactLocation, 160, 4.4, 1.7, 4.4, 0.03);
+            particles.spawn(smoke, impactLocation, 160, 4.4, 1.7, 4.4, 0.03);
         }
-        world.spawnParticle(Particle.ASH, impactLocation, 240, 5.2, 1.4, 5.2, 0.02);
-        world.spawnParticle(Particle.SOUL_FIRE_FLAME, impactLocation, 110, 3.2, 1.1, 3.2, 0.03);
-        world.spawnParticle(Particle.FLAME, impactLocation, 150, 3.6, 1.2, 3.6, 0.04);
-        world.spawnParticle(Particle.LAVA, impactLocation, 90, 3.0, 0.7, 3.0, 0.02);
-        world.spawnParticle(Particle.DRAGON_BREATH, impactLocation, 70, 3.2, 1.0, 3.2, 0.02);
-        world.spawnParticle(Particle.PORTAL, impactLocation, 90, 3.6, 1.4, 3.6, 0.02);
+        particles.spawn(Particle.ASH, impactLocation, 240, 5.2, 1.4, 5.2, 0.02);
+        particles.spawn(Particle.SOUL_FIRE_FLAME, impactLocation, 110, 3.2, 1.1, 3.2, 0.03);
+        particles.spawn(Particle.FLAME, impactLocation, 150, 3.6, 1.2, 3.6, 0.04);
+        particles.spawn(Particle.LAVA, impactLocation, 90, 3.0, 0.7, 3.0, 0.02);
+        particles.spawn(Particle.DRAGON_BREATH, impactLocation, 70, 3.2, 1.0, 3.2, 0.02);
+        particles.spawn(Particle.PORTAL, impactLocation, 90, 3.6, 1.4, 3.6, 0.02);
     }
 
     private void applyApproachShake(World world, double intensity) {
@@ -701,17 +761,6 @@ public class MeteorManager {
         }
     }
 
-    private Particle resolveParticle(String... names) {
-        for (String name : names) {
-            try {
-                return Particle.valueOf(name);
-            } catch (IllegalArgumentException ignored) {
-                // Try next fallback.
-            }
-        }
-        return null;
-    }
-
     private List<Vector> buildMeteorOffsets(double bodyRadius) {
         double offset = Math.max(0.6, bodyRadius * 0.55);
         double top = bodyRadius * 0.6;
@@ -764,11 +813,38 @@ public class MeteorManager {
         return ConfigHelper.defaultWorld();
     }
 
-    private int resolveTargetCoordinate(CommandSender sender, int spawnCoordinate, Random random, boolean immediate, boolean isX) {
+    /**
+     * Explicit coordinates win, then the admin's position for immediate launches. Random sites are
+     * re-rolled a few times to keep clear of the most recent craters.
+     */
+    private int[] resolveImpactSite(CommandSender sender, World world, Location spawn, Random random, boolean immediate, Integer x, Integer z) {
         if (immediate && sender instanceof Player player) {
-            return isX ? player.getLocation().getBlockX() : player.getLocation().getBlockZ();
+            return new int[] {
+                x != null ? x : player.getLocation().getBlockX(),
+                z != null ? z : player.getLocation().getBlockZ()
+            };
+        }
+        int spacing = plugin.getConfig().getInt("meteor.recent-impact-spacing", 64);
+        List<ResearchEntry> recent = researchRepository.getRecentImpacts();
+        int[] site = new int[2];
+        for (int attempt = 0; attempt < SITE_ATTEMPTS; attempt++) {
+            site[0] = x != null ? x : spawn.getBlockX() + random.nextInt(401) - 200;
+            site[1] = z != null ? z : spawn.getBlockZ() + random.nextInt(401) - 200;
+            if ((x != null && z != null) || !isNearRecentImpact(world, site[0], site[1], spacing, recent)) {
+                return site;
+            }
+        }
+        return site;
+    }
+
+    private static boolean isNearRecentImpact(World world, int x, int z, int spacing, List<ResearchEntry> recent) {
+        long spacingSquared = (long) spacing * spacing;
+        for (ResearchEntry entry : recent) {
+            if (entry.world().equals(world.getName()) && ResearchRepository.distanceSquared(entry, x, z) < spacingSquared) {
+                return true;
+            }
         }
-        return spawnCoordinate + random.nextInt(401) - 200;
+        return false;
     }
 
     private List<Material> readMaterials(List<String> names, List<Material> fallback) {
@@ -0,0 +1,93 @@
+package com.example.meteor.world;
+
+import com.example.meteor.config.MeteorSettings;
+import com.example.meteor.config.SettingsHolder;
+import org.bukkit.Bukkit;
+import org.bukkit.Location;
+import org.bukkit.Particle;
+import org.bukkit.entity.Player;
+import org.bukkit.util.Vector;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Sends particle effects to each nearby player individually instead of broadcasting them. Players
+ * beyond the full-detail distance get a count scaled down with distance and skip effects well
+ * behind them; every player also has a per-tick particle budget. Main thread only.
+ */
+public class ParticleDispatcher {
+    private static final double MIN_DETAIL = 0.1;
+    private static final double BEHIND = -0.3;
+
+    private final SettingsHolder settings;
+    private final PlayerSpatialIndex players;
+    private final Map<UUID, Integer> spent = new HashMap<>();
+    private int budgetTick = -1;
+    private long sent = 0L;
+    private long dropped = 0L;
+
+    public ParticleDispatcher(SettingsHolder settings, PlayerSpatialIndex players) {
+        this.settings = settings;
+        this.players = players;
+    }
+
+    /**
+     * Same arguments as {@link org.bukkit.World#spawnParticle(Particle, Location, int, double, double, double, double)}.
+     */
+    public void spawn(Particle particle, Location at, int count, double offsetX, double offsetY, double offsetZ, double speed) {
+        if (particle == null || at.getWorld() == null) {
+            return;
+        }
+        MeteorSettings.Particles config = settings.get().particles();
+        // The effect spreads over its offsets; measure distances to the edge of that volume.
+        double spread = Math.max(Math.abs(offsetX), Math.abs(offsetZ));
+        double fullDetail = config.fullDetailDistance();
+        int budget = config.playerBudgetPerTick();
+        int tick = Bukkit.getCurrentTick();
+        if (tick != budgetTick) {
+            budgetTick = tick;
+            spent.clear();
+        }
+        for (Player player : players.nearby(at, config.viewDistance() + spread)) {
+            Location eye = player.getEyeLocation();
+            double dx = at.getX() - eye.getX();
+            double dy = at.getY() - eye.getY();
+            double dz = at.getZ() - eye.getZ();
+            double distance = Math.sqrt(dx * dx + dy * dy + dz * dz);
+            double outside = Math.max(0.0, distance - spread);
+            int scaled = count;
+            if (outside > fullDetail) {
+                Vector look = eye.getDirection();
+                double facing = (look.getX() * dx + look.getY() * dy + look.getZ() * dz) / distance;
+                if (facing < BEHIND - spread / distance) {
+                    dropped += count;
+                    continue;
+                }
+                if (count > 0) {
+                    scaled = Math.max(1, (int) Math.round(count * Math.max(MIN_DETAIL, fullDetail / outside)));
+                }
+            }
+            int used = spent.getOrDefault(player.getUniqueId(), 0);
+            if (used >= budget) {
+                dropped += count;
+                continue;
+            }
+            // A count of 0 is a single directional particle, not an empty effect.
+            int send = count == 0 ? 0 : Math.min(scaled, budget - used);
+            spent.put(player.getUniqueId(), used + Math.max(1, send));
+            player.spawnParticle(particle, at, send, offsetX, offsetY, offsetZ, speed);
+            sent += Math.max(1, send);
+            dropped += count - send;
+        }
+    }
+
+    public long getSent() {
+        return sent;
+    }
+
+    public long getDropped() {
+        return dropped;
+    }
+}
@@ -0,0 +1,186 @@
+package com.example.meteor.world;
+
+import org.bukkit.Bukkit;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.entity.Entity;
+import org.bukkit.entity.Player;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.PlayerChangedWorldEvent;
+import org.bukkit.event.player.PlayerJoinEvent;
+import org.bukkit.event.player.PlayerMoveEvent;
+import org.bukkit.event.player.PlayerQuitEvent;
+import org.bukkit.event.player.PlayerRespawnEvent;
+import org.bukkit.event.player.PlayerTeleportEvent;
+import org.bukkit.event.vehicle.VehicleMoveEvent;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Online players bucketed by world and chunk. Buckets are updated only when a player crosses a
+ * chunk border, so area queries touch the chunks they overlap instead of every player in the world.
+ * Main thread only.
+ */
+public class PlayerSpatialIndex implements Listener {
+    private final Map<UUID, Map<Long, Set<Player>>> cells = new HashMap<>();
+    private final Map<UUID, Cell> positions = new HashMap<>();
+
+    public void indexOnline() {
+        for (Player player : Bukkit.getOnlinePlayers()) {
+            update(player, player.getLocation());
+        }
+    }
+
+    /**
+     * Players within radius of center, in the same world.
+     */
+    public List<Player> nearby(Location center, double radius) {
+        World world = center.getWorld();
+        if (world == null) {
+            return List.of();
+        }
+        Map<Long, Set<Player>> worldCells = cells.get(world.getUID());
+        if (worldCells == null || worldCells.isEmpty()) {
+            return List.of();
+        }
+        int minX = (int) Math.floor(center.getX() - radius) >> 4;
+        int maxX = (int) Math.floor(center.getX() + radius) >> 4;
+        int minZ = (int) Math.floor(center.getZ() - radius) >> 4;
+        int maxZ = (int) Math.floor(center.getZ() + radius) >> 4;
+        double radiusSquared = radius * radius;
+        List<Player> found = new ArrayList<>();
+        // A huge radius covers more chunks than there are occupied ones; walk the occupied ones.
+        if ((long) (maxX - minX + 1) * (maxZ - minZ + 1) > worldCells.size()) {
+            for (Set<Player> bucket : worldCells.values()) {
+                collect(bucket, world, center, radiusSquared, found);
+            }
+            return found;
+        }
+        for (int x = minX; x <= maxX; x++) {
+            for (int z = minZ; z <= maxZ; z++) {
+                Set<Player> bucket = worldCells.get(key(x, z));
+                if (bucket != null) {
+                    collect(bucket, world, center, radiusSquared, found);
+                }
+            }
+        }
+        return found;
+    }
+
+    public int size() {
+        return positions.size();
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onJoin(PlayerJoinEvent event) {
+        update(event.getPlayer(), event.getPlayer().getLocation());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onQuit(PlayerQuitEvent event) {
+        remove(event.getPlayer());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onMove(PlayerMoveEvent event) {
+        moved(event.getPlayer(), event.getFrom(), event.getTo());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onTeleport(PlayerTeleportEvent event) {
+        moved(event.getPlayer(), event.getFrom(), event.getTo());
+    }
+
+    // Ridden players move with their vehicle and get no PlayerMoveEvent.
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onVehicleMove(VehicleMoveEvent event) {
+        for (Entity passenger : event.getVehicle().getPassengers()) {
+            if (passenger instanceof Player player) {
+                moved(player, event.getFrom(), event.getTo());
+            }
+        }
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onChangedWorld(PlayerChangedWorldEvent event) {
+        update(event.getPlayer(), event.getPlayer().getLocation());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onRespawn(PlayerRespawnEvent event) {
+        update(event.getPlayer(), event.getRespawnLocation());
+    }
+
+    private void moved(Player player, Location from, Location to) {
+        if (to == null) {
+            return;
+        }
+        if (from.getWorld() == to.getWorld()
+            && from.getBlockX() >> 4 == to.getBlockX() >> 4
+            && from.getBlockZ() >> 4 == to.getBlockZ() >> 4) {
+            return;
+        }
+        update(player, to);
+    }
+
+    private void update(Player player, Location location) {
+        World world = location.getWorld();
+        if (world == null) {
+            return;
+        }
+        Cell cell = new Cell(world.getUID(), key(location.getBlockX() >> 4, location.getBlockZ() >> 4));
+        Cell previous = positions.put(player.getUniqueId(), cell);
+        if (cell.equals(previous)) {
+            return;
+        }
+        if (previous != null) {
+            unlink(player, previous);
+        }
+        cells.computeIfAbsent(cell.world(), id -> new HashMap<>())
+            .computeIfAbsent(cell.key(), key -> new HashSet<>())
+            .add(player);
+    }
+
+    private void remove(Player player) {
+        Cell previous = positions.remove(player.getUniqueId());
+        if (previous != null) {
+            unlink(player, previous);
+        }
+    }
+
+    private void unlink(Player player, Cell cell) {
+        Map<Long, Set<Player>> worldCells = cells.get(cell.world());
+        if (worldCells == null) {
+            return;
+        }
+        Set<Player> bucket = worldCells.get(cell.key());
+        if (bucket != null && bucket.remove(player) && bucket.isEmpty()) {
+            worldCells.remove(cell.key());
+        }
+    }
+
+    private static void collect(Collection<Player> bucket, World world, Location center, double radiusSquared, List<Player> found) {
+        for (Player player : bucket) {
+            Location location = player.getLocation();
+            if (world.equals(location.getWorld()) && location.distanceSquared(center) <= radiusSquared) {
+                found.add(player);
+            }
+        }
+    }
+
+    private static long key(int chunkX, int chunkZ) {
+        return (long) chunkX & 0xffffffffL | ((long) chunkZ & 0xffffffffL) << 32;
+    }
+
+    private record Cell(UUID world, long key) {
+    }
+}
@@ -1,139 +1,135 @@
 package com.example.meteor.world;
 
-import com.example.meteor.util.ConfigHelper;
+import com.example.meteor.config.MeteorSettings;
+import com.example.meteor.config.SettingsHolder;
 import org.bukkit.Location;
 import org.bukkit.Material;
 import org.bukkit.Particle;
 import org.bukkit.Sound;
 import org.bukkit.World;
-import org.bukkit.configuration.file.FileConfiguration;
 import org.bukkit.entity.Player;
 import org.bukkit.plugin.Plugin;
-import org.bukkit.potion.PotionEffect;
 import org.bukkit.potion.PotionEffectType;
-import org.bukkit.scheduler.BukkitRunnable;
-import org.bukkit.util.Vector;
 
-import java.util.ArrayList;
-import java.util.EnumSet;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 
+/**
+ * One active impact site. The zone has no task of its own; {@link ZoneRegistry} calls
+ * {@link #tick()} once per second for every registered zone.
+ */
 public class RadiationZone {
     private final Plugin plugin;
+    private final int id;
+    private int rowId = -1;
     private final Location origin;
-    private final FileConfiguration config;
-    private BukkitRunnable task;
-    private int elapsedSeconds = 0;
-    private boolean domeStable = false;
-    private int domeCheckCounter = 0;
-    private List<Vector> domeOffsets;
-
-    public RadiationZone(Plugin plugin, Location origin, FileConfiguration config) {
+    private final SettingsHolder settings;
+    private final HeightmapCache heightmap;
+    private final PlayerSpatialIndex players;
+    private final EffectManager effects;
+    private final ParticleDispatcher particles;
+    private int elapsedSeconds;
+    private DomeTracker domeTracker;
+
+    public RadiationZone(Plugin plugin, int id, Location origin, SettingsHolder settings, HeightmapCache heightmap,
+                         PlayerSpatialIndex players, EffectManager effects, ParticleDispatcher particles, int elapsedSeconds) {
         this.plugin = plugin;
+        this.id = id;
         this.origin = origin.clone();
-        this.config = config;
+        this.settings = settings;
+        this.heightmap = heightmap;
+        this.players = players;
+        this.effects = effects;
+        this.particles = particles;
+        this.elapsedSeconds = elapsedSeconds;
     }
 
     public void start() {
         stop();
-        task = new BukkitRunnable() {
-            @Override
-            public void run() {
-                World world = origin.getWorld();
-                if (world == null) {
-                    cancel();
-                    return;
-                }
-                if (elapsedSeconds == 0 && config.getBoolean("meteor.radiation.sculk.enabled", true)) {
-                    seedInitialSculk(world);
-                }
-                if (shouldCheckDome()) {
-                    domeStable = isDomeComplete(world);
-                }
-                if (domeStable) {
-                    return;
-                }
-                double radius = config.getDouble("meteor.radiation.radius", 40.0);
-                int progressionSeconds = config.getInt("meteor.radiation.progression-seconds", 20);
-                int halfHeartInterval = config.getInt("meteor.radiation.damage-half-heart-interval", 5);
-                int fullHeartInterval = config.getInt("meteor.radiation.damage-heart-interval", 3);
-                Sound hiss = ConfigHelper.safeSound("BLOCK_SCULK_SENSOR_CLICKING", Sound.BLOCK_SCULK_SENSOR_CLICKING);
-                List<Particle> particles = ConfigHelper.readParticles(config, "meteor.core.radiation-particles");
-                int coreEmissionCount = Math.max(1, config.getInt("meteor.core.radiation-emission-count", 18));
-                double coreEmissionRadius = config.getDouble("meteor.core.radiation-emission-radius", 1.4);
-                PotionEffectType nausea = ConfigHelper.safePotionEffectType("NAUSEA", "CONFUSION");
-
-                for (Particle particle : particles) {
-                    world.spawnParticle(particle, origin, coreEmissionCount, coreEmissionRadius, 0.8, coreEmissionRadius, 0.02);
-                }
+        World originWorld = origin.getWorld();
+        if (originWorld != null) {
+            MeteorSettings.Dome dome = settings.get().dome();
+            domeTracker = new DomeTracker(
+                plugin,
+                originWorld,
+                origin.getBlockX(),
+                origin.getBlockY(),
+                origin.getBlockZ(),
+                dome.radius(),
+                dome.glassTypes(),
+                null
+            ).start();
+        }
+    }
 
-                boolean igniteOnStep = config.getBoolean("meteor.radiation.sculk.ignite-on-step", true);
-                int igniteTicks = Math.max(0, config.getInt("meteor.radiation.sculk.ignite-ticks", 60));
-                for (Player player : world.getPlayers()) {
-                    double distanceSq = player.getLocation().distanceSquared(origin);
-                    if (distanceSq > radius * radius) {
-                        continue;
-                    }
-                    if (nausea != null) {
-                        player.addPotionEffect(new PotionEffect(nausea, 60, 0, true, true, true));
-                    }
-                    if (igniteOnStep) {
-                        applySculkIgnition(world, player, igniteTicks);
-                    }
-                    player.spawnParticle(Particle.SPORE_BLOSSOM_AIR, player.getLocation(), 12, 0.7, 1.2, 0.7, 0.02);
-                    for (Particle particle : particles) {
-                        player.spawnParticle(particle, player.getLocation(), 6, 0.6, 0.8, 0.6, 0.02);
-                    }
-                    if (elapsedSeconds % (elapsedSeconds < progressionSeconds ? halfHeartInterval : fullHeartInterval) == 0) {
-                        player.damage(elapsedSeconds < progressionSeconds ? 1.0 : 2.0);
-                        player.playSound(player.getLocation(), hiss, 0.6f, 0.5f);
-                    }
-                }
+    /**
+     * Advances the zone by one second. Returns false once the zone's world is gone.
+     */
+    public boolean tick() {
+        World world = origin.getWorld();
+        if (world == null) {
+            return false;
+        }
+        MeteorSettings snapshot = settings.get();
+        MeteorSettings.Radiation radiation = snapshot.radiation();
+        MeteorSettings.Sculk sculk = snapshot.sculk();
+        MeteorSettings.Core core = snapshot.core();
+        if (elapsedSeconds == 0 && sculk.enabled()) {
+            seedInitialSculk(world, sculk);
+        }
+        // A sealed dome pauses the zone; it picks up again if the dome is broken.
+        if (domeTracker != null && domeTracker.isComplete()) {
+            return true;
+        }
+        double radius = radiation.radius();
+        int progressionSeconds = radiation.progressionSeconds();
+        List<Particle> emission = core.radiationParticles();
+        PotionEffectType nausea = radiation.nausea();
 
-                if (config.getBoolean("meteor.radiation.sculk.enabled", true) && elapsedSeconds % config.getInt("meteor.radiation.sculk.interval-seconds", 8) == 0) {
-                    spreadSculk(world, calculateSculkRadius());
-                }
+        for (Particle particle : emission) {
+            particles.spawn(particle, origin, core.emissionCount(), core.emissionRadius(), 0.8, core.emissionRadius(), 0.02);
+        }
 
-                elapsedSeconds++;
+        for (Player player : players.nearby(origin, radius)) {
+            if (nausea != null) {
+                effects.apply(player, nausea, 60, 0, true, 20);
             }
-        };
-        task.runTaskTimer(plugin, 0L, 20L);
-    }
+            if (sculk.igniteOnStep()) {
+                applySculkIgnition(world, player, sculk.igniteTicks());
+            }
+            player.spawnParticle(Particle.SPORE_BLOSSOM_AIR, player.getLocation(), 12, 0.7, 1.2, 0.7, 0.02);
+            for (Particle particle : emission) {
+                player.spawnParticle(particle, player.getLocation(), 6, 0.6, 0.8, 0.6, 0.02);
+            }
+            if (elapsedSeconds % (elapsedSeconds < progressionSeconds ? radiation.halfHeartInterval() : radiation.fullHeartInterval()) == 0) {
+                player.damage(elapsedSeconds < progressionSeconds ? 1.0 : 2.0);
+                player.playSound(player.getLocation(), radiation.hiss(), 0.6f, 0.5f);
+            }
+        }
 
-    private void seedInitialSculk(World world) {
-        int bursts = Math.max(1, config.getInt("meteor.radiation.sculk.initial-burst-steps", 6));
-        double radius = config.getDouble("meteor.radiation.sculk.initial-radius", calculateSculkRadius());
-        for (int i = 0; i < bursts; i++) {
-            spreadSculk(world, radius);
+        if (sculk.enabled() && elapsedSeconds % sculk.intervalSeconds() == 0) {
+            spreadSculk(world, sculk, sculk.radiusAt(elapsedSeconds));
         }
+
+        elapsedSeconds++;
+        return true;
     }
 
-    private void spreadSculk(World world, double radius) {
-        int blocksPerStep = config.getInt("meteor.radiation.sculk.blocks-per-step", 6);
-        boolean replaceAnySurface = config.getBoolean("meteor.radiation.sculk.replace-any-surface", true);
-        List<Material> replaceableMaterials = new ArrayList<>();
-        if (!replaceAnySurface) {
-            List<String> replaceable = config.getStringList("meteor.radiation.sculk.replaceable-blocks");
-            for (String material : replaceable) {
-                try {
-                    replaceableMaterials.add(Material.valueOf(material));
-                } catch (IllegalArgumentException ignored) {
-                    // ignore
-                }
-            }
-            if (replaceableMaterials.isEmpty()) {
-                replaceableMaterials.add(Material.STONE);
-            }
+    private void seedInitialSculk(World world, MeteorSettings.Sculk sculk) {
+        for (int i = 0; i < sculk.initialBurstSteps(); i++) {
+            spreadSculk(world, sculk, sculk.initialRadius());
         }
+    }
 
-        for (int i = 0; i < blocksPerStep; i++) {
+    private void spreadSculk(World world, MeteorSettings.Sculk sculk, double radius) {
+        boolean replaceAnySurface = sculk.replaceAnySurface();
+        Set<Material> replaceableMaterials = sculk.replaceable();
+        for (int i = 0; i < sculk.blocksPerStep(); i++) {
             double angle = Math.random() * Math.PI * 2;
             double distance = Math.random() * radius;
             int x = origin.getBlockX() + (int) Math.round(Math.cos(angle) * distance);
             int z = origin.getBlockZ() + (int) Math.round(Math.sin(angle) * distance);
-            int y = world.getHighestBlockYAt(x, z);
+            int y = heightmap.getHighestBlockYAt(x, z);
             if (y <= world.getMinHeight()) {
                 continue;
             }
@@ -147,7 +143,7 @@ public class RadiationZone {
                 continue;
             }
             block.setType(Material.SCULK);
-            world.spawnParticle(Particle.SCULK_SOUL, block.getLocation().add(0.5, 1.0, 0.5), 6, 0.3, 0.4, 0.3, 0.01);
+            particles.spawn(Particle.SCULK_SOUL, block.getLocation().add(0.5, 1.0, 0.5), 6, 0.3, 0.4, 0.3, 0.01);
         }
     }
 
@@ -168,120 +164,40 @@ public class RadiationZone {
         player.playSound(location, Sound.ENTITY_BLAZE_HURT, 0.7f, 1.4f);
     }
 
-    private double calculateSculkRadius() {
-        double startRadius = config.getDouble("meteor.radiation.sculk.start-radius", 10.0);
-        double maxRadius = config.getDouble("meteor.radiation.sculk.max-radius", 24.0);
-        int growthDuration = config.getInt("meteor.radiation.sculk.grow-duration-seconds", 600);
-        if (growthDuration <= 0) {
-            return maxRadius;
+    public void stop() {
+        if (domeTracker != null) {
+            domeTracker.stop();
+            domeTracker = null;
         }
-        double progress = Math.min(1.0, elapsedSeconds / (double) growthDuration);
-        return startRadius + (maxRadius - startRadius) * progress;
     }
 
-    public void stop() {
-        if (task != null) {
-            task.cancel();
-            task = null;
-        }
+    public DomeTracker getDomeTracker() {
+        return domeTracker;
     }
 
-    private boolean shouldCheckDome() {
-        int interval = Math.max(1, config.getInt("meteor.dome.check-interval-seconds", 60));
-        if (domeCheckCounter <= 0) {
-            domeCheckCounter = interval;
-            return true;
-        }
-        domeCheckCounter--;
-        return false;
+    /**
+     * Registry-local id; stable for the zone's lifetime, unlike the row id, which arrives later.
+     */
+    public int getId() {
+        return id;
     }
 
-    private boolean isDomeComplete(World world) {
-        int radius = config.getInt("meteor.dome.radius", 15);
-        Set<Material> glassTypes = loadGlassTypes();
-        for (Vector offset : getDomeOffsets(radius)) {
-            int x = origin.getBlockX() + offset.getBlockX();
-            int y = origin.getBlockY() + offset.getBlockY();
-            int z = origin.getBlockZ() + offset.getBlockZ();
-            if (!world.isChunkLoaded(x >> 4, z >> 4)) {
-                return false;
-            }
-            Material material = world.getBlockAt(x, y, z).getType();
-            if (!glassTypes.contains(material)) {
-                return false;
-            }
-        }
-        return true;
+    /**
+     * Id of the zone's {@code meteor_zone} row, or -1 until the insert has completed.
+     */
+    public int getRowId() {
+        return rowId;
     }
 
-    private List<Vector> getDomeOffsets(int radius) {
-        if (domeOffsets != null) {
-            return domeOffsets;
-        }
-        List<Vector> offsets = new ArrayList<>();
-        double min = radius - 0.5;
-        double max = radius + 0.5;
-        for (int x = -radius; x <= radius; x++) {
-            for (int y = -radius; y <= radius; y++) {
-                for (int z = -radius; z <= radius; z++) {
-                    double distance = Math.sqrt(x * x + y * y + z * z);
-                    if (distance >= min && distance <= max) {
-                        offsets.add(new Vector(x, y, z));
-                    }
-                }
-            }
-        }
-        domeOffsets = offsets;
-        return offsets;
+    void attachRow(int rowId) {
+        this.rowId = rowId;
     }
 
-    private Set<Material> loadGlassTypes() {
-        List<String> names = config.getStringList("meteor.dome.glass-types");
-        Set<Material> types = new HashSet<>();
-        for (String name : names) {
-            try {
-                types.add(Material.valueOf(name));
-            } catch (IllegalArgumentException ignored) {
-                // ignore
-            }
-        }
-        for (Material material : Material.values()) {
-            if (material.isBlock() && material.name().contains("GLASS")) {
-                types.add(material);
-            }
-        }
-        if (types.isEmpty()) {
-            types.addAll(defaultGlassTypes());
-        }
-        return types;
+    public Location getOrigin() {
+        return origin.clone();
     }
 
-    private Set<Material> defaultGlassTypes() {
-        Set<Material> types = new HashSet<>(EnumSet.of(
-            Material.GLASS,
-            Material.TINTED_GLASS,
-            Material.GLASS_PANE,
-            Material.WHITE_STAINED_GLASS,
-            Material.LIGHT_GRAY_STAINED_GLASS,
-            Material.GRAY_STAINED_GLASS,
-            Material.BLACK_STAINED_GLASS,
-            Material.BLUE_STAINED_GLASS,
-            Material.CYAN_STAINED_GLASS,
-            Material.GREEN_STAINED_GLASS,
-            Material.LIME_STAINED_GLASS,
-            Material.BROWN_STAINED_GLASS,
-            Material.ORANGE_STAINED_GLASS,
-            Material.YELLOW_STAINED_GLASS,
-            Material.RED_STAINED_GLASS,
-            Material.PURPLE_STAINED_GLASS,
-            Material.MAGENTA_STAINED_GLASS,
-            Material.PINK_STAINED_GLASS
-        ));
-        for (Material material : Material.values()) {
-            if (material.isBlock() && material.name().endsWith("_STAINED_GLASS_PANE")) {
-                types.add(material);
-            }
-        }
-        return types;
+    public int getElapsedSeconds() {
+        return elapsedSeconds;
     }
 }
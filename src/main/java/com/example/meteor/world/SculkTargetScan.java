@@ -0,0 +1,79 @@
+package com.example.meteor.world;
+
+import org.bukkit.ChunkSnapshot;
+import org.bukkit.Material;
+import org.bukkit.World;
+import org.bukkit.block.Block;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Finds replaceable surface blocks around an origin from chunk snapshots on a worker thread.
+ * The result is a shuffled array of Paper block keys.
+ */
+public final class SculkTargetScan {
+    private SculkTargetScan() {
+    }
+
+    public static CompletableFuture<long[]> scan(
+        World world,
+        int originX,
+        int originZ,
+        int radius,
+        Set<Material> replaceable,
+        long seed
+    ) {
+        int minChunkX = (originX - radius) >> 4;
+        int minChunkZ = (originZ - radius) >> 4;
+        int chunksX = ((originX + radius) >> 4) - minChunkX + 1;
+        int chunksZ = ((originZ + radius) >> 4) - minChunkZ + 1;
+        int minHeight = world.getMinHeight();
+        Set<Material> materials = replaceable.isEmpty() ? EnumSet.noneOf(Material.class) : EnumSet.copyOf(replaceable);
+        List<CompletableFuture<ChunkSnapshot>> snapshots = new ArrayList<>(chunksX * chunksZ);
+        for (int cx = 0; cx < chunksX; cx++) {
+            for (int cz = 0; cz < chunksZ; cz++) {
+                snapshots.add(world.getChunkAtAsync(minChunkX + cx, minChunkZ + cz)
+                    .thenApply(chunk -> chunk.getChunkSnapshot(true, false, false)));
+            }
+        }
+        return CompletableFuture.allOf(snapshots.toArray(new CompletableFuture<?>[0])).thenApplyAsync(ignored -> {
+            long[] targets = new long[64];
+            int size = 0;
+            int radiusSquared = radius * radius;
+            for (int x = -radius; x <= radius; x++) {
+                for (int z = -radius; z <= radius; z++) {
+                    if (x * x + z * z > radiusSquared) {
+                        continue;
+                    }
+                    int blockX = originX + x;
+                    int blockZ = originZ + z;
+                    int cx = (blockX >> 4) - minChunkX;
+                    int cz = (blockZ >> 4) - minChunkZ;
+                    ChunkSnapshot snapshot = snapshots.get(cx * chunksZ + cz).join();
+                    int y = snapshot.getHighestBlockYAt(blockX & 15, blockZ & 15);
+                    if (y < minHeight || !materials.contains(snapshot.getBlockType(blockX & 15, y, blockZ & 15))) {
+                        continue;
+                    }
+                    if (size == targets.length) {
+                        targets = Arrays.copyOf(targets, size * 2);
+                    }
+                    targets[size++] = Block.getBlockKey(blockX, y, blockZ);
+                }
+            }
+            Random random = new Random(seed);
+            for (int i = size - 1; i > 0; i--) {
+                int j = random.nextInt(i + 1);
+                long swap = targets[i];
+                targets[i] = targets[j];
+                targets[j] = swap;
+            }
+            return Arrays.copyOf(targets, size);
+        });
+    }
+}
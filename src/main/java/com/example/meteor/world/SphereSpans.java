@@ -0,0 +1,161 @@
+package com.example.meteor.world;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Per-radius table of z half-widths for every (x, y) column of a block sphere, plus the one-block
+ * shell used by the glass dome. Tables are built once per radius and shared.
+ */
+public final class SphereSpans {
+    private static final int MAX_RADIUS = 511;
+    private static final Map<Integer, SphereSpans> CACHE = new ConcurrentHashMap<>();
+
+    private final int radius;
+    private final int width;
+    private final int[] halfWidths;
+    private final int volume;
+    private volatile int[] shell;
+    private volatile int[] shellIndex;
+
+    private SphereSpans(int radius) {
+        this.radius = radius;
+        this.width = radius * 2 + 1;
+        this.halfWidths = new int[width * width];
+        long radiusSquared = (long) radius * radius;
+        int blocks = 0;
+        for (int x = -radius; x <= radius; x++) {
+            for (int y = -radius; y <= radius; y++) {
+                int half = halfWidth(radiusSquared - (long) x * x - (long) y * y);
+                halfWidths[(x + radius) * width + (y + radius)] = half;
+                blocks += Math.max(0, half * 2 + 1);
+            }
+        }
+        this.volume = blocks;
+    }
+
+    public static SphereSpans of(int radius) {
+        if (radius < 0 || radius > MAX_RADIUS) {
+            throw new IllegalArgumentException("Sphere radius out of range: " + radius);
+        }
+        return CACHE.computeIfAbsent(radius, SphereSpans::new);
+    }
+
+    public int radius() {
+        return radius;
+    }
+
+    public int volume() {
+        return volume;
+    }
+
+    public int halfWidth(int x, int y) {
+        if (x < -radius || x > radius || y < -radius || y > radius) {
+            return -1;
+        }
+        return halfWidths[(x + radius) * width + (y + radius)];
+    }
+
+    public void forEach(BlockVisitor visitor) {
+        for (int x = -radius; x <= radius; x++) {
+            for (int y = -radius; y <= radius; y++) {
+                int half = halfWidths[(x + radius) * width + (y + radius)];
+                for (int z = -half; z <= half; z++) {
+                    visitor.visit(x, y, z);
+                }
+            }
+        }
+    }
+
+    public int shellSize() {
+        return shell().length;
+    }
+
+    public int shellX(int index) {
+        return shell()[index] >> 22;
+    }
+
+    public int shellZ(int index) {
+        return (shell()[index] << 10) >> 22;
+    }
+
+    public int shellY(int index) {
+        return (shell()[index] << 20) >> 20;
+    }
+
+    public int shellIndexOf(int x, int y, int z) {
+        if (x < -radius || x > radius || y < -radius || y > radius || z < -radius || z > radius) {
+            return -1;
+        }
+        int[] index = shellIndex;
+        if (index == null) {
+            int[] offsets = shell();
+            index = new int[width * width * width];
+            Arrays.fill(index, -1);
+            for (int i = 0; i < offsets.length; i++) {
+                index[cubeIndex(shellX(i), shellY(i), shellZ(i))] = i;
+            }
+            shellIndex = index;
+        }
+        return index[cubeIndex(x, y, z)];
+    }
+
+    private int cubeIndex(int x, int y, int z) {
+        return ((x + radius) * width + (y + radius)) * width + (z + radius);
+    }
+
+    private int[] shell() {
+        int[] offsets = shell;
+        if (offsets == null) {
+            offsets = buildShell();
+            shell = offsets;
+        }
+        return offsets;
+    }
+
+    // Blocks whose distance from the center lies within radius +/- 0.5.
+    private int[] buildShell() {
+        long radiusSquared = (long) radius * radius;
+        long outerSquared = radiusSquared + radius;
+        long innerSquared = radius == 0 ? -1 : radiusSquared - radius;
+        int[] offsets = new int[64];
+        int size = 0;
+        for (int x = -radius; x <= radius; x++) {
+            for (int y = -radius; y <= radius; y++) {
+                long rest = (long) x * x + (long) y * y;
+                int outer = halfWidth(outerSquared - rest);
+                int inner = halfWidth(innerSquared - rest);
+                for (int z = -outer; z <= outer; z++) {
+                    if (Math.abs(z) <= inner) {
+                        continue;
+                    }
+                    if (size == offsets.length) {
+                        offsets = Arrays.copyOf(offsets, size * 2);
+                    }
+                    offsets[size++] = ((x & 0x3FF) << 22) | ((z & 0x3FF) << 12) | (y & 0xFFF);
+                }
+            }
+        }
+        return Arrays.copyOf(offsets, size);
+    }
+
+    private static int halfWidth(long remaining) {
+        if (remaining < 0) {
+            return -1;
+        }
+        int half = (int) Math.sqrt(remaining);
+        while ((long) (half + 1) * (half + 1) <= remaining) {
+            half++;
+        }
+        while ((long) half * half > remaining) {
+            half--;
+        }
+        return half;
+    }
+
+    @FunctionalInterface
+    public interface BlockVisitor {
+        void visit(int x, int y, int z);
+    }
+}
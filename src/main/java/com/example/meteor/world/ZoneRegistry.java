@@ -0,0 +1,203 @@
+package com.example.meteor.world;
+
+import com.example.meteor.config.SettingsHolder;
+import com.example.meteor.data.ZoneRepository;
+import org.bukkit.Bukkit;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.plugin.Plugin;
+import org.bukkit.scheduler.BukkitRunnable;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Every active radiation zone, driven by a single once-per-second task. Zone progress is written
+ * back to its {@code meteor_zone} row periodically and on shutdown. Rows are deleted only when a
+ * zone is removed (stop, clear) or its world is gone.
+ */
+public class ZoneRegistry {
+    private static final int PROGRESS_SAVE_SECONDS = 30;
+
+    private final Plugin plugin;
+    private final SettingsHolder settings;
+    private final ZoneRepository repository;
+    private final PlayerSpatialIndex players;
+    private final EffectManager effects;
+    private final ParticleDispatcher particles;
+    private final Map<Integer, RadiationZone> zones = new LinkedHashMap<>();
+    private BukkitRunnable driver;
+    private int nextId = 1;
+    private int ticks = 0;
+
+    public ZoneRegistry(Plugin plugin, SettingsHolder settings, ZoneRepository repository, PlayerSpatialIndex players,
+                        EffectManager effects, ParticleDispatcher particles) {
+        this.plugin = plugin;
+        this.settings = settings;
+        this.repository = repository;
+        this.players = players;
+        this.effects = effects;
+        this.particles = particles;
+    }
+
+    public void start() {
+        stop();
+        driver = new BukkitRunnable() {
+            @Override
+            public void run() {
+                tick();
+            }
+        };
+        driver.runTaskTimer(plugin, 0L, 20L);
+        repository.loadActive().thenAccept(stored -> {
+            int heightmapAge = plugin.getConfig().getInt("meteor.heightmap.max-age-seconds", 30);
+            for (ZoneRepository.StoredZone row : stored) {
+                World world = Bukkit.getWorld(row.world());
+                if (world == null || hasRow(row.id())) {
+                    continue;
+                }
+                Location origin = new Location(world, row.x(), row.y(), row.z());
+                HeightmapCache heightmap = new HeightmapCache(world, heightmapAge);
+                RadiationZone zone = new RadiationZone(plugin, nextId++, origin, settings, heightmap, players, effects, particles,
+                    row.elapsedSeconds());
+                zone.attachRow(row.id());
+                add(zone);
+            }
+            if (!zones.isEmpty()) {
+                plugin.getLogger().info("Resumed " + zones.size() + " radiation zone(s)");
+            }
+        });
+    }
+
+    /**
+     * Starts ticking a new zone at the given impact site right away and persists it in the
+     * background. If the insert fails the zone still runs but will not survive a restart.
+     */
+    public void open(Location origin, HeightmapCache heightmap) {
+        World world = origin.getWorld();
+        if (world == null || driver == null) {
+            return;
+        }
+        Location site = origin.clone();
+        RadiationZone zone = new RadiationZone(plugin, nextId++, site, settings, heightmap, players, effects, particles, 0);
+        add(zone);
+        repository.insert(world.getName(), site.getX(), site.getY(), site.getZ(), System.currentTimeMillis())
+            .thenAccept(rowId -> {
+                if (zones.get(zone.getId()) == zone) {
+                    zone.attachRow(rowId);
+                } else {
+                    // Removed while the insert was in flight.
+                    repository.delete(rowId);
+                }
+            })
+            .exceptionally(e -> {
+                plugin.getLogger().warning("Failed to persist radiation zone: " + e.getMessage());
+                return null;
+            });
+    }
+
+    public void remove(int id) {
+        RadiationZone zone = zones.remove(id);
+        if (zone != null) {
+            retire(zone);
+        }
+    }
+
+    public void removeAll() {
+        for (Integer id : new ArrayList<>(zones.keySet())) {
+            remove(id);
+        }
+    }
+
+    /**
+     * Closest zone in the location's world, or null when that world has none.
+     */
+    public RadiationZone nearest(Location location) {
+        RadiationZone nearest = null;
+        double best = Double.MAX_VALUE;
+        for (RadiationZone zone : zones.values()) {
+            Location origin = zone.getOrigin();
+            if (origin.getWorld() == null || !origin.getWorld().equals(location.getWorld())) {
+                continue;
+            }
+            double distance = origin.distanceSquared(location);
+            if (distance < best) {
+                best = distance;
+                nearest = zone;
+            }
+        }
+        return nearest;
+    }
+
+    public List<RadiationZone> getZones() {
+        return List.copyOf(zones.values());
+    }
+
+    /**
+     * Stops ticking and saves progress; rows are kept so the zones resume on the next start.
+     */
+    public void stop() {
+        if (driver != null) {
+            driver.cancel();
+            driver = null;
+        }
+        saveProgress();
+        for (RadiationZone zone : zones.values()) {
+            zone.stop();
+        }
+        zones.clear();
+    }
+
+    private void add(RadiationZone zone) {
+        if (driver == null) {
+            return;
+        }
+        zones.put(zone.getId(), zone);
+        zone.start();
+    }
+
+    private void retire(RadiationZone zone) {
+        zone.stop();
+        if (zone.getRowId() >= 0) {
+            repository.delete(zone.getRowId());
+        }
+    }
+
+    private boolean hasRow(int rowId) {
+        for (RadiationZone zone : zones.values()) {
+            if (zone.getRowId() == rowId) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void tick() {
+        Iterator<RadiationZone> iterator = zones.values().iterator();
+        while (iterator.hasNext()) {
+            RadiationZone zone = iterator.next();
+            if (!zone.tick()) {
+                // The zone's world is gone.
+                iterator.remove();
+                retire(zone);
+            }
+        }
+        if (++ticks % PROGRESS_SAVE_SECONDS == 0) {
+            saveProgress();
+        }
+    }
+
+    private void saveProgress() {
+        Map<Integer, Integer> progress = new HashMap<>();
+        for (RadiationZone zone : zones.values()) {
+            if (zone.getRowId() >= 0) {
+                progress.put(zone.getRowId(), zone.getElapsedSeconds());
+            }
+        }
+        repository.saveProgress(progress);
+    }
+}